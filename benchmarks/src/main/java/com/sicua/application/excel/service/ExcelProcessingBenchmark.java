@@ -0,0 +1,75 @@
+package com.sicua.application.excel.service;
+
+import com.sicua.application.excel.dto.ExcelProductImportRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Time to import and export inventory spreadsheets of growing size.
+ * Run with {@code -prof gc} to see the allocation rate of each size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ExcelProcessingBenchmark {
+
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private ExcelProcessingService excelProcessingService;
+    private List<ExcelProductImportRequest> products;
+    private MockMultipartFile upload;
+    private Path workbookFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        excelProcessingService = new ExcelProcessingService();
+        products = IntStream.range(0, rows)
+                .mapToObj(i -> new ExcelProductImportRequest(
+                        "P" + i, "Producto " + i, new BigDecimal("19.90"), "M", "Negro", 1 + i % 20, "Categoria " + (1 + i % 20), i % 100, "Marca"))
+                .collect(Collectors.toList());
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        excelProcessingService.writeProductsToExcel(products, file);
+        upload = new MockMultipartFile("file", "inventario.xlsx", XLSX_CONTENT_TYPE, file.toByteArray());
+        workbookFile = Files.createTempFile("benchmark-", ".xlsx");
+        Files.write(workbookFile, file.toByteArray());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(workbookFile);
+    }
+
+    @Benchmark
+    public List<ExcelProductImportRequest> parseExcelFile() throws IOException {
+        return excelProcessingService.parseExcelFile(upload);
+    }
+
+    @Benchmark
+    public int readProducts(Blackhole blackhole) throws IOException {
+        return excelProcessingService.readProducts(workbookFile, (product, rowNumber) -> blackhole.consume(product));
+    }
+
+    @Benchmark
+    public int writeProductsToExcel() throws IOException {
+        return excelProcessingService.writeProductsToExcel(products, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,95 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.SicuaApplication;
+import com.sicua.application.auth.TenantContext;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * End-to-end sale creation, including stock checks and persistence, against H2 in PostgreSQL mode
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CreateSaleBenchmark {
+
+    private static final String STORE_ID = "store-benchmark";
+    private static final int PRODUCTS = 100;
+
+    @Param({"1", "10", "30"})
+    private int itemsPerSale;
+
+    private ConfigurableApplicationContext context;
+    private CreateSaleUseCase createSaleUseCase;
+    private CreateSaleRequest request;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(SicuaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=WARN")
+                .run();
+        createSaleUseCase = context.getBean(CreateSaleUseCase.class);
+
+        // Enough stock that no iteration runs out
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        for (int i = 0; i < PRODUCTS; i++) {
+            productRepository.save(new Product(ProductId.of("BENCH-" + i), STORE_ID, "Producto " + i,
+                    null, null, null, new BigDecimal("19.90"), Integer.MAX_VALUE));
+        }
+
+        List<SaleItemRequest> items = IntStream.range(0, itemsPerSale)
+                .mapToObj(i -> new SaleItemRequest("BENCH-" + i, "Producto " + i, new BigDecimal("19.90"), 1))
+                .collect(Collectors.toList());
+        request = new CreateSaleRequest(null, "Cliente", items);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Tenant {
+
+        @Setup(Level.Trial)
+        public void bind() {
+            TenantContext.setStoreId(STORE_ID);
+        }
+
+        @TearDown(Level.Trial)
+        public void unbind() {
+            TenantContext.clear();
+        }
+    }
+
+    @Benchmark
+    public SaleResponse createSale(Tenant tenant) {
+        return createSaleUseCase.execute(request);
+    }
+}
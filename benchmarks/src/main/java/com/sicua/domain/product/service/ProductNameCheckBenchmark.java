@@ -0,0 +1,124 @@
+package com.sicua.domain.product.service;
+
+import com.sicua.SicuaApplication;
+import com.sicua.application.auth.TenantContext;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate product name check as the catalogue grows.
+ * {@code indexedLookup} is the current check; {@code catalogueScan} is the previous implementation,
+ * which loaded every product of the store and compared names in memory.
+ * <p>
+ * Runs on H2 in PostgreSQL mode by default. H2 cannot index lower(name), so there the lookup still
+ * filters the store's rows, only without loading them. Pass {@code -Dbenchmark.datasource.url},
+ * {@code .username} and {@code .password} pointing at a scratch PostgreSQL database (its tables are
+ * dropped afterwards) to measure it with the (store_id, lower(name)) index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductNameCheckBenchmark {
+
+    private static final String STORE_ID = "store-benchmark";
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final String H2_URL =
+            "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    @Param({"1000", "10000", "50000"})
+    private int catalogueSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductDomainService productDomainService;
+    private ProductRepository productRepository;
+    private String missingName;
+    private ProductId excludedProductId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        String url = System.getProperty("benchmark.datasource.url", H2_URL);
+        boolean postgres = url.startsWith("jdbc:postgresql:");
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=" + url,
+                "spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "sa"),
+                "spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""),
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.sql.init.mode=never",
+                "logging.level.root=WARN"));
+        if (!postgres) {
+            properties.add("spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        }
+        context = new SpringApplicationBuilder(SicuaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run();
+        productDomainService = context.getBean(ProductDomainService.class);
+        productRepository = context.getBean(ProductRepository.class);
+
+        // The entities only declare plain indexes, add the functional one from the V10 migration
+        if (postgres) {
+            context.getBean(JdbcTemplate.class).execute(
+                    "CREATE INDEX IF NOT EXISTS idx_product_store_lower_name ON products(store_id, lower(name))");
+        }
+
+        List<Product> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < catalogueSize; i++) {
+            batch.add(new Product(ProductId.of("BENCH-" + i), STORE_ID, "Producto " + i,
+                    null, null, null, new BigDecimal("19.90"), 10));
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                productRepository.insertAll(batch);
+                batch.clear();
+            }
+        }
+        productRepository.insertAll(batch);
+
+        // A name that is not taken forces the old implementation through the whole catalogue
+        missingName = "producto nuevo";
+        excludedProductId = ProductId.of("BENCH-0");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Tenant {
+
+        @Setup(Level.Trial)
+        public void bind() {
+            TenantContext.setStoreId(STORE_ID);
+        }
+
+        @TearDown(Level.Trial)
+        public void unbind() {
+            TenantContext.clear();
+        }
+    }
+
+    @Benchmark
+    public boolean indexedLookup(Tenant tenant) {
+        return productDomainService.isProductNameExists(missingName, excludedProductId);
+    }
+
+    @Benchmark
+    public boolean catalogueScan(Tenant tenant) {
+        return productRepository.findAllByStoreId(STORE_ID).stream()
+                .filter(product -> !product.getProductId().equals(excludedProductId))
+                .anyMatch(product -> product.getName().equalsIgnoreCase(missingName));
+    }
+}
@@ -0,0 +1,49 @@
+package com.sicua.domain.sale.entity;
+
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.valueobject.SaleId;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of computing a sale total, either for the whole ticket at once or item by item
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaleTotalBenchmark {
+
+    @Param({"1", "30", "200"})
+    private int itemsPerSale;
+
+    private List<SaleItem> items;
+
+    @Setup
+    public void setUp() {
+        items = IntStream.range(0, itemsPerSale)
+                .mapToObj(i -> new SaleItem(ProductId.of("P" + i), "Producto " + i, new BigDecimal("19.90"), 1 + i % 5))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public BigDecimal createSale() {
+        return new Sale(SaleId.generate(), "store-1", null, null, items).getTotal();
+    }
+
+    @Benchmark
+    public BigDecimal addItems() {
+        Sale sale = new Sale(SaleId.generate(), "store-1", null, null, items.subList(0, 1));
+        for (int i = 1; i < items.size(); i++) {
+            sale.addItem(items.get(i));
+        }
+        return sale.getTotal();
+    }
+}
@@ -0,0 +1,151 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sale ID column type: VARCHAR(36) (before V14) against native uuid.
+ * Each trial seeds a copy of sales / sale_items with the sale keys of one type and the same indexes
+ * as the entities, then measures the two joins the sale listings run: the items of one day of sales
+ * through (store_id, created_at, id), and the items of a page of sale IDs as loaded by the repository.
+ * <p>
+ * Runs on H2 in PostgreSQL mode by default. Pass {@code -Dbenchmark.datasource.url}, {@code .username}
+ * and {@code .password} pointing at a scratch PostgreSQL database (the bench_ tables are dropped afterwards)
+ * to measure it there; the size of every index is then printed after seeding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaleIdColumnBenchmark {
+
+    private static final String STORE_ID = "store-benchmark";
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final int SALES_PER_DAY = 1_000;
+    private static final int PAGE_SIZE = 100;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 8, 0);
+    private static final String H2_URL =
+            "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String ITEMS_OF_DAY_SQL =
+            "SELECT COUNT(*) FROM bench_sales s JOIN bench_sale_items i ON i.sale_id = s.id " +
+            "WHERE s.store_id = ? AND s.created_at >= ? AND s.created_at < ?";
+
+    @Param({"100000", "1000000"})
+    private int saleCount;
+
+    @Param({"varchar", "uuid"})
+    private String keyType;
+
+    private JdbcTemplate jdbcTemplate;
+    private List<String> saleIds;
+    private String itemsByIdsSql;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        String url = System.getProperty("benchmark.datasource.url", H2_URL);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                System.getProperty("benchmark.datasource.username", "sa"),
+                System.getProperty("benchmark.datasource.password", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        String columnType = isUuid() ? "UUID" : "VARCHAR(36)";
+        dropTables();
+        jdbcTemplate.execute("CREATE TABLE bench_sales (id " + columnType + " PRIMARY KEY, " +
+                "store_id VARCHAR(36) NOT NULL, created_at TIMESTAMP NOT NULL, total DECIMAL(10,2) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE bench_sale_items (id BIGINT PRIMARY KEY, " +
+                "sale_id " + columnType + " NOT NULL REFERENCES bench_sales(id), " +
+                "product_id VARCHAR(36) NOT NULL, quantity INTEGER NOT NULL)");
+
+        saleIds = new ArrayList<>(saleCount);
+        List<Object[]> sales = new ArrayList<>(INSERT_BATCH_SIZE);
+        List<Object[]> items = new ArrayList<>(INSERT_BATCH_SIZE * 2);
+        long itemId = 0;
+        for (int i = 0; i < saleCount; i++) {
+            String saleId = UUID.randomUUID().toString();
+            saleIds.add(saleId);
+            Timestamp createdAt = Timestamp.valueOf(START.plusSeconds(i * 86_400L / SALES_PER_DAY));
+            sales.add(new Object[]{bind(saleId), STORE_ID, createdAt, new BigDecimal("30.00")});
+            items.add(new Object[]{++itemId, bind(saleId), "P-1", 1});
+            items.add(new Object[]{++itemId, bind(saleId), "P-2", 2});
+            if (sales.size() == INSERT_BATCH_SIZE) {
+                insert(sales, items);
+            }
+        }
+        insert(sales, items);
+
+        // Indexes are built after the load, as a migration would on an existing table
+        jdbcTemplate.execute("CREATE INDEX idx_bench_sale_store_created_at ON bench_sales(store_id, created_at, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_bench_sale_item_sale_id ON bench_sale_items(sale_id)");
+        if (url.startsWith("jdbc:postgresql:")) {
+            jdbcTemplate.execute("ANALYZE bench_sales");
+            jdbcTemplate.execute("ANALYZE bench_sale_items");
+            printIndexSizes();
+        }
+
+        itemsByIdsSql = "SELECT COUNT(*) FROM bench_sale_items WHERE sale_id IN (" +
+                String.join(", ", Collections.nCopies(PAGE_SIZE, "?")) + ")";
+    }
+
+    @TearDown(Level.Trial)
+    public void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_sale_items");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_sales");
+    }
+
+    @Benchmark
+    public Integer itemsOfDay() {
+        int days = Math.max(1, saleCount / SALES_PER_DAY);
+        LocalDateTime from = START.plusDays(ThreadLocalRandom.current().nextInt(days));
+        return jdbcTemplate.queryForObject(ITEMS_OF_DAY_SQL, Integer.class,
+                STORE_ID, Timestamp.valueOf(from), Timestamp.valueOf(from.plusDays(1)));
+    }
+
+    @Benchmark
+    public Integer itemsOfSalePage() {
+        // Random IDs, the way a page of sales spreads over the sale_id index
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Object[] args = new Object[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            args[i] = bind(saleIds.get(random.nextInt(saleIds.size())));
+        }
+        return jdbcTemplate.queryForObject(itemsByIdsSql, Integer.class, args);
+    }
+
+    private boolean isUuid() {
+        return "uuid".equals(keyType);
+    }
+
+    private Object bind(String saleId) {
+        return isUuid() ? UUID.fromString(saleId) : saleId;
+    }
+
+    private void insert(List<Object[]> sales, List<Object[]> items) {
+        jdbcTemplate.batchUpdate("INSERT INTO bench_sales (id, store_id, created_at, total) VALUES (?, ?, ?, ?)", sales);
+        jdbcTemplate.batchUpdate("INSERT INTO bench_sale_items (id, sale_id, product_id, quantity) VALUES (?, ?, ?, ?)", items);
+        sales.clear();
+        items.clear();
+    }
+
+    private void printIndexSizes() {
+        jdbcTemplate.query("SELECT c.relname, pg_size_pretty(pg_relation_size(c.oid)) AS size FROM pg_index x " +
+                        "JOIN pg_class c ON c.oid = x.indexrelid " +
+                        "WHERE x.indrelid IN ('bench_sales'::regclass, 'bench_sale_items'::regclass) ORDER BY c.relname",
+                rs -> {
+                    System.out.printf("%s index %s: %s%n", keyType, rs.getString("relname"), rs.getString("size"));
+                });
+    }
+}
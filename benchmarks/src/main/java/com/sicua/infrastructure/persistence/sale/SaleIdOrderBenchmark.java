@@ -0,0 +1,139 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import com.sicua.domain.sale.valueobject.SaleId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sale ID generation: random version 4 UUIDs (before) against the time-ordered version 7 IDs of
+ * {@link SaleId#generate()}. Each trial seeds millions of sales and their items in creation order with the
+ * indexes already in place, the way the tables grow in production, then measures appending a till's batch of
+ * sales and reading the latest sales with their items in createdAt order.
+ * <p>
+ * Runs on H2 in PostgreSQL mode by default. Pass {@code -Dbenchmark.datasource.url}, {@code .username}
+ * and {@code .password} pointing at a scratch PostgreSQL database (the bench_ tables are dropped afterwards)
+ * to measure it there; the size of every index is then printed after seeding, random keys leave half-full
+ * pages behind every split.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaleIdOrderBenchmark {
+
+    private static final String STORE_ID = "store-benchmark";
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final int SALES_PER_BATCH = 50;
+    private static final int PAGE_SIZE = 100;
+    private static final String H2_URL =
+            "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String INSERT_SALE_SQL =
+            "INSERT INTO bench_sales (id, store_id, created_at, total) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO bench_sale_items (id, sale_id, product_id, quantity) VALUES (?, ?, ?, ?)";
+
+    private static final String LATEST_SALES_SQL =
+            "SELECT id FROM bench_sales WHERE store_id = ? ORDER BY created_at DESC, id DESC LIMIT " + PAGE_SIZE;
+
+    @Param({"2000000", "5000000"})
+    private int saleCount;
+
+    @Param({"random", "timeOrdered"})
+    private String idType;
+
+    private JdbcTemplate jdbcTemplate;
+    private String itemsByIdsSql;
+    private LocalDateTime clock;
+    private long nextItemId;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        String url = System.getProperty("benchmark.datasource.url", H2_URL);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                System.getProperty("benchmark.datasource.username", "sa"),
+                System.getProperty("benchmark.datasource.password", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        dropTables();
+        jdbcTemplate.execute("CREATE TABLE bench_sales (id UUID PRIMARY KEY, " +
+                "store_id VARCHAR(36) NOT NULL, created_at TIMESTAMP NOT NULL, total DECIMAL(10,2) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE bench_sale_items (id BIGINT PRIMARY KEY, " +
+                "sale_id UUID NOT NULL REFERENCES bench_sales(id), product_id VARCHAR(36) NOT NULL, quantity INTEGER NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_bench_sale_store_created_at ON bench_sales(store_id, created_at, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_bench_sale_item_sale_id ON bench_sale_items(sale_id)");
+
+        clock = LocalDateTime.of(2024, 1, 1, 8, 0);
+        nextItemId = 0;
+        for (int seeded = 0; seeded < saleCount; seeded += INSERT_BATCH_SIZE) {
+            insertSales(Math.min(INSERT_BATCH_SIZE, saleCount - seeded));
+        }
+
+        if (url.startsWith("jdbc:postgresql:")) {
+            jdbcTemplate.execute("ANALYZE bench_sales");
+            jdbcTemplate.execute("ANALYZE bench_sale_items");
+            printIndexSizes();
+        }
+
+        itemsByIdsSql = "SELECT COUNT(*) FROM bench_sale_items WHERE sale_id IN (" +
+                String.join(", ", Collections.nCopies(PAGE_SIZE, "?")) + ")";
+    }
+
+    @TearDown(Level.Trial)
+    public void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_sale_items");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_sales");
+    }
+
+    @Benchmark
+    public void appendSales() {
+        insertSales(SALES_PER_BATCH);
+    }
+
+    @Benchmark
+    public Integer latestSalesWithItems() {
+        // The two statements of a sales page: the sales in createdAt order, then their items by sale ID
+        Object[] saleIds = jdbcTemplate.queryForList(LATEST_SALES_SQL, Object.class, STORE_ID).toArray();
+        return jdbcTemplate.queryForObject(itemsByIdsSql, Integer.class, saleIds);
+    }
+
+    private UUID nextSaleId() {
+        return "timeOrdered".equals(idType) ? UUID.fromString(SaleId.generate().getValue()) : UUID.randomUUID();
+    }
+
+    private void insertSales(int count) {
+        List<Object[]> sales = new ArrayList<>(count);
+        List<Object[]> items = new ArrayList<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            UUID saleId = nextSaleId();
+            clock = clock.plusSeconds(1);
+            sales.add(new Object[]{saleId, STORE_ID, Timestamp.valueOf(clock), new BigDecimal("30.00")});
+            items.add(new Object[]{++nextItemId, saleId, "P-1", 1});
+            items.add(new Object[]{++nextItemId, saleId, "P-2", 2});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SALE_SQL, sales);
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items);
+    }
+
+    private void printIndexSizes() {
+        jdbcTemplate.query("SELECT c.relname, pg_size_pretty(pg_relation_size(c.oid)) AS size FROM pg_index x " +
+                        "JOIN pg_class c ON c.oid = x.indexrelid " +
+                        "WHERE x.indrelid IN ('bench_sales'::regclass, 'bench_sale_items'::regclass) ORDER BY c.relname",
+                rs -> {
+                    System.out.printf("%s index %s: %s%n", idType, rs.getString("relname"), rs.getString("size"));
+                });
+    }
+}
@@ -0,0 +1,54 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.entity.SaleItem;
+import com.sicua.domain.sale.valueobject.SaleId;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of mapping sales between the domain model and JPA entities, per sale
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaleMappingBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemsPerSale;
+
+    private SaleRepositoryImpl repository;
+    private Sale sale;
+    private SaleEntity entity;
+
+    @Setup
+    public void setUp() {
+        // Mapping does not touch the JPA repositories
+        repository = new SaleRepositoryImpl(null, null, null);
+
+        List<SaleItem> items = IntStream.range(0, itemsPerSale)
+                .mapToObj(i -> new SaleItem(ProductId.of("P" + i), "Producto " + i, new BigDecimal("19.90"), 2))
+                .collect(Collectors.toList());
+        sale = new Sale(SaleId.generate(), "store-1", "12345678", "Cliente", items);
+        entity = repository.toEntity(sale);
+    }
+
+    @Benchmark
+    public SaleEntity toEntity() {
+        return repository.toEntity(sale);
+    }
+
+    @Benchmark
+    public Sale toDomain() {
+        return repository.toDomain(entity);
+    }
+}
@@ -8,29 +8,36 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
- * Simple service to get current store ID from session
+ * Simple service to get current store ID from session.
+ * Reads the store resolved for the current request from {@link TenantContext} and only falls back to the
+ * HTTP session when nothing is bound, e.g. right after login within the same request.
  */
 @Service
 public class SessionService {
     
     private static final Logger logger = LoggerFactory.getLogger(SessionService.class);
-    private static final String SESSION_STORE_ID = "storeId";
+    public static final String SESSION_STORE_ID = "storeId";
     
     public String getCurrentStoreId() {
+        String tenantStoreId = TenantContext.getStoreId();
+        if (tenantStoreId != null) {
+            return tenantStoreId;
+        }
+        
         ServletRequestAttributes attr = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
         HttpSession session = attr.getRequest().getSession(false);
         
-        logger.info("Checking session for current store ID");
-        logger.info("Session exists: {}", session != null);
+        logger.debug("Checking session for current store ID");
+        logger.debug("Session exists: {}", session != null);
         
         if (session == null) {
             logger.error("No active session found");
             throw new IllegalStateException("No active session");
         }
         
-        logger.info("Session ID: {}", session.getId());
+        logger.debug("Session ID: {}", session.getId());
         String storeId = (String) session.getAttribute(SESSION_STORE_ID);
-        logger.info("Store ID from session: {}", storeId);
+        logger.debug("Store ID from session: {}", storeId);
         
         if (storeId == null) {
             logger.error("User not authenticated - no store ID in session");
@@ -0,0 +1,28 @@
+package com.sicua.application.auth;
+
+/**
+ * Holds the store ID of the current request for the thread that handles it.
+ * Set once per request by the tenant filter so use cases don't go back to the HTTP session on every call.
+ */
+public final class TenantContext {
+    
+    private static final ThreadLocal<String> CURRENT_STORE_ID = new ThreadLocal<>();
+    
+    private TenantContext() {
+    }
+    
+    /**
+     * @return the store ID bound to the current thread, or null if none is bound
+     */
+    public static String getStoreId() {
+        return CURRENT_STORE_ID.get();
+    }
+    
+    public static void setStoreId(String storeId) {
+        CURRENT_STORE_ID.set(storeId);
+    }
+    
+    public static void clear() {
+        CURRENT_STORE_ID.remove();
+    }
+}
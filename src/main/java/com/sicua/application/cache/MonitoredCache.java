@@ -0,0 +1,22 @@
+package com.sicua.application.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * An in-memory cache whose statistics are reported through {@link TenantCacheRegistry}
+ */
+public interface MonitoredCache {
+
+    String getName();
+
+    boolean isEnabled();
+
+    CacheStats stats();
+
+    long estimatedSize();
+
+    /**
+     * @return number of entries dropped because the data behind them was written
+     */
+    long invalidationCount();
+}
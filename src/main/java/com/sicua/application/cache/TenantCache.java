@@ -0,0 +1,113 @@
+package com.sicua.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * In-memory cache with one entry per store, so one tenant's writes only ever invalidate that tenant's data.
+ * A store written in the current transaction is evicted right away and again once the transaction completes,
+ * and is read from the database until then, so other requests never cache uncommitted or rolled back data.
+ *
+ * @param <V> cached value, callers must not hand out the cached instance when it is mutable
+ */
+public class TenantCache<V> implements MonitoredCache {
+
+    private final String name;
+    private final Cache<String, V> cache;
+    private final LongAdder invalidations = new LongAdder();
+
+    TenantCache(String name, long ttlSeconds, long maxStores) {
+        this.name = name;
+        // A TTL of zero disables the cache
+        this.cache = ttlSeconds > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .maximumSize(maxStores)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * Returns the store's cached value, loading it on a miss. A null value from the loader is not cached.
+     */
+    public V get(String storeId, Function<String, V> loader) {
+        if (cache == null || isWrittenInCurrentTransaction(storeId)) {
+            return loader.apply(storeId);
+        }
+        return cache.get(storeId, loader);
+    }
+
+    /**
+     * Drops the store's entry now and, inside a transaction, once more after it commits or rolls back.
+     */
+    public void evict(String storeId) {
+        if (cache == null) {
+            return;
+        }
+        invalidate(storeId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> written = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (written == null) {
+            Set<String> storeIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, storeIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TenantCache.this);
+                    storeIds.forEach(TenantCache.this::invalidate);
+                }
+            });
+            written = storeIds;
+        }
+        written.add(storeId);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    @Override
+    public long estimatedSize() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+
+    @Override
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private void invalidate(String storeId) {
+        cache.invalidate(storeId);
+        invalidations.increment();
+    }
+
+    private boolean isWrittenInCurrentTransaction(String storeId) {
+        Object written = TransactionSynchronizationManager.getResource(this);
+        return written instanceof Set<?> storeIds && storeIds.contains(storeId);
+    }
+}
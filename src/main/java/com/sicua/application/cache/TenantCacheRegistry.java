@@ -0,0 +1,30 @@
+package com.sicua.application.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates the {@link TenantCache}s and keeps track of every {@link MonitoredCache} so their statistics can be reported
+ */
+@Component
+public class TenantCacheRegistry {
+
+    private final List<MonitoredCache> caches = new CopyOnWriteArrayList<>();
+
+    public <V> TenantCache<V> create(String name, long ttlSeconds, long maxStores) {
+        TenantCache<V> cache = new TenantCache<>(name, ttlSeconds, maxStores);
+        caches.add(cache);
+        return cache;
+    }
+
+    public void register(MonitoredCache cache) {
+        caches.add(cache);
+    }
+
+    public List<MonitoredCache> getCaches() {
+        return new ArrayList<>(caches);
+    }
+}
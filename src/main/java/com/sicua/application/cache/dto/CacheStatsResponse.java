@@ -0,0 +1,110 @@
+package com.sicua.application.cache.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estadísticas de una caché en memoria")
+public class CacheStatsResponse {
+    
+    @Schema(description = "Nombre de la caché", example = "categories")
+    private String name;
+    
+    @Schema(description = "Indica si la caché está activa", example = "true")
+    private boolean enabled;
+    
+    @Schema(description = "Tiendas con datos en caché", example = "12")
+    private long size;
+    
+    @Schema(description = "Lecturas servidas desde la caché", example = "950")
+    private long hitCount;
+    
+    @Schema(description = "Lecturas que consultaron la base de datos", example = "50")
+    private long missCount;
+    
+    @Schema(description = "Proporción de lecturas servidas desde la caché", example = "0.95")
+    private double hitRate;
+    
+    @Schema(description = "Entradas descartadas por tamaño o expiración", example = "3")
+    private long evictionCount;
+    
+    @Schema(description = "Entradas invalidadas por escrituras", example = "8")
+    private long invalidationCount;
+
+    public CacheStatsResponse() {}
+
+    public CacheStatsResponse(String name, boolean enabled, long size, long hitCount, long missCount,
+                              double hitRate, long evictionCount, long invalidationCount) {
+        this.name = name;
+        this.enabled = enabled;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public void setInvalidationCount(long invalidationCount) {
+        this.invalidationCount = invalidationCount;
+    }
+}
@@ -0,0 +1,49 @@
+package com.sicua.application.cache.usecase;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sicua.application.cache.MonitoredCache;
+import com.sicua.application.cache.TenantCacheRegistry;
+import com.sicua.application.cache.dto.CacheStatsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for the hit and miss statistics of the in-memory caches
+ */
+@Service
+public class GetCacheStatsUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GetCacheStatsUseCase.class);
+    
+    private final TenantCacheRegistry tenantCacheRegistry;
+    
+    public GetCacheStatsUseCase(TenantCacheRegistry tenantCacheRegistry) {
+        this.tenantCacheRegistry = tenantCacheRegistry;
+    }
+    
+    public List<CacheStatsResponse> execute() {
+        logger.debug("Retrieving cache statistics");
+        
+        return tenantCacheRegistry.getCaches().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+    
+    private CacheStatsResponse mapToResponse(MonitoredCache cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+                cache.getName(),
+                cache.isEnabled(),
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                cache.invalidationCount()
+        );
+    }
+}
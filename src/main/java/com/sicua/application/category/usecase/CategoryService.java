@@ -10,8 +10,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,6 +50,45 @@ public class CategoryService {
         return toResponse(savedCategory);
     }
 
+    /**
+     * Create several categories with a single query for the store's categories and one batched insert.
+     * Applies the same number and name checks as {@link #createCategory}, also between the new categories.
+     */
+    public List<CategoryResponse> createCategories(String storeId, List<CreateCategoryRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        List<Category> existingCategories = categoryRepository.findByStoreId(storeId);
+        Set<Integer> takenNumbers = existingCategories.stream()
+                .map(Category::getCategoryNumber)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> takenNames = existingCategories.stream()
+                .map(Category::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<Category> categories = new ArrayList<>();
+        for (CreateCategoryRequest request : requests) {
+            if (!takenNumbers.add(request.getCategoryNumber())) {
+                throw new IllegalArgumentException("Category number " + request.getCategoryNumber() + " already exists for this store");
+            }
+            if (!takenNames.add(request.getName())) {
+                throw new IllegalArgumentException("Category name '" + request.getName() + "' already exists for this store");
+            }
+            categories.add(new Category(
+                    CategoryId.generate(),
+                    storeId,
+                    request.getName(),
+                    request.getCategoryNumber()
+            ));
+        }
+
+        categoryRepository.insertAll(categories);
+        return categories.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
     public CategoryResponse updateCategory(String storeId, String categoryId, UpdateCategoryRequest request) {
         CategoryId id = CategoryId.of(categoryId);
         
@@ -0,0 +1,150 @@
+package com.sicua.application.excel.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Estado y progreso de una importación de productos desde Excel")
+public class ExcelImportJobResponse {
+    
+    @Schema(description = "ID del trabajo de importación", example = "3f2b9c1e-8d4a-4c7e-9a51-0b6f2e7d1c3a")
+    private String jobId;
+    
+    @Schema(description = "Estado del trabajo", example = "IMPORTING")
+    private ExcelImportJobStatus status;
+    
+    @Schema(description = "Nombre del archivo importado", example = "productos.xlsx")
+    private String fileName;
+    
+    @Schema(description = "Filas de productos encontradas en el archivo", example = "5000")
+    private int totalRows;
+    
+    @Schema(description = "Filas validadas hasta el momento", example = "5000")
+    private int validatedRows;
+    
+    @Schema(description = "Productos importados hasta el momento", example = "1500")
+    private int importedProducts;
+    
+    @Schema(description = "Categorías creadas hasta el momento", example = "2")
+    private int categoriesCreated;
+    
+    @Schema(description = "Errores por fila o motivo del fallo")
+    private List<String> errors;
+    
+    @Schema(description = "Resultado final, disponible cuando el trabajo termina")
+    private ExcelImportResponse result;
+    
+    @Schema(description = "Fecha y hora de creación del trabajo", example = "2025-01-26T14:30:00")
+    private LocalDateTime createdAt;
+    
+    @Schema(description = "Fecha y hora de finalización del trabajo", example = "2025-01-26T14:31:10")
+    private LocalDateTime finishedAt;
+
+    public ExcelImportJobResponse() {}
+
+    public ExcelImportJobResponse(String jobId, ExcelImportJobStatus status, String fileName, int totalRows,
+                                 int validatedRows, int importedProducts, int categoriesCreated, List<String> errors,
+                                 ExcelImportResponse result, LocalDateTime createdAt, LocalDateTime finishedAt) {
+        this.jobId = jobId;
+        this.status = status;
+        this.fileName = fileName;
+        this.totalRows = totalRows;
+        this.validatedRows = validatedRows;
+        this.importedProducts = importedProducts;
+        this.categoriesCreated = categoriesCreated;
+        this.errors = errors;
+        this.result = result;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public ExcelImportJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ExcelImportJobStatus status) {
+        this.status = status;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getValidatedRows() {
+        return validatedRows;
+    }
+
+    public void setValidatedRows(int validatedRows) {
+        this.validatedRows = validatedRows;
+    }
+
+    public int getImportedProducts() {
+        return importedProducts;
+    }
+
+    public void setImportedProducts(int importedProducts) {
+        this.importedProducts = importedProducts;
+    }
+
+    public int getCategoriesCreated() {
+        return categoriesCreated;
+    }
+
+    public void setCategoriesCreated(int categoriesCreated) {
+        this.categoriesCreated = categoriesCreated;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    public ExcelImportResponse getResult() {
+        return result;
+    }
+
+    public void setResult(ExcelImportResponse result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
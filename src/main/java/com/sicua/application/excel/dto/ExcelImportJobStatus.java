@@ -0,0 +1,19 @@
+package com.sicua.application.excel.dto;
+
+/**
+ * Lifecycle of an asynchronous Excel import job
+ */
+public enum ExcelImportJobStatus {
+    /** Waiting for a free import worker */
+    PENDING,
+    /** Reading the file and validating every row */
+    VALIDATING,
+    /** Every row is valid, products are being inserted */
+    IMPORTING,
+    /** All products were imported */
+    COMPLETED,
+    /** Validation found errors, nothing was imported */
+    REJECTED,
+    /** An unexpected error stopped the import, batches committed before it are kept */
+    FAILED
+}
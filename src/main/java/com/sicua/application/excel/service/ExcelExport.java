@@ -0,0 +1,18 @@
+package com.sicua.application.excel.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An Excel export that is generated while it is written to the client.
+ * The store and filters are resolved when the export is created, rows are read when {@link #writeTo} runs.
+ */
+@FunctionalInterface
+public interface ExcelExport {
+
+    /**
+     * Write the Excel file to the given output stream
+     * @param outputStream the destination stream, not closed by this method
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
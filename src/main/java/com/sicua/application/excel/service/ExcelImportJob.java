@@ -0,0 +1,99 @@
+package com.sicua.application.excel.service;
+
+import com.sicua.application.excel.dto.ExcelImportJobResponse;
+import com.sicua.application.excel.dto.ExcelImportJobStatus;
+import com.sicua.application.excel.dto.ExcelImportResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * State of one asynchronous product import.
+ * Written by the import worker and read by polling requests, so every field is volatile.
+ */
+public class ExcelImportJob implements ExcelImportProgress {
+    
+    private final String jobId;
+    private final String storeId;
+    private final String fileName;
+    private final LocalDateTime createdAt;
+    
+    private volatile ExcelImportJobStatus status = ExcelImportJobStatus.PENDING;
+    private volatile int totalRows;
+    private volatile int validatedRows;
+    private volatile int importedProducts;
+    private volatile int categoriesCreated;
+    private volatile List<String> errors = List.of();
+    private volatile ExcelImportResponse result;
+    private volatile LocalDateTime finishedAt;
+    
+    public ExcelImportJob(String storeId, String fileName) {
+        this.jobId = UUID.randomUUID().toString();
+        this.storeId = storeId;
+        this.fileName = fileName;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    @Override
+    public void validationStarted(int totalRows) {
+        this.totalRows = totalRows;
+        this.status = ExcelImportJobStatus.VALIDATING;
+    }
+    
+    @Override
+    public void rowsValidated(int validatedRows) {
+        this.validatedRows = validatedRows;
+    }
+    
+    @Override
+    public void importStarted() {
+        this.status = ExcelImportJobStatus.IMPORTING;
+    }
+    
+    @Override
+    public void batchImported(int importedProducts, int categoriesCreated) {
+        this.importedProducts = importedProducts;
+        this.categoriesCreated = categoriesCreated;
+    }
+    
+    /**
+     * Record the outcome of an import that ran to the end
+     */
+    public void finish(ExcelImportResponse result) {
+        this.result = result;
+        this.errors = List.copyOf(result.getErrors());
+        this.finishedAt = LocalDateTime.now();
+        this.status = result.getErrors().isEmpty() ? ExcelImportJobStatus.COMPLETED : ExcelImportJobStatus.REJECTED;
+    }
+    
+    /**
+     * Record an import stopped by an unexpected error
+     */
+    public void fail(String message) {
+        this.errors = List.of(message);
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExcelImportJobStatus.FAILED;
+    }
+    
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+    
+    public ExcelImportJobResponse toResponse() {
+        return new ExcelImportJobResponse(jobId, status, fileName, totalRows, validatedRows,
+                importedProducts, categoriesCreated, errors, result, createdAt, finishedAt);
+    }
+    
+    public String getJobId() {
+        return jobId;
+    }
+    
+    public String getStoreId() {
+        return storeId;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
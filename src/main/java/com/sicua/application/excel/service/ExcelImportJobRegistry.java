@@ -0,0 +1,46 @@
+package com.sicua.application.excel.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of asynchronous import jobs.
+ * Finished jobs are kept for the configured retention so clients can fetch the result, then dropped.
+ */
+@Component
+public class ExcelImportJobRegistry {
+    
+    private final Map<String, ExcelImportJob> jobs = new ConcurrentHashMap<>();
+    private final Duration retention;
+    
+    public ExcelImportJobRegistry(@Value("${sicua.excel.import.job-retention-minutes:60}") long retentionMinutes) {
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+    
+    public ExcelImportJob create(String storeId, String fileName) {
+        removeExpired();
+        ExcelImportJob job = new ExcelImportJob(storeId, fileName);
+        jobs.put(job.getJobId(), job);
+        return job;
+    }
+    
+    public Optional<ExcelImportJob> findById(String jobId) {
+        removeExpired();
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+    
+    public void remove(String jobId) {
+        jobs.remove(jobId);
+    }
+    
+    private void removeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
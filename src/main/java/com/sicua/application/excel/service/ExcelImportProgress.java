@@ -0,0 +1,36 @@
+package com.sicua.application.excel.service;
+
+/**
+ * Receives progress updates from a running product import.
+ * Counts are running totals, so a listener only has to keep the latest value.
+ */
+public interface ExcelImportProgress {
+
+    /**
+     * Listener for imports nobody is watching
+     */
+    ExcelImportProgress NONE = new ExcelImportProgress() {};
+
+    /**
+     * The file has been read once and validation of its rows is starting
+     * @param totalRows number of product rows in the file
+     */
+    default void validationStarted(int totalRows) {}
+
+    /**
+     * @param validatedRows rows validated so far
+     */
+    default void rowsValidated(int validatedRows) {}
+
+    /**
+     * Every row is valid and products are being inserted
+     */
+    default void importStarted() {}
+
+    /**
+     * A batch of products has been written
+     * @param importedProducts products written so far
+     * @param categoriesCreated categories written so far
+     */
+    default void batchImported(int importedProducts, int categoriesCreated) {}
+}
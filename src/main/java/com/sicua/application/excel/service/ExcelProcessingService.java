@@ -2,20 +2,42 @@ package com.sicua.application.excel.service;
 
 import com.sicua.application.excel.dto.ExcelProductImportRequest;
 import com.sicua.application.sale.dto.SaleResponse;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import javax.xml.parsers.ParserConfigurationException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Service for Excel file processing - reading and writing
@@ -42,40 +64,74 @@ public class ExcelProcessingService {
         "Categoria_Numero", "Categoria_Nombre", "Stock", "Marca"
     };
     
+    // Fixed column widths (in characters) for streamed exports, autoSizeColumn needs every row in memory
+    private static final int[] PRODUCT_COLUMN_WIDTHS = {20, 40, 12, 12, 15, 18, 25, 10, 20};
+    
+    private static final String[] SALES_HEADERS = {
+        "ID Venta", "Cliente", "DNI", "Fecha", "Total", "Estado", 
+        "Items", "Productos Vendidos"
+    };
+    
+    private static final int[] SALES_COLUMN_WIDTHS = {38, 30, 14, 20, 14, 12, 12, 80};
+    
+    // Rows kept in memory by the streaming writer, older rows are flushed to a temp file
+    private static final int STREAMING_WINDOW_SIZE = 100;
+    
     /**
-     * Parse Excel file and extract product data
+     * Parse Excel file and extract product data.
+     * Convenience over {@link #readProducts(Path, ObjIntConsumer)} for callers that need every row at once.
      */
     public List<ExcelProductImportRequest> parseExcelFile(MultipartFile file) throws IOException {
         logger.info("Parsing Excel file: {}", file.getOriginalFilename());
         
         List<ExcelProductImportRequest> products = new ArrayList<>();
-        
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            
-            // Skip header row (row 0)
-            for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null || isEmptyRow(row)) {
-                    continue;
-                }
-                
-                try {
-                    ExcelProductImportRequest product = parseRowToProduct(row, rowIndex);
-                    if (product != null) {
-                        products.add(product);
-                    }
-                } catch (Exception e) {
-                    logger.warn("Error parsing row {}: {}", rowIndex + 1, e.getMessage());
-                    // Continue processing other rows
-                }
+        Path workbookFile = Files.createTempFile("sicua-import-", ".xlsx");
+        try {
+            try (InputStream inputStream = file.getInputStream()) {
+                Files.copy(inputStream, workbookFile, StandardCopyOption.REPLACE_EXISTING);
             }
+            readProducts(workbookFile, (product, rowNumber) -> products.add(product));
+        } finally {
+            Files.deleteIfExists(workbookFile);
         }
         
         logger.info("Parsed {} products from Excel file", products.size());
         return products;
     }
     
+    /**
+     * Stream the products of the first sheet of an Excel file, one row at a time.
+     * Uses POI's event model, so memory use does not depend on the number of rows.
+     * Empty rows are skipped and rows that cannot be parsed are logged and skipped.
+     * @param workbookFile the .xlsx file to read
+     * @param rowConsumer receives each product with its 1-based Excel row number
+     * @return number of products emitted
+     */
+    public int readProducts(Path workbookFile, ObjIntConsumer<ExcelProductImportRequest> rowConsumer) throws IOException {
+        ProductRowHandler rowHandler = new ProductRowHandler(rowConsumer);
+        
+        try (OPCPackage opcPackage = OPCPackage.open(workbookFile.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return 0;
+            }
+            
+            try (InputStream sheet = sheets.next()) {
+                XMLReader sheetParser = XMLHelper.newXMLReader();
+                sheetParser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), sharedStrings, rowHandler, new ImportDataFormatter(), false));
+                sheetParser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Invalid Excel file: " + e.getMessage(), e);
+        }
+        
+        return rowHandler.getEmittedRows();
+    }
+    
     /**
      * Generate Excel template with headers and sample data
      */
@@ -113,32 +169,28 @@ public class ExcelProcessingService {
     }
     
     /**
-     * Export products to Excel format
+     * Stream products to an Excel file written directly to the given output stream.
+     * Only a small window of rows is kept in memory, so the products may be supplied lazily.
+     * @return number of products written
      */
-    public byte[] exportProductsToExcel(List<ExcelProductImportRequest> products) throws IOException {
-        logger.info("Exporting {} products to Excel", products.size());
+    public int writeProductsToExcel(Iterable<ExcelProductImportRequest> products, OutputStream outputStream) throws IOException {
+        logger.info("Streaming products export to Excel");
         
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("Inventario");
             
             // Create styles
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
             
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < HEADERS.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(HEADERS[i]);
-                cell.setCellStyle(headerStyle);
-            }
+            createHeaderRow(sheet, HEADERS, PRODUCT_COLUMN_WIDTHS, headerStyle);
             
             // Add product data
-            for (int i = 0; i < products.size(); i++) {
-                Row row = sheet.createRow(i + 1);
-                ExcelProductImportRequest product = products.get(i);
+            int rowIndex = 1;
+            for (ExcelProductImportRequest product : products) {
+                Row row = sheet.createRow(rowIndex++);
                 
                 createCell(row, COL_PRODUCTO_ID, product.getProductId(), dataStyle);
                 createCell(row, COL_NOMBRE, product.getNombre(), dataStyle);
@@ -151,49 +203,46 @@ public class ExcelProcessingService {
                 createCell(row, COL_MARCA, product.getMarca(), dataStyle);
             }
             
-            // Auto-size columns
-            for (int i = 0; i < HEADERS.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-            
             workbook.write(outputStream);
-            logger.info("Excel export completed successfully");
-            return outputStream.toByteArray();
+            logger.info("Excel export completed successfully with {} products", rowIndex - 1);
+            return rowIndex - 1;
+        } finally {
+            closeStreamingWorkbook(workbook);
         }
     }
     
-    private ExcelProductImportRequest parseRowToProduct(Row row, int rowIndex) {
+    private ExcelProductImportRequest parseRowToProduct(String[] values, int rowNumber) {
         // Validate required fields first
-        String productoId = getCellStringValue(row.getCell(COL_PRODUCTO_ID));
+        String productoId = values[COL_PRODUCTO_ID];
         if (productoId == null || productoId.trim().isEmpty()) {
-            throw new IllegalArgumentException("Producto_ID is required in row " + (rowIndex + 1));
+            throw new IllegalArgumentException("Producto_ID is required in row " + rowNumber);
         }
         
-        String nombre = getCellStringValue(row.getCell(COL_NOMBRE));
+        String nombre = values[COL_NOMBRE];
         if (nombre == null || nombre.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nombre is required in row " + (rowIndex + 1));
+            throw new IllegalArgumentException("Nombre is required in row " + rowNumber);
         }
         
-        BigDecimal precio = getCellBigDecimalValue(row.getCell(COL_PRECIO));
+        BigDecimal precio = toBigDecimal(values[COL_PRECIO]);
         if (precio == null) {
-            throw new IllegalArgumentException("Precio is required in row " + (rowIndex + 1));
+            throw new IllegalArgumentException("Precio is required in row " + rowNumber);
         }
         
-        Integer categoriaNumero = getCellIntegerValue(row.getCell(COL_CATEGORIA_NUMERO));
+        Integer categoriaNumero = toInteger(values[COL_CATEGORIA_NUMERO]);
         if (categoriaNumero == null) {
-            throw new IllegalArgumentException("Categoria_Numero is required in row " + (rowIndex + 1));
+            throw new IllegalArgumentException("Categoria_Numero is required in row " + rowNumber);
         }
         
-        Integer stock = getCellIntegerValue(row.getCell(COL_STOCK));
+        Integer stock = toInteger(values[COL_STOCK]);
         if (stock == null) {
-            throw new IllegalArgumentException("Stock is required in row " + (rowIndex + 1));
+            throw new IllegalArgumentException("Stock is required in row " + rowNumber);
         }
         
         // Optional fields
-        String talla = getCellStringValue(row.getCell(COL_TALLA));
-        String color = getCellStringValue(row.getCell(COL_COLOR));
-        String categoriaNombre = getCellStringValue(row.getCell(COL_CATEGORIA_NOMBRE));
-        String marca = getCellStringValue(row.getCell(COL_MARCA));
+        String talla = values[COL_TALLA];
+        String color = values[COL_COLOR];
+        String categoriaNombre = values[COL_CATEGORIA_NOMBRE];
+        String marca = values[COL_MARCA];
         
         return new ExcelProductImportRequest(
             productoId.trim(), nombre.trim(), precio, talla, color,
@@ -201,83 +250,21 @@ public class ExcelProcessingService {
         );
     }
     
-    private boolean isEmptyRow(Row row) {
-        for (Cell cell : row) {
-            if (cell != null && cell.getCellType() != CellType.BLANK) {
-                String value = getCellStringValue(cell);
-                if (value != null && !value.trim().isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-    
-    private String getCellStringValue(Cell cell) {
-        if (cell == null) return null;
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    double numValue = cell.getNumericCellValue();
-                    // Check if it's a whole number
-                    if (numValue == (long) numValue) {
-                        return String.valueOf((long) numValue);
-                    } else {
-                        return String.valueOf(numValue);
-                    }
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return null;
-        }
-    }
-    
-    private BigDecimal getCellBigDecimalValue(Cell cell) {
-        if (cell == null) return null;
+    private BigDecimal toBigDecimal(String value) {
+        if (value == null || value.trim().isEmpty()) return null;
         
         try {
-            switch (cell.getCellType()) {
-                case NUMERIC:
-                    return BigDecimal.valueOf(cell.getNumericCellValue());
-                case STRING:
-                    String value = cell.getStringCellValue().trim();
-                    if (value.isEmpty()) return null;
-                    return new BigDecimal(value);
-                default:
-                    return null;
-            }
+            return new BigDecimal(value.trim());
         } catch (NumberFormatException e) {
             logger.warn("Invalid number format in cell: {}", e.getMessage());
             return null;
         }
     }
     
-    private Integer getCellIntegerValue(Cell cell) {
-        if (cell == null) return null;
-        
-        try {
-            switch (cell.getCellType()) {
-                case NUMERIC:
-                    return (int) cell.getNumericCellValue();
-                case STRING:
-                    String value = cell.getStringCellValue().trim();
-                    if (value.isEmpty()) return null;
-                    return Integer.valueOf(value);
-                default:
-                    return null;
-            }
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid integer format in cell: {}", e.getMessage());
-            return null;
-        }
+    private Integer toInteger(String value) {
+        BigDecimal number = toBigDecimal(value);
+        // Decimal cells are truncated, as reading them as numeric cells used to do
+        return number != null ? number.intValue() : null;
     }
     
     private CellStyle createHeaderStyle(Workbook workbook) {
@@ -341,39 +328,29 @@ public class ExcelProcessingService {
     }
     
     /**
-     * Export sales to Excel format
+     * Stream sales to an Excel file written directly to the given output stream.
+     * Only a small window of rows is kept in memory, so the sales may be supplied lazily.
+     * @return number of sales written
      */
-    public byte[] exportSalesToExcel(List<SaleResponse> sales) throws IOException {
-        logger.info("Exporting {} sales to Excel", sales.size());
+    public int writeSalesToExcel(Iterable<SaleResponse> sales, OutputStream outputStream) throws IOException {
+        logger.info("Streaming sales export to Excel");
         
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("Ventas");
             
             // Create styles
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
             
-            // Define sales headers
-            String[] salesHeaders = {
-                "ID Venta", "Cliente", "DNI", "Fecha", "Total", "Estado", 
-                "Items", "Productos Vendidos"
-            };
-            
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < salesHeaders.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(salesHeaders[i]);
-                cell.setCellStyle(headerStyle);
-            }
+            createHeaderRow(sheet, SALES_HEADERS, SALES_COLUMN_WIDTHS, headerStyle);
             
             // Add sales data
             DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
-            for (int i = 0; i < sales.size(); i++) {
-                Row row = sheet.createRow(i + 1);
-                SaleResponse sale = sales.get(i);
+            int rowIndex = 1;
+            for (SaleResponse sale : sales) {
+                Row row = sheet.createRow(rowIndex++);
                 
                 createCell(row, 0, sale.getId(), dataStyle);
                 createCell(row, 1, sale.getClientName() != null ? sale.getClientName() : "Anónimo", dataStyle);
@@ -408,18 +385,103 @@ public class ExcelProcessingService {
                 createCell(row, 7, productsList.toString(), dataStyle);
             }
             
-            // Auto-size columns
-            for (int i = 0; i < salesHeaders.length; i++) {
-                sheet.autoSizeColumn(i);
-                // Set minimum width to avoid very narrow columns
-                if (sheet.getColumnWidth(i) < 3000) {
-                    sheet.setColumnWidth(i, 3000);
-                }
+            workbook.write(outputStream);
+            logger.info("Sales Excel export completed successfully with {} sales", rowIndex - 1);
+            return rowIndex - 1;
+        } finally {
+            closeStreamingWorkbook(workbook);
+        }
+    }
+    
+    private void createHeaderRow(Sheet sheet, String[] headers, int[] columnWidths, CellStyle headerStyle) {
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+            sheet.setColumnWidth(i, columnWidths[i] * 256);
+        }
+    }
+    
+    private void closeStreamingWorkbook(SXSSFWorkbook workbook) {
+        // close() also removes the temp files backing flushed rows, even if writing failed half way
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            logger.warn("Error closing streaming workbook: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Collects the cells of each sheet row and turns complete rows into products
+     */
+    private class ProductRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        
+        private final ObjIntConsumer<ExcelProductImportRequest> rowConsumer;
+        private final String[] values = new String[HEADERS.length];
+        private int currentColumn;
+        private int emittedRows;
+        
+        ProductRowHandler(ObjIntConsumer<ExcelProductImportRequest> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+        
+        @Override
+        public void startRow(int rowIndex) {
+            Arrays.fill(values, null);
+            currentColumn = -1;
+        }
+        
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Cells without a reference follow the previous one
+            currentColumn = cellReference != null ? new CellReference(cellReference).getCol() : currentColumn + 1;
+            if (currentColumn < values.length) {
+                values[currentColumn] = formattedValue;
+            }
+        }
+        
+        @Override
+        public void endRow(int rowIndex) {
+            // Skip header row (row 0) and empty rows
+            if (rowIndex == 0 || Arrays.stream(values).allMatch(value -> value == null || value.trim().isEmpty())) {
+                return;
             }
             
-            workbook.write(outputStream);
-            logger.info("Sales Excel export completed successfully");
-            return outputStream.toByteArray();
+            ExcelProductImportRequest product;
+            try {
+                product = parseRowToProduct(values, rowIndex + 1);
+            } catch (Exception e) {
+                logger.warn("Error parsing row {}: {}", rowIndex + 1, e.getMessage());
+                // Continue processing other rows
+                return;
+            }
+            
+            emittedRows++;
+            rowConsumer.accept(product, rowIndex + 1);
+        }
+        
+        int getEmittedRows() {
+            return emittedRows;
+        }
+    }
+    
+    /**
+     * Formats numeric cells as plain numbers instead of applying Excel's display format,
+     * so long numeric IDs are not turned into scientific notation or rounded
+     */
+    private static class ImportDataFormatter extends DataFormatter {
+        
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString)) {
+                return super.formatRawCellContents(value, formatIndex, formatString, use1904Windowing);
+            }
+            // Check if it's a whole number
+            if (value == (long) value) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(value);
         }
     }
 }
@@ -3,18 +3,18 @@ package com.sicua.application.excel.usecase;
 import com.sicua.application.auth.SessionService;
 import com.sicua.application.category.usecase.CategoryService;
 import com.sicua.application.excel.dto.ExcelProductImportRequest;
+import com.sicua.application.excel.service.ExcelExport;
 import com.sicua.application.excel.service.ExcelProcessingService;
 import com.sicua.domain.product.entity.Product;
 import com.sicua.domain.product.repository.ProductRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Use case for exporting all products to Excel format
@@ -24,6 +24,8 @@ public class ExportProductsToExcelUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(ExportProductsToExcelUseCase.class);
     
+    private static final int EXPORT_BATCH_SIZE = 500;
+    
     private final ExcelProcessingService excelProcessingService;
     private final ProductRepository productRepository;
     private final CategoryService categoryService;
@@ -39,23 +41,17 @@ public class ExportProductsToExcelUseCase {
         this.sessionService = sessionService;
     }
     
-    @Transactional(readOnly = true)
-    public byte[] execute() {
+    /**
+     * Prepare the export of all products of the current store.
+     * Products are read in batches while the file is written, so memory use does not grow with the inventory.
+     */
+    public ExcelExport execute() {
         logger.info("Starting export of all products to Excel");
         
         try {
+            // Resolve the store while the request is still available, the file is written later
             String storeId = sessionService.getCurrentStoreId();
             
-            // Get all products for the store
-            List<Product> products = productRepository.findAllByStoreId(storeId);
-            logger.info("Found {} products to export for store: {}", products.size(), storeId);
-            
-            if (products.isEmpty()) {
-                logger.warn("No products found to export for store: {}", storeId);
-                // Return empty Excel with headers only
-                return excelProcessingService.exportProductsToExcel(new ArrayList<>());
-            }
-            
             // Get all categories for name lookup
             Map<Integer, String> categoryNames = categoryService.getAllCategories(storeId)
                 .stream()
@@ -65,16 +61,14 @@ public class ExportProductsToExcelUseCase {
                     (existing, replacement) -> existing // Keep first if duplicate
                 ));
             
-            // Convert products to Excel format
-            List<ExcelProductImportRequest> excelProducts = products.stream()
-                .map(product -> convertProductToExcelFormat(product, categoryNames))
-                .collect(Collectors.toList());
-            
-            // Generate Excel file
-            byte[] excelBytes = excelProcessingService.exportProductsToExcel(excelProducts);
-            
-            logger.info("Successfully exported {} products to Excel", excelProducts.size());
-            return excelBytes;
+            return outputStream -> {
+                Stream<ExcelProductImportRequest> excelProducts = productBatches(storeId)
+                    .flatMap(List::stream)
+                    .map(product -> convertProductToExcelFormat(product, categoryNames));
+                
+                int exported = excelProcessingService.writeProductsToExcel(excelProducts::iterator, outputStream);
+                logger.info("Successfully exported {} products to Excel for store: {}", exported, storeId);
+            };
             
         } catch (Exception e) {
             logger.error("Error exporting products to Excel: {}", e.getMessage(), e);
@@ -82,6 +76,19 @@ public class ExportProductsToExcelUseCase {
         }
     }
     
+    /**
+     * Lazily walks the store's products one batch at a time
+     */
+    private Stream<List<Product>> productBatches(String storeId) {
+        return Stream.iterate(
+            productRepository.findBatchByStoreId(storeId, null, EXPORT_BATCH_SIZE),
+            batch -> !batch.isEmpty(),
+            batch -> batch.size() < EXPORT_BATCH_SIZE
+                ? List.of()
+                : productRepository.findBatchByStoreId(storeId, batch.get(batch.size() - 1).getProductId(), EXPORT_BATCH_SIZE)
+        );
+    }
+    
     private ExcelProductImportRequest convertProductToExcelFormat(Product product, 
                                                                 Map<Integer, String> categoryNames) {
         // Parse size field to extract talla and color
@@ -0,0 +1,33 @@
+package com.sicua.application.excel.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.excel.dto.ExcelImportJobResponse;
+import com.sicua.application.excel.service.ExcelImportJob;
+import com.sicua.application.excel.service.ExcelImportJobRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Use case for polling the progress of a background product import
+ */
+@Service
+public class GetExcelImportJobUseCase {
+    
+    private final ExcelImportJobRegistry jobRegistry;
+    private final SessionService sessionService;
+    
+    public GetExcelImportJobUseCase(ExcelImportJobRegistry jobRegistry, SessionService sessionService) {
+        this.jobRegistry = jobRegistry;
+        this.sessionService = sessionService;
+    }
+    
+    public Optional<ExcelImportJobResponse> execute(String jobId) {
+        String storeId = sessionService.getCurrentStoreId();
+        
+        // Jobs of other stores are reported as not found
+        return jobRegistry.findById(jobId)
+                .filter(job -> job.getStoreId().equals(storeId))
+                .map(ExcelImportJob::toResponse);
+    }
+}
@@ -2,11 +2,12 @@ package com.sicua.application.excel.usecase;
 
 import com.sicua.application.auth.SessionService;
 import com.sicua.application.category.usecase.CategoryService;
+import com.sicua.application.category.dto.CategoryResponse;
 import com.sicua.application.category.dto.CreateCategoryRequest;
 import com.sicua.application.excel.dto.ExcelImportResponse;
 import com.sicua.application.excel.dto.ExcelProductImportRequest;
+import com.sicua.application.excel.service.ExcelImportProgress;
 import com.sicua.application.excel.service.ExcelProcessingService;
-import com.sicua.domain.category.entity.Category;
 import com.sicua.domain.product.entity.Product;
 import com.sicua.domain.product.repository.ProductRepository;
 import com.sicua.domain.product.valueobject.ProductId;
@@ -18,7 +19,15 @@ import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Use case for importing products from Excel with automatic category creation
@@ -28,6 +37,8 @@ public class ImportProductsFromExcelUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(ImportProductsFromExcelUseCase.class);
     
+    private static final int INSERT_BATCH_SIZE = 500;
+    
     private final ExcelProcessingService excelProcessingService;
     private final CategoryService categoryService;
     private final ProductRepository productRepository;
@@ -50,114 +61,165 @@ public class ImportProductsFromExcelUseCase {
     public ExcelImportResponse execute(MultipartFile file) {
         logger.info("Starting Excel import process for file: {}", file.getOriginalFilename());
         
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
-        int successfulImports = 0;
-        int categoriesCreated = 0;
-        int totalProcessed = 0;
-        
         String storeId = sessionService.getCurrentStoreId();
+        Path workbookFile = null;
         
         try {
-            // Parse Excel file
-            List<ExcelProductImportRequest> excelProducts = excelProcessingService.parseExcelFile(file);
-            totalProcessed = excelProducts.size();
+            // Keep the upload on disk so every pass can stream it without holding rows in memory
+            workbookFile = copyToTempFile(file);
             
-            logger.info("Parsed {} products from Excel file", totalProcessed);
+            // Every batch joins this method's transaction, so the import stays all-or-nothing
+            return importWorkbook(workbookFile, storeId, ExcelImportProgress.NONE, Runnable::run);
             
-            if (excelProducts.isEmpty()) {
-                errors.add("No se encontraron productos válidos en el archivo Excel");
-                return new ExcelImportResponse(0, 0, 0, errors, warnings);
+        } catch (Exception e) {
+            logger.error("Error during Excel import: {}", e.getMessage(), e);
+            // This will cause transaction rollback
+            throw new RuntimeException("Excel import failed", e);
+        } finally {
+            deleteTempFile(workbookFile);
+        }
+    }
+    
+    /**
+     * Copy an uploaded workbook to a temporary file that outlives the request
+     */
+    public Path copyToTempFile(MultipartFile file) throws IOException {
+        Path workbookFile = Files.createTempFile("sicua-import-", ".xlsx");
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.copy(inputStream, workbookFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteTempFile(workbookFile);
+            throw e;
+        }
+        return workbookFile;
+    }
+    
+    /**
+     * Validate and import a workbook that is already on disk.
+     * Nothing is written unless every row is valid. Each insert batch is handed to {@code batchRunner},
+     * so the caller decides whether batches share its transaction or commit one by one.
+     */
+    public ExcelImportResponse importWorkbook(Path workbookFile, String storeId, ExcelImportProgress progress,
+                                              Consumer<Runnable> batchRunner) throws IOException {
+        List<String> errors = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        
+        // PHASE 1: VALIDATE ALL PRODUCTS FIRST (ALL-OR-NOTHING)
+        logger.info("Phase 1: Validating all products before any import");
+        Set<ProductId> fileProductIds = new HashSet<>();
+        int totalProcessed = excelProcessingService.readProducts(workbookFile, (excelProduct, rowNumber) -> {
+            if (excelProduct.getProductId() != null) {
+                fileProductIds.add(ProductId.of(excelProduct.getProductId()));
             }
-            
-            // PHASE 1: VALIDATE ALL PRODUCTS FIRST (ALL-OR-NOTHING)
-            logger.info("Phase 1: Validating all products before any import");
-            for (int i = 0; i < excelProducts.size(); i++) {
-                ExcelProductImportRequest excelProduct = excelProducts.get(i);
-                int rowNumber = i + 2; // Excel row number (1-based + header)
-                
-                // Validate product data
-                Set<ConstraintViolation<ExcelProductImportRequest>> violations = validator.validate(excelProduct);
-                if (!violations.isEmpty()) {
-                    StringBuilder errorMsg = new StringBuilder();
-                    errorMsg.append("Fila ").append(rowNumber).append(": ");
-                    for (ConstraintViolation<ExcelProductImportRequest> violation : violations) {
-                        errorMsg.append(violation.getMessage()).append("; ");
-                    }
-                    errors.add(errorMsg.toString());
+        });
+        
+        logger.info("Parsed {} products from Excel file", totalProcessed);
+        
+        if (totalProcessed == 0) {
+            errors.add("No se encontraron productos válidos en el archivo Excel");
+            return new ExcelImportResponse(0, 0, 0, errors, warnings);
+        }
+        progress.validationStarted(totalProcessed);
+        
+        // Everything the row checks need is loaded up front with set-based queries
+        Set<ProductId> existingProductIds = productRepository.findExistingIds(fileProductIds, storeId);
+        Map<Integer, CategoryResponse> existingCategories = categoryService.getAllCategories(storeId).stream()
+                .collect(Collectors.toMap(CategoryResponse::getCategoryNumber, Function.identity()));
+        
+        Set<ProductId> seenProductIds = new HashSet<>();
+        int[] validatedRows = {0};
+        excelProcessingService.readProducts(workbookFile, (excelProduct, rowNumber) -> {
+            // Validate product data
+            Set<ConstraintViolation<ExcelProductImportRequest>> violations = validator.validate(excelProduct);
+            if (!violations.isEmpty()) {
+                StringBuilder errorMsg = new StringBuilder();
+                errorMsg.append("Fila ").append(rowNumber).append(": ");
+                for (ConstraintViolation<ExcelProductImportRequest> violation : violations) {
+                    errorMsg.append(violation.getMessage()).append("; ");
                 }
-                
-                // Check if product ID already exists
-                String productId = excelProduct.getProductId();
-                if (productRepository.existsByIdAndStoreId(ProductId.of(productId), storeId)) {
+                errors.add(errorMsg.toString());
+            }
+            
+            // Check if product ID already exists, in the store or earlier in the file
+            String productId = excelProduct.getProductId();
+            if (productId != null) {
+                ProductId id = ProductId.of(productId);
+                if (existingProductIds.contains(id)) {
                     errors.add("Fila " + rowNumber + ": El producto con ID '" + productId + 
                               "' ya existe en la tienda");
+                } else if (!seenProductIds.add(id)) {
+                    errors.add("Fila " + rowNumber + ": El producto con ID '" + productId + 
+                              "' está repetido en el archivo");
                 }
-                
-                // Validate category existence/creation requirements
-                validateCategoryRequirements(storeId, excelProduct, rowNumber, errors);
-            }
-            
-            // If ANY errors found during validation, return immediately without importing ANYTHING
-            if (!errors.isEmpty()) {
-                logger.warn("Validation failed for Excel import. Found {} errors. No products will be imported.", errors.size());
-                return new ExcelImportResponse(totalProcessed, 0, 0, errors, warnings);
             }
             
-            // PHASE 2: ALL PRODUCTS ARE VALID - PROCEED WITH IMPORT (NO VALIDATION, ONLY CREATION)
-            logger.info("Phase 2: All products validated successfully. Proceeding with import.");
-            for (int i = 0; i < excelProducts.size(); i++) {
-                ExcelProductImportRequest excelProduct = excelProducts.get(i);
-                int rowNumber = i + 2;
+            // Validate category existence/creation requirements
+            validateCategoryRequirements(existingCategories, excelProduct, rowNumber, errors);
+            progress.rowsValidated(++validatedRows[0]);
+        });
+        
+        // If ANY errors found during validation, return immediately without importing ANYTHING
+        if (!errors.isEmpty()) {
+            logger.warn("Validation failed for Excel import. Found {} errors. No products will be imported.", errors.size());
+            return new ExcelImportResponse(totalProcessed, 0, 0, errors, warnings);
+        }
+        
+        // PHASE 2: ALL PRODUCTS ARE VALID - PROCEED WITH IMPORT (NO VALIDATION, ONLY CREATION)
+        logger.info("Phase 2: All products validated successfully. Proceeding with import.");
+        progress.importStarted();
+        Map<Integer, String> categoryNames = new HashMap<>();
+        existingCategories.forEach((number, category) -> categoryNames.put(number, category.getName()));
+        ImportBatch batch = new ImportBatch(storeId, progress, batchRunner);
+        
+        excelProcessingService.readProducts(workbookFile, (excelProduct, rowNumber) -> {
+            try {
+                // Handle category auto-creation (no validation, just creation)
+                resolveCategoryForValidProduct(categoryNames, batch.categories, excelProduct, rowNumber, warnings);
                 
-                try {
-                    // Handle category auto-creation (no validation, just creation)
-                    boolean categoryCreated = handleCategoryCreationForValidProduct(
-                        storeId, excelProduct, rowNumber, warnings
-                    );
-                    if (categoryCreated) {
-                        categoriesCreated++;
-                    }
-                    
-                    // Create product (should always succeed since we pre-validated)
-                    createValidatedProductFromExcelData(storeId, excelProduct, rowNumber);
-                    successfulImports++;
-                    logger.debug("Successfully imported product: {} (row {})", 
-                               excelProduct.getNombre(), rowNumber);
-                    
-                } catch (Exception e) {
-                    logger.error("Unexpected error processing row {}: {}", rowNumber, e.getMessage(), e);
-                    // If we get unexpected errors during import phase, we should rollback everything
-                    throw new RuntimeException("Unexpected error during import phase for row " + rowNumber + ": " + e.getMessage(), e);
+                // Create product (should always succeed since we pre-validated)
+                batch.products.add(createValidatedProductFromExcelData(storeId, excelProduct));
+                if (batch.products.size() == INSERT_BATCH_SIZE) {
+                    batch.flush();
                 }
+                
+            } catch (Exception e) {
+                logger.error("Unexpected error processing row {}: {}", rowNumber, e.getMessage(), e);
+                // If we get unexpected errors during import phase, we should rollback everything
+                throw new RuntimeException("Unexpected error during import phase for row " + rowNumber + ": " + e.getMessage(), e);
             }
-            
-        } catch (Exception e) {
-            logger.error("Error during Excel import: {}", e.getMessage(), e);
-            errors.add("Error procesando archivo Excel: " + e.getMessage());
-            // This will cause transaction rollback
-            throw new RuntimeException("Excel import failed", e);
-        }
+        });
+        batch.flush();
         
         logger.info("Excel import completed successfully. Processed: {}, Success: {}, Categories created: {}", 
-                   totalProcessed, successfulImports, categoriesCreated);
+                   totalProcessed, batch.importedProducts, batch.createdCategories);
         
-        return new ExcelImportResponse(totalProcessed, successfulImports, categoriesCreated, errors, warnings);
+        return new ExcelImportResponse(totalProcessed, batch.importedProducts, batch.createdCategories, errors, warnings);
+    }
+    
+    /**
+     * Deletes a temporary workbook, logging instead of failing when it cannot
+     */
+    public void deleteTempFile(Path workbookFile) {
+        if (workbookFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(workbookFile);
+        } catch (IOException e) {
+            logger.warn("Could not delete temporary import file {}: {}", workbookFile, e.getMessage());
+        }
     }
     
     /**
      * Validates category requirements during the pre-validation phase
      */
-    private void validateCategoryRequirements(String storeId, ExcelProductImportRequest excelProduct, 
+    private void validateCategoryRequirements(Map<Integer, CategoryResponse> existingCategories,
+                                            ExcelProductImportRequest excelProduct,
                                             int rowNumber, List<String> errors) {
         Integer categoryNumber = excelProduct.getCategoriaNumero();
         String categoryName = excelProduct.getCategoriaNombre();
         
-        // Check if category exists
-        Optional<com.sicua.application.category.dto.CategoryResponse> existingCategory = 
-            categoryService.getCategoryByNumber(storeId, categoryNumber);
-        
-        if (!existingCategory.isPresent()) {
+        if (!existingCategories.containsKey(categoryNumber)) {
             // Category doesn't exist - validate if we can create it
             if (categoryName == null || categoryName.trim().isEmpty()) {
                 errors.add("Fila " + rowNumber + ": Categoría " + categoryNumber + 
@@ -168,58 +230,51 @@ public class ImportProductsFromExcelUseCase {
     }
     
     /**
-     * Handles category creation for already validated products (Phase 2)
-     * No validation needed since Phase 1 already confirmed everything is valid
+     * Resolves the category of an already validated product (Phase 2).
+     * Categories created earlier in the same file count as existing, so the first name given for a number wins.
      */
-    private boolean handleCategoryCreationForValidProduct(String storeId, ExcelProductImportRequest excelProduct, 
-                                                         int rowNumber, List<String> warnings) {
+    private void resolveCategoryForValidProduct(Map<Integer, String> categoryNames,
+                                               List<CreateCategoryRequest> newCategories,
+                                               ExcelProductImportRequest excelProduct,
+                                               int rowNumber, List<String> warnings) {
         Integer categoryNumber = excelProduct.getCategoriaNumero();
         String categoryName = excelProduct.getCategoriaNombre();
+        String existingName = categoryNames.get(categoryNumber);
         
-        // Check if category already exists
-        Optional<com.sicua.application.category.dto.CategoryResponse> existingCategory = 
-            categoryService.getCategoryByNumber(storeId, categoryNumber);
-        
-        if (existingCategory.isPresent()) {
+        if (existingName != null) {
             // Category exists - use it (ignore any provided name)
             if (categoryName != null && !categoryName.trim().isEmpty() && 
-                !categoryName.trim().equalsIgnoreCase(existingCategory.get().getName())) {
+                !categoryName.trim().equalsIgnoreCase(existingName)) {
                 warnings.add("Fila " + rowNumber + ": Categoría " + categoryNumber + 
-                           " ya existe con nombre '" + existingCategory.get().getName() + 
+                           " ya existe con nombre '" + existingName + 
                            "'. Se ignora el nombre proporcionado '" + categoryName + "'");
             }
-            return false; // No new category created
         } else {
-            // Category doesn't exist - create it (we already validated in Phase 1 that name is provided)
+            // Category doesn't exist - queue it (we already validated in Phase 1 that name is provided)
             CreateCategoryRequest createRequest = new CreateCategoryRequest();
             createRequest.setName(categoryName.trim());
             createRequest.setCategoryNumber(categoryNumber);
+            newCategories.add(createRequest);
+            categoryNames.put(categoryNumber, createRequest.getName());
             
-            categoryService.createCategory(storeId, createRequest);
-            
-            logger.info("Auto-created category {} with name '{}' from Excel import row {}", 
+            logger.info("Auto-creating category {} with name '{}' from Excel import row {}", 
                        categoryNumber, categoryName, rowNumber);
             warnings.add("Fila " + rowNumber + ": Se creó automáticamente la categoría " + 
                        categoryNumber + " - '" + categoryName + "'");
-            return true; // New category created
         }
     }
     
     /**
-     * Creates a product from already validated Excel data (Phase 2)
+     * Builds a product from already validated Excel data (Phase 2)
      * No validation needed since Phase 1 already confirmed everything is valid
      */
-    private void createValidatedProductFromExcelData(String storeId, ExcelProductImportRequest excelProduct,
-                                                   int rowNumber) {
-        // Use the client-provided product ID (already validated as unique in Phase 1)
-        String productId = excelProduct.getProductId();
-        
+    private Product createValidatedProductFromExcelData(String storeId, ExcelProductImportRequest excelProduct) {
         // Create size field from talla and color
         String size = buildSizeField(excelProduct.getTalla(), excelProduct.getColor());
         
-        // Create Product entity
-        Product product = new Product(
-            ProductId.of(productId),
+        // Use the client-provided product ID (already validated as unique in Phase 1)
+        return new Product(
+            ProductId.of(excelProduct.getProductId()),
             storeId,
             excelProduct.getNombre(),
             excelProduct.getMarca(), // Can be null
@@ -228,9 +283,43 @@ public class ImportProductsFromExcelUseCase {
             excelProduct.getPrecio(),
             excelProduct.getStock()
         );
+    }
+    
+    /**
+     * Products and new categories waiting to be written. Categories go in with the batch
+     * of the first product that uses them, so every written batch is consistent on its own.
+     */
+    private class ImportBatch {
+        
+        private final String storeId;
+        private final ExcelImportProgress progress;
+        private final Consumer<Runnable> batchRunner;
+        private final List<CreateCategoryRequest> categories = new ArrayList<>();
+        private final List<Product> products = new ArrayList<>(INSERT_BATCH_SIZE);
+        private int importedProducts;
+        private int createdCategories;
         
-        productRepository.save(product);
-        logger.debug("Created product with ID {} from Excel row {}", productId, rowNumber);
+        private ImportBatch(String storeId, ExcelImportProgress progress, Consumer<Runnable> batchRunner) {
+            this.storeId = storeId;
+            this.progress = progress;
+            this.batchRunner = batchRunner;
+        }
+        
+        private void flush() {
+            if (products.isEmpty() && categories.isEmpty()) {
+                return;
+            }
+            batchRunner.accept(() -> {
+                categoryService.createCategories(storeId, categories);
+                productRepository.insertAll(products);
+            });
+            importedProducts += products.size();
+            createdCategories += categories.size();
+            logger.debug("Imported batch of {} products and {} categories from Excel", products.size(), categories.size());
+            products.clear();
+            categories.clear();
+            progress.batchImported(importedProducts, createdCategories);
+        }
     }
     
     private String buildSizeField(String talla, String color) {
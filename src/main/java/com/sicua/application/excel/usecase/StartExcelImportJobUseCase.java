@@ -0,0 +1,89 @@
+package com.sicua.application.excel.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.auth.TenantContext;
+import com.sicua.application.excel.dto.ExcelImportJobResponse;
+import com.sicua.application.excel.dto.ExcelImportResponse;
+import com.sicua.application.excel.service.ExcelImportJob;
+import com.sicua.application.excel.service.ExcelImportJobRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+
+/**
+ * Use case for starting a product import that runs in the background.
+ * The upload is copied to disk and the import continues on the import executor,
+ * committing each insert batch in its own transaction.
+ */
+@Service
+public class StartExcelImportJobUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StartExcelImportJobUseCase.class);
+    
+    private final ImportProductsFromExcelUseCase importProductsUseCase;
+    private final ExcelImportJobRegistry jobRegistry;
+    private final SessionService sessionService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor excelImportExecutor;
+    
+    public StartExcelImportJobUseCase(ImportProductsFromExcelUseCase importProductsUseCase,
+                                    ExcelImportJobRegistry jobRegistry,
+                                    SessionService sessionService,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("excelImportExecutor") TaskExecutor excelImportExecutor) {
+        this.importProductsUseCase = importProductsUseCase;
+        this.jobRegistry = jobRegistry;
+        this.sessionService = sessionService;
+        this.transactionTemplate = transactionTemplate;
+        this.excelImportExecutor = excelImportExecutor;
+    }
+    
+    public ExcelImportJobResponse execute(MultipartFile file) {
+        String storeId = sessionService.getCurrentStoreId();
+        Path workbookFile;
+        try {
+            workbookFile = importProductsUseCase.copyToTempFile(file);
+        } catch (Exception e) {
+            logger.error("Error storing uploaded Excel file: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to store uploaded file", e);
+        }
+        
+        ExcelImportJob job = jobRegistry.create(storeId, file.getOriginalFilename());
+        try {
+            excelImportExecutor.execute(() -> runImport(job, workbookFile));
+        } catch (TaskRejectedException e) {
+            jobRegistry.remove(job.getJobId());
+            importProductsUseCase.deleteTempFile(workbookFile);
+            logger.warn("Excel import rejected for store {}: import queue is full", storeId);
+            throw new IllegalStateException("Too many imports in progress, please try again later");
+        }
+        
+        logger.info("Queued Excel import job {} for file: {}", job.getJobId(), file.getOriginalFilename());
+        return job.toResponse();
+    }
+    
+    private void runImport(ExcelImportJob job, Path workbookFile) {
+        TenantContext.setStoreId(job.getStoreId());
+        try {
+            logger.info("Starting Excel import job {}", job.getJobId());
+            ExcelImportResponse result = importProductsUseCase.importWorkbook(workbookFile, job.getStoreId(), job,
+                    batch -> transactionTemplate.executeWithoutResult(status -> batch.run()));
+            job.finish(result);
+            logger.info("Excel import job {} finished with status {}", job.getJobId(), job.toResponse().getStatus());
+        } catch (Exception e) {
+            logger.error("Excel import job {} failed: {}", job.getJobId(), e.getMessage(), e);
+            job.fail("Error procesando archivo Excel: " + e.getMessage() + 
+                    ". Productos importados antes del error: " + job.toResponse().getImportedProducts());
+        } finally {
+            importProductsUseCase.deleteTempFile(workbookFile);
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.sicua.application.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "Productos con stock bajo y su pronóstico de quiebre de stock")
+public class LowStockProductsResponse {
+    
+    @Schema(description = "Stock a partir del cual un producto se considera bajo", example = "5")
+    private int threshold;
+    
+    @Schema(description = "Días de ventas usados para calcular la velocidad de venta", example = "30")
+    private int days;
+    
+    @Schema(description = "Productos con stock bajo, de menor a mayor stock")
+    private List<LowStockProductResponse> products;
+
+    public LowStockProductsResponse() {}
+
+    public LowStockProductsResponse(int threshold, int days, List<LowStockProductResponse> products) {
+        this.threshold = threshold;
+        this.days = days;
+        this.products = products;
+    }
+
+    // Getters and Setters
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(int days) {
+        this.days = days;
+    }
+
+    public List<LowStockProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<LowStockProductResponse> products) {
+        this.products = products;
+    }
+
+    @Schema(description = "Producto con stock bajo")
+    public static class LowStockProductResponse {
+        @Schema(description = "ID del producto", example = "PROD-001")
+        private String productId;
+        
+        @Schema(description = "Nombre del producto", example = "Polo básico")
+        private String name;
+        
+        @Schema(description = "Número de categoría", example = "1")
+        private Integer categoryNumber;
+        
+        @Schema(description = "Stock actual", example = "3")
+        private int quantity;
+        
+        @Schema(description = "Unidades vendidas en los últimos días", example = "12")
+        private long unitsSold;
+        
+        @Schema(description = "Velocidad de venta (unidades por día)", example = "0.40")
+        private BigDecimal unitsPerDay;
+        
+        @Schema(description = "Días estimados hasta agotar el stock, vacío si el producto no tuvo ventas", example = "7.5")
+        private BigDecimal daysToStockout;
+
+        public LowStockProductResponse() {}
+
+        public LowStockProductResponse(String productId, String name, Integer categoryNumber, int quantity,
+                                       long unitsSold, BigDecimal unitsPerDay, BigDecimal daysToStockout) {
+            this.productId = productId;
+            this.name = name;
+            this.categoryNumber = categoryNumber;
+            this.quantity = quantity;
+            this.unitsSold = unitsSold;
+            this.unitsPerDay = unitsPerDay;
+            this.daysToStockout = daysToStockout;
+        }
+
+        // Getters and Setters
+        public String getProductId() {
+            return productId;
+        }
+
+        public void setProductId(String productId) {
+            this.productId = productId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getCategoryNumber() {
+            return categoryNumber;
+        }
+
+        public void setCategoryNumber(Integer categoryNumber) {
+            this.categoryNumber = categoryNumber;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public long getUnitsSold() {
+            return unitsSold;
+        }
+
+        public void setUnitsSold(long unitsSold) {
+            this.unitsSold = unitsSold;
+        }
+
+        public BigDecimal getUnitsPerDay() {
+            return unitsPerDay;
+        }
+
+        public void setUnitsPerDay(BigDecimal unitsPerDay) {
+            this.unitsPerDay = unitsPerDay;
+        }
+
+        public BigDecimal getDaysToStockout() {
+            return daysToStockout;
+        }
+
+        public void setDaysToStockout(BigDecimal daysToStockout) {
+            this.daysToStockout = daysToStockout;
+        }
+    }
+}
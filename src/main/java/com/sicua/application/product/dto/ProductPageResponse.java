@@ -0,0 +1,51 @@
+package com.sicua.application.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de productos obtenida mediante paginación por cursor")
+public class ProductPageResponse {
+
+    @Schema(description = "Productos de la página en el orden solicitado")
+    private List<ProductResponse> products;
+
+    @Schema(description = "Cursor para solicitar la siguiente página; nulo si no hay más productos", example = "TkFNRXxhc2N8VUc5c2J3fFVGSlBSQzB3TURF")
+    private String nextCursor;
+
+    @Schema(description = "Indica si existen más productos después de esta página", example = "true")
+    private boolean hasMore;
+
+    public ProductPageResponse() {}
+
+    public ProductPageResponse(List<ProductResponse> products, String nextCursor, boolean hasMore) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
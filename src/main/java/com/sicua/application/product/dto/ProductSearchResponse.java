@@ -0,0 +1,75 @@
+package com.sicua.application.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de resultados de una búsqueda de productos")
+public class ProductSearchResponse {
+    
+    @Schema(description = "Texto buscado", example = "polo")
+    private String query;
+    
+    @Schema(description = "Número de página, empezando en 0", example = "0")
+    private int page;
+    
+    @Schema(description = "Cantidad de productos por página", example = "20")
+    private int size;
+    
+    @Schema(description = "Indica si existen más resultados después de esta página", example = "true")
+    private boolean hasMore;
+    
+    @Schema(description = "Productos encontrados, ordenados por nombre")
+    private List<ProductResponse> products;
+
+    public ProductSearchResponse() {}
+
+    public ProductSearchResponse(String query, int page, int size, boolean hasMore, List<ProductResponse> products) {
+        this.query = query;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+        this.products = products;
+    }
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+}
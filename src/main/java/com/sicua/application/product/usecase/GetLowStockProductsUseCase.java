@@ -0,0 +1,119 @@
+package com.sicua.application.product.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.product.dto.LowStockProductsResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.ProductSales;
+import com.sicua.domain.storeconfig.entity.StoreConfig;
+import com.sicua.domain.storeconfig.repository.StoreConfigRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for the products that are running out of stock.
+ * Products at or below the store's threshold come from an indexed range query on (store_id, quantity),
+ * and their recent sales from one grouped query, so the catalogue is never scanned.
+ */
+@Service
+public class GetLowStockProductsUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GetLowStockProductsUseCase.class);
+    
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 365;
+    
+    private final ProductRepository productRepository;
+    private final SaleRepository saleRepository;
+    private final StoreConfigRepository storeConfigRepository;
+    private final SessionService sessionService;
+    
+    public GetLowStockProductsUseCase(ProductRepository productRepository, SaleRepository saleRepository,
+                                      StoreConfigRepository storeConfigRepository, SessionService sessionService) {
+        this.productRepository = productRepository;
+        this.saleRepository = saleRepository;
+        this.storeConfigRepository = storeConfigRepository;
+        this.sessionService = sessionService;
+    }
+    
+    /**
+     * @param threshold highest quantity considered low stock, defaults to the store's configured threshold
+     * @param days days of sales used for the velocity, defaults to {@value #DEFAULT_DAYS}
+     * @param limit number of products, defaults to {@value #DEFAULT_LIMIT}
+     */
+    @Transactional(readOnly = true)
+    public LowStockProductsResponse execute(Integer threshold, Integer days, Integer limit) {
+        if (threshold != null && threshold < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative");
+        }
+        if (days != null && (days < 1 || days > MAX_DAYS)) {
+            throw new IllegalArgumentException("Days must be between 1 and " + MAX_DAYS);
+        }
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        String storeId = sessionService.getCurrentStoreId();
+        int stockThreshold = threshold != null ? threshold : storeConfigRepository.findById(storeId)
+                .map(StoreConfig::getLowStockThreshold)
+                .orElse(StoreConfig.DEFAULT_LOW_STOCK_THRESHOLD);
+        int velocityDays = days != null ? days : DEFAULT_DAYS;
+        int size = limit != null ? limit : DEFAULT_LIMIT;
+        logger.info("Retrieving up to {} products with stock at or below {} for store: {}", size, stockThreshold, storeId);
+        
+        List<Product> products = productRepository.findLowStockByStoreId(storeId, stockThreshold, size);
+        if (products.isEmpty()) {
+            return new LowStockProductsResponse(stockThreshold, velocityDays, List.of());
+        }
+        
+        // Velocity window covers today and the previous days - 1 full days
+        LocalDateTime to = LocalDate.now().plusDays(1).atStartOfDay();
+        LocalDateTime from = to.minusDays(velocityDays);
+        List<ProductId> productIds = products.stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toList());
+        Map<ProductId, ProductSales> salesByProduct = saleRepository.findProductSales(storeId, productIds, from, to).stream()
+                .collect(Collectors.toMap(ProductSales::getProductId, Function.identity()));
+        
+        List<LowStockProductsResponse.LowStockProductResponse> response = products.stream()
+                .map(product -> mapToResponse(product, salesByProduct.get(product.getProductId()), velocityDays))
+                .collect(Collectors.toList());
+        
+        logger.info("Found {} low stock products for store: {}", response.size(), storeId);
+        return new LowStockProductsResponse(stockThreshold, velocityDays, response);
+    }
+    
+    private LowStockProductsResponse.LowStockProductResponse mapToResponse(Product product, ProductSales sales, int days) {
+        long unitsSold = sales != null ? sales.getUnits() : 0;
+        BigDecimal unitsPerDay = BigDecimal.valueOf(unitsSold).divide(BigDecimal.valueOf(days), 2, RoundingMode.HALF_UP);
+        // quantity / (units / days), computed without the rounded velocity; unknown when nothing sold
+        BigDecimal daysToStockout = unitsSold > 0
+                ? BigDecimal.valueOf((long) product.getQuantity() * days).divide(BigDecimal.valueOf(unitsSold), 1, RoundingMode.HALF_UP)
+                : null;
+        
+        return new LowStockProductsResponse.LowStockProductResponse(
+                product.getProductId().getValue(),
+                product.getName(),
+                product.getCategoryNumber(),
+                product.getQuantity(),
+                unitsSold,
+                unitsPerDay,
+                daysToStockout
+        );
+    }
+}
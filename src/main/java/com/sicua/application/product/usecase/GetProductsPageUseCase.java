@@ -0,0 +1,126 @@
+package com.sicua.application.product.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.product.dto.ProductPageResponse;
+import com.sicua.application.product.dto.ProductResponse;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductCursor;
+import com.sicua.domain.product.valueobject.ProductFilter;
+import com.sicua.domain.product.valueobject.ProductSort;
+import com.sicua.domain.product.valueobject.ProductSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for retrieving a store's products one page at a time.
+ * Pages are read with keyset pagination on (sort field, product ID) into projections,
+ * which are mapped once to the response.
+ */
+@Service
+public class GetProductsPageUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GetProductsPageUseCase.class);
+    
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    
+    private final ProductRepository productRepository;
+    private final SessionService sessionService;
+    
+    public GetProductsPageUseCase(ProductRepository productRepository, SessionService sessionService) {
+        this.productRepository = productRepository;
+        this.sessionService = sessionService;
+    }
+    
+    /**
+     * @param cursorToken cursor returned with the previous page, or null for the first page
+     * @param size number of products, defaults to {@value #DEFAULT_PAGE_SIZE}
+     * @param sortBy "name" (default), "price", "stock" or "createdAt"
+     * @param direction "asc" (default) or "desc"
+     * @param filter optional category and brand restrictions
+     */
+    @Transactional(readOnly = true)
+    public ProductPageResponse execute(String cursorToken, Integer size, String sortBy, String direction, ProductFilter filter) {
+        int pageSize = resolvePageSize(size);
+        ProductSort sort = resolveSort(sortBy);
+        boolean descending = resolveDescending(direction);
+        ProductCursor cursor = cursorToken != null && !cursorToken.isBlank() ? ProductCursor.fromToken(cursorToken) : null;
+        if (cursor != null && (cursor.getSort() != sort || cursor.isDescending() != descending)) {
+            throw new IllegalArgumentException("Cursor was created for a different sort order");
+        }
+        String storeId = sessionService.getCurrentStoreId();
+        
+        logger.info("Retrieving products page for store {} (size: {}, sort: {} {}, filter: {})",
+                storeId, pageSize, sort, descending ? "desc" : "asc", filter);
+        
+        // Fetch one extra row to know whether another page exists
+        List<ProductSummary> products = productRepository.findPageByStoreId(
+                storeId, filter != null ? filter : ProductFilter.none(), sort, descending, cursor, pageSize + 1);
+        boolean hasMore = products.size() > pageSize;
+        List<ProductSummary> page = hasMore ? products.subList(0, pageSize) : products;
+        
+        String nextCursor = hasMore
+                ? ProductCursor.after(page.get(page.size() - 1), sort, descending).toToken()
+                : null;
+        
+        List<ProductResponse> responses = page.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        
+        return new ProductPageResponse(responses, nextCursor, hasMore);
+    }
+    
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+    
+    private ProductSort resolveSort(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return ProductSort.NAME;
+        }
+        return switch (sortBy.trim().toLowerCase(Locale.ROOT)) {
+            case "name" -> ProductSort.NAME;
+            case "price" -> ProductSort.PRICE;
+            case "stock", "quantity" -> ProductSort.STOCK;
+            case "createdat", "created_at" -> ProductSort.CREATED_AT;
+            default -> throw new IllegalArgumentException(
+                    "Invalid sort: " + sortBy + ". Use 'name', 'price', 'stock' or 'createdAt'");
+        };
+    }
+    
+    private boolean resolveDescending(String direction) {
+        if (direction == null || direction.isBlank() || direction.trim().equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (direction.trim().equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Invalid direction: " + direction + ". Use 'asc' or 'desc'");
+    }
+    
+    private ProductResponse mapToResponse(ProductSummary product) {
+        return new ProductResponse(
+                product.getProductId(),
+                product.getName(),
+                product.getBrand(),
+                product.getCategoryNumber(),
+                product.getSize(),
+                product.getPrice(),
+                product.getQuantity(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
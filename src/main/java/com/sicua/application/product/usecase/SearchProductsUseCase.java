@@ -0,0 +1,90 @@
+package com.sicua.application.product.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.product.dto.ProductResponse;
+import com.sicua.application.product.dto.ProductSearchResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for searching products by name, brand, size or category name.
+ * Matching runs in the database one page at a time instead of sending the whole catalogue to the client.
+ */
+@Service
+public class SearchProductsUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SearchProductsUseCase.class);
+    
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 100;
+    
+    private final ProductRepository productRepository;
+    private final SessionService sessionService;
+    
+    public SearchProductsUseCase(ProductRepository productRepository, SessionService sessionService) {
+        this.productRepository = productRepository;
+        this.sessionService = sessionService;
+    }
+    
+    @Transactional(readOnly = true)
+    public ProductSearchResponse execute(String query, Integer page, Integer size) {
+        String text = query != null ? query.trim() : "";
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("Search text is required");
+        }
+        if (text.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search text must not exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        int pageSize = resolvePageSize(size);
+        String storeId = sessionService.getCurrentStoreId();
+        
+        logger.info("Searching products for store {} (text: '{}', page: {}, size: {})", storeId, text, pageNumber, pageSize);
+        
+        // Fetch one extra row to know whether another page exists
+        List<Product> products = productRepository.searchByStoreId(storeId, text, pageNumber * pageSize, pageSize + 1);
+        boolean hasMore = products.size() > pageSize;
+        List<Product> pageProducts = hasMore ? products.subList(0, pageSize) : products;
+        
+        List<ProductResponse> responses = pageProducts.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        
+        return new ProductSearchResponse(text, pageNumber, pageSize, hasMore, responses);
+    }
+    
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+    
+    private ProductResponse mapToResponse(Product product) {
+        return new ProductResponse(
+                product.getProductId().getValue(),
+                product.getName(),
+                product.getBrand(),
+                product.getCategoryNumber(),
+                product.getSize(),
+                product.getPrice(),
+                product.getQuantity(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Venta dentro de un lote, normalmente registrada sin conexión y sincronizada después")
+public class BatchSaleRequest extends CreateSaleRequest {
+    
+    @Schema(description = "Clave única de la venta generada por el cliente; la misma clave que en POST /api/sales",
+            example = "0b6f7c1e-3f1a-4f3e-9a57-2d1c8e5b9a10")
+    @Size(max = 100, message = "Idempotency key must have at most 100 characters")
+    private String idempotencyKey;
+    
+    @Schema(description = "Fecha y hora en que se realizó la venta; si se omite se usa la fecha de sincronización",
+            example = "2025-01-26T14:30:00")
+    @PastOrPresent(message = "Sale date cannot be in the future")
+    private LocalDateTime date;
+
+    public BatchSaleRequest() {}
+
+    public BatchSaleRequest(String clientDni, String clientName, List<SaleItemRequest> items,
+                            String idempotencyKey, LocalDateTime date) {
+        super(clientDni, clientName, items);
+        this.idempotencyKey = idempotencyKey;
+        this.date = date;
+    }
+
+    // Getters and Setters
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDateTime date) {
+        this.date = date;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sicua.application.sale.dto;
+
+/**
+ * Outcome of one sale of a batch
+ */
+public enum BatchSaleStatus {
+    /** The sale was created by this batch */
+    CREATED,
+    /** The idempotency key was already used for the same sale, the stored sale is returned */
+    REPLAYED,
+    /** The sale was not created, the error explains why */
+    REJECTED
+}
@@ -0,0 +1,33 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Lote ordenado de ventas a registrar")
+public class CreateSalesBatchRequest {
+    
+    @Schema(description = "Ventas en el orden en que se realizaron; el stock se asigna en ese orden")
+    @NotEmpty(message = "Batch must have at least one sale")
+    @Size(max = 500, message = "Batch cannot have more than 500 sales")
+    @Valid
+    private List<BatchSaleRequest> sales;
+
+    public CreateSalesBatchRequest() {}
+
+    public CreateSalesBatchRequest(List<BatchSaleRequest> sales) {
+        this.sales = sales;
+    }
+
+    // Getters and Setters
+    public List<BatchSaleRequest> getSales() {
+        return sales;
+    }
+
+    public void setSales(List<BatchSaleRequest> sales) {
+        this.sales = sales;
+    }
+}
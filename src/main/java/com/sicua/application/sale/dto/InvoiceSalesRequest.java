@@ -0,0 +1,54 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Ventas a marcar como facturadas: una lista de IDs o un rango de fechas, no ambos")
+public class InvoiceSalesRequest {
+    
+    @Schema(description = "IDs de las ventas a facturar", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+    @Size(max = 1000, message = "Cannot invoice more than 1000 sales by ID at once")
+    private List<String> saleIds;
+    
+    @Schema(description = "Primer día del rango (inclusive); factura todas las ventas pendientes del rango", example = "2025-01-01")
+    private LocalDate from;
+    
+    @Schema(description = "Último día del rango (inclusive)", example = "2025-01-31")
+    private LocalDate to;
+
+    public InvoiceSalesRequest() {}
+
+    public InvoiceSalesRequest(List<String> saleIds, LocalDate from, LocalDate to) {
+        this.saleIds = saleIds;
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public List<String> getSaleIds() {
+        return saleIds;
+    }
+
+    public void setSaleIds(List<String> saleIds) {
+        this.saleIds = saleIds;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Resultado de una facturación masiva")
+public class InvoiceSalesResponse {
+
+    @Schema(description = "Cantidad de ventas marcadas como facturadas", example = "42")
+    private int invoiced;
+
+    @Schema(description = "IDs enviados que no se marcaron porque ya estaban facturados o no existen; 0 al facturar por fechas", example = "3")
+    private int skipped;
+
+    @Schema(description = "Monto total de las ventas marcadas", example = "12599.50")
+    private BigDecimal amount;
+
+    @Schema(description = "Cantidad de días con ventas marcadas", example = "31")
+    private int days;
+
+    public InvoiceSalesResponse() {}
+
+    public InvoiceSalesResponse(int invoiced, int skipped, BigDecimal amount, int days) {
+        this.invoiced = invoiced;
+        this.skipped = skipped;
+        this.amount = amount;
+        this.days = days;
+    }
+
+    // Getters and Setters
+    public int getInvoiced() {
+        return invoiced;
+    }
+
+    public void setInvoiced(int invoiced) {
+        this.invoiced = invoiced;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(int days) {
+        this.days = days;
+    }
+}
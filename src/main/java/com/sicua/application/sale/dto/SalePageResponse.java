@@ -0,0 +1,51 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de ventas obtenida mediante paginación por cursor")
+public class SalePageResponse {
+
+    @Schema(description = "Ventas de la página, de la más reciente a la más antigua")
+    private List<SaleResponse> sales;
+
+    @Schema(description = "Cursor para solicitar la siguiente página; nulo si no hay más ventas", example = "MjAyNS0wMS0yNlQxNDozMDowMHwxMjNlNDU2Nw")
+    private String nextCursor;
+
+    @Schema(description = "Indica si existen más ventas después de esta página", example = "true")
+    private boolean hasMore;
+
+    public SalePageResponse() {}
+
+    public SalePageResponse(List<SaleResponse> sales, String nextCursor, boolean hasMore) {
+        this.sales = sales;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<SaleResponse> getSales() {
+        return sales;
+    }
+
+    public void setSales(List<SaleResponse> sales) {
+        this.sales = sales;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
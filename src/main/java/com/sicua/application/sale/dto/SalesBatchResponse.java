@@ -0,0 +1,132 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado de un lote de ventas, con una entrada por venta en el orden recibido")
+public class SalesBatchResponse {
+
+    @Schema(description = "Cantidad de ventas creadas", example = "498")
+    private int created;
+
+    @Schema(description = "Cantidad de ventas ya registradas con la misma clave de idempotencia", example = "1")
+    private int replayed;
+
+    @Schema(description = "Cantidad de ventas rechazadas", example = "1")
+    private int rejected;
+
+    @Schema(description = "Resultado de cada venta del lote")
+    private List<BatchSaleResult> results;
+
+    public SalesBatchResponse() {}
+
+    public SalesBatchResponse(int created, int replayed, int rejected, List<BatchSaleResult> results) {
+        this.created = created;
+        this.replayed = replayed;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getReplayed() {
+        return replayed;
+    }
+
+    public void setReplayed(int replayed) {
+        this.replayed = replayed;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BatchSaleResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchSaleResult> results) {
+        this.results = results;
+    }
+
+    @Schema(description = "Resultado de una venta del lote")
+    public static class BatchSaleResult {
+
+        @Schema(description = "Posición de la venta en el lote, empezando en 0", example = "0")
+        private int index;
+
+        @Schema(description = "Clave de idempotencia enviada con la venta", example = "0b6f7c1e-3f1a-4f3e-9a57-2d1c8e5b9a10")
+        private String idempotencyKey;
+
+        @Schema(description = "Resultado de la venta", example = "CREATED")
+        private BatchSaleStatus status;
+
+        @Schema(description = "Venta creada o ya registrada; nula si fue rechazada")
+        private SaleResponse sale;
+
+        @Schema(description = "Motivo del rechazo", example = "Insufficient stock for products: PROD-001")
+        private String error;
+
+        public BatchSaleResult() {}
+
+        public BatchSaleResult(int index, String idempotencyKey, BatchSaleStatus status, SaleResponse sale, String error) {
+            this.index = index;
+            this.idempotencyKey = idempotencyKey;
+            this.status = status;
+            this.sale = sale;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public String getIdempotencyKey() {
+            return idempotencyKey;
+        }
+
+        public void setIdempotencyKey(String idempotencyKey) {
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        public BatchSaleStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(BatchSaleStatus status) {
+            this.status = status;
+        }
+
+        public SaleResponse getSale() {
+            return sale;
+        }
+
+        public void setSale(SaleResponse sale) {
+            this.sale = sale;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Indicadores de ventas de un rango de fechas")
+public class SalesSummaryResponse {
+    
+    @Schema(description = "Primer día del rango", example = "2025-01-01")
+    private LocalDate from;
+    
+    @Schema(description = "Último día del rango", example = "2025-01-31")
+    private LocalDate to;
+    
+    @Schema(description = "Cantidad de ventas (tickets)", example = "1250")
+    private int saleCount;
+    
+    @Schema(description = "Unidades vendidas", example = "2890")
+    private int itemUnits;
+    
+    @Schema(description = "Monto total vendido", example = "98500.00")
+    private BigDecimal totalAmount;
+    
+    @Schema(description = "Monto facturado", example = "80200.00")
+    private BigDecimal invoicedAmount;
+    
+    @Schema(description = "Monto por facturar", example = "18300.00")
+    private BigDecimal pendingAmount;
+    
+    @Schema(description = "Ticket promedio", example = "78.80")
+    private BigDecimal averageTicket;
+    
+    @Schema(description = "Totales por día (solo días con ventas)")
+    private List<DailySalesResponse> days;
+
+    public SalesSummaryResponse() {}
+
+    public SalesSummaryResponse(LocalDate from, LocalDate to, int saleCount, int itemUnits, BigDecimal totalAmount, BigDecimal invoicedAmount, BigDecimal pendingAmount, BigDecimal averageTicket, List<DailySalesResponse> days) {
+        this.from = from;
+        this.to = to;
+        this.saleCount = saleCount;
+        this.itemUnits = itemUnits;
+        this.totalAmount = totalAmount;
+        this.invoicedAmount = invoicedAmount;
+        this.pendingAmount = pendingAmount;
+        this.averageTicket = averageTicket;
+        this.days = days;
+    }
+
+    // Getters and Setters
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public int getSaleCount() {
+        return saleCount;
+    }
+
+    public void setSaleCount(int saleCount) {
+        this.saleCount = saleCount;
+    }
+
+    public int getItemUnits() {
+        return itemUnits;
+    }
+
+    public void setItemUnits(int itemUnits) {
+        this.itemUnits = itemUnits;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public BigDecimal getInvoicedAmount() {
+        return invoicedAmount;
+    }
+
+    public void setInvoicedAmount(BigDecimal invoicedAmount) {
+        this.invoicedAmount = invoicedAmount;
+    }
+
+    public BigDecimal getPendingAmount() {
+        return pendingAmount;
+    }
+
+    public void setPendingAmount(BigDecimal pendingAmount) {
+        this.pendingAmount = pendingAmount;
+    }
+
+    public BigDecimal getAverageTicket() {
+        return averageTicket;
+    }
+
+    public void setAverageTicket(BigDecimal averageTicket) {
+        this.averageTicket = averageTicket;
+    }
+
+    public List<DailySalesResponse> getDays() {
+        return days;
+    }
+
+    public void setDays(List<DailySalesResponse> days) {
+        this.days = days;
+    }
+
+    @Schema(description = "Totales de ventas de un día")
+    public static class DailySalesResponse {
+        @Schema(description = "Día", example = "2025-01-26")
+        private LocalDate day;
+        
+        @Schema(description = "Cantidad de ventas (tickets)", example = "42")
+        private int saleCount;
+        
+        @Schema(description = "Unidades vendidas", example = "97")
+        private int itemUnits;
+        
+        @Schema(description = "Monto total vendido", example = "3520.50")
+        private BigDecimal totalAmount;
+        
+        @Schema(description = "Monto facturado", example = "2100.00")
+        private BigDecimal invoicedAmount;
+        
+        @Schema(description = "Monto por facturar", example = "1420.50")
+        private BigDecimal pendingAmount;
+
+        public DailySalesResponse() {}
+
+        public DailySalesResponse(LocalDate day, int saleCount, int itemUnits, BigDecimal totalAmount, BigDecimal invoicedAmount, BigDecimal pendingAmount) {
+            this.day = day;
+            this.saleCount = saleCount;
+            this.itemUnits = itemUnits;
+            this.totalAmount = totalAmount;
+            this.invoicedAmount = invoicedAmount;
+            this.pendingAmount = pendingAmount;
+        }
+
+        // Getters and Setters
+        public LocalDate getDay() {
+            return day;
+        }
+
+        public void setDay(LocalDate day) {
+            this.day = day;
+        }
+
+        public int getSaleCount() {
+            return saleCount;
+        }
+
+        public void setSaleCount(int saleCount) {
+            this.saleCount = saleCount;
+        }
+
+        public int getItemUnits() {
+            return itemUnits;
+        }
+
+        public void setItemUnits(int itemUnits) {
+            this.itemUnits = itemUnits;
+        }
+
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        public void setTotalAmount(BigDecimal totalAmount) {
+            this.totalAmount = totalAmount;
+        }
+
+        public BigDecimal getInvoicedAmount() {
+            return invoicedAmount;
+        }
+
+        public void setInvoicedAmount(BigDecimal invoicedAmount) {
+            this.invoicedAmount = invoicedAmount;
+        }
+
+        public BigDecimal getPendingAmount() {
+            return pendingAmount;
+        }
+
+        public void setPendingAmount(BigDecimal pendingAmount) {
+            this.pendingAmount = pendingAmount;
+        }
+    }
+}
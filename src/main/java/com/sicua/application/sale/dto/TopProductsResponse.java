@@ -0,0 +1,158 @@
+package com.sicua.application.sale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Productos más vendidos de un periodo")
+public class TopProductsResponse {
+    
+    @Schema(description = "Primer día del periodo", example = "2025-01-01")
+    private LocalDate from;
+    
+    @Schema(description = "Último día del periodo", example = "2025-01-30")
+    private LocalDate to;
+    
+    @Schema(description = "Criterio de orden: units o revenue", example = "units")
+    private String rankBy;
+    
+    @Schema(description = "Días del periodo", example = "30")
+    private long days;
+    
+    @Schema(description = "Productos más vendidos, de mayor a menor")
+    private List<ProductSalesResponse> products;
+
+    public TopProductsResponse() {}
+
+    public TopProductsResponse(LocalDate from, LocalDate to, String rankBy, long days, List<ProductSalesResponse> products) {
+        this.from = from;
+        this.to = to;
+        this.rankBy = rankBy;
+        this.days = days;
+        this.products = products;
+    }
+
+    // Getters and Setters
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public String getRankBy() {
+        return rankBy;
+    }
+
+    public void setRankBy(String rankBy) {
+        this.rankBy = rankBy;
+    }
+
+    public long getDays() {
+        return days;
+    }
+
+    public void setDays(long days) {
+        this.days = days;
+    }
+
+    public List<ProductSalesResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductSalesResponse> products) {
+        this.products = products;
+    }
+
+    @Schema(description = "Ventas de un producto en el periodo")
+    public static class ProductSalesResponse {
+        @Schema(description = "ID del producto", example = "PROD-001")
+        private String productId;
+        
+        @Schema(description = "Nombre del producto", example = "Polo básico")
+        private String name;
+        
+        @Schema(description = "Unidades vendidas en el periodo", example = "120")
+        private long units;
+        
+        @Schema(description = "Monto vendido en el periodo", example = "3588.00")
+        private BigDecimal revenue;
+        
+        @Schema(description = "Ventas que incluyeron el producto", example = "95")
+        private long saleCount;
+        
+        @Schema(description = "Velocidad de venta (unidades por día)", example = "4.00")
+        private BigDecimal unitsPerDay;
+
+        public ProductSalesResponse() {}
+
+        public ProductSalesResponse(String productId, String name, long units, BigDecimal revenue, long saleCount, BigDecimal unitsPerDay) {
+            this.productId = productId;
+            this.name = name;
+            this.units = units;
+            this.revenue = revenue;
+            this.saleCount = saleCount;
+            this.unitsPerDay = unitsPerDay;
+        }
+
+        // Getters and Setters
+        public String getProductId() {
+            return productId;
+        }
+
+        public void setProductId(String productId) {
+            this.productId = productId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getUnits() {
+            return units;
+        }
+
+        public void setUnits(long units) {
+            this.units = units;
+        }
+
+        public BigDecimal getRevenue() {
+            return revenue;
+        }
+
+        public void setRevenue(BigDecimal revenue) {
+            this.revenue = revenue;
+        }
+
+        public long getSaleCount() {
+            return saleCount;
+        }
+
+        public void setSaleCount(long saleCount) {
+            this.saleCount = saleCount;
+        }
+
+        public BigDecimal getUnitsPerDay() {
+            return unitsPerDay;
+        }
+
+        public void setUnitsPerDay(BigDecimal unitsPerDay) {
+            this.unitsPerDay = unitsPerDay;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sicua.application.sale.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleResponse;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashes sale requests and serializes the responses stored for idempotency keys,
+ * shared by the single and batch sale endpoints so a key means the same sale on both.
+ */
+@Component
+public class SaleIdempotencyCodec {
+    
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    
+    private final ObjectMapper objectMapper;
+    
+    public SaleIdempotencyCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * @throws IllegalArgumentException if the key is blank or too long
+     */
+    public void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+    }
+    
+    /**
+     * SHA-256 of the sale fields only, so subclasses carrying extra batch fields hash like the plain request
+     */
+    public String hash(CreateSaleRequest request) {
+        CreateSaleRequest sale = new CreateSaleRequest(request.getClientDni(), request.getClientName(), request.getItems());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsString(sale).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash sale request: " + e.getMessage(), e);
+        }
+    }
+    
+    public String toJson(SaleResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to store sale response: " + e.getMessage(), e);
+        }
+    }
+    
+    public SaleResponse fromJson(String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, SaleResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to read stored sale response: " + e.getMessage(), e);
+        }
+    }
+}
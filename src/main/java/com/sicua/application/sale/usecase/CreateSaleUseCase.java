@@ -3,11 +3,15 @@ package com.sicua.application.sale.usecase;
 import com.sicua.application.sale.dto.CreateSaleRequest;
 import com.sicua.application.sale.dto.SaleItemRequest;
 import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.application.sale.service.SaleIdempotencyCodec;
 import com.sicua.domain.product.valueobject.ProductId;
 import com.sicua.domain.sale.entity.Sale;
 import com.sicua.domain.sale.entity.SaleItem;
+import com.sicua.domain.sale.repository.SaleIdempotencyRepository;
 import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
 import com.sicua.domain.sale.service.SaleDomainService;
+import com.sicua.domain.sale.valueobject.IdempotentSale;
 import com.sicua.domain.sale.valueobject.SaleId;
 import com.sicua.application.auth.SessionService;
 import org.slf4j.Logger;
@@ -16,10 +20,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Use case for creating a new sale
+ * 
+ * With an idempotency key the first response is stored next to the sale, in the same transaction,
+ * and retries with the same key get that response back after one primary key lookup.
  */
 @Service
 public class CreateSaleUseCase {
@@ -29,15 +37,64 @@ public class CreateSaleUseCase {
     private final SaleRepository saleRepository;
     private final SaleDomainService saleDomainService;
     private final SessionService sessionService;
+    private final SalesRollupRepository salesRollupRepository;
+    private final SaleIdempotencyRepository saleIdempotencyRepository;
+    private final SaleIdempotencyCodec saleIdempotencyCodec;
     
-    public CreateSaleUseCase(SaleRepository saleRepository, SaleDomainService saleDomainService, SessionService sessionService) {
+    public CreateSaleUseCase(SaleRepository saleRepository, SaleDomainService saleDomainService, SessionService sessionService,
+                             SalesRollupRepository salesRollupRepository, SaleIdempotencyRepository saleIdempotencyRepository,
+                             SaleIdempotencyCodec saleIdempotencyCodec) {
         this.saleRepository = saleRepository;
         this.saleDomainService = saleDomainService;
         this.sessionService = sessionService;
+        this.salesRollupRepository = salesRollupRepository;
+        this.saleIdempotencyRepository = saleIdempotencyRepository;
+        this.saleIdempotencyCodec = saleIdempotencyCodec;
     }
     
     @Transactional
     public SaleResponse execute(CreateSaleRequest request) {
+        return execute(request, null);
+    }
+    
+    /**
+     * @param idempotencyKey key chosen by the client for this sale and reused on retries, or null
+     */
+    @Transactional
+    public SaleResponse execute(CreateSaleRequest request, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createSale(request);
+        }
+        saleIdempotencyCodec.validateKey(idempotencyKey);
+        
+        String storeId = sessionService.getCurrentStoreId();
+        String requestHash = saleIdempotencyCodec.hash(request);
+        
+        // Retries are answered from the stored response without touching the sale write path
+        Optional<IdempotentSale> stored = saleIdempotencyRepository.findByKey(storeId, idempotencyKey);
+        if (stored.isEmpty()) {
+            if (saleIdempotencyRepository.claim(storeId, idempotencyKey, requestHash)) {
+                SaleResponse response = createSale(request);
+                saleIdempotencyRepository.complete(storeId, idempotencyKey, SaleId.of(response.getId()),
+                        saleIdempotencyCodec.toJson(response));
+                return response;
+            }
+            // Another request claimed the key first and has committed by now
+            stored = saleIdempotencyRepository.findByKey(storeId, idempotencyKey);
+        }
+        
+        IdempotentSale idempotentSale = stored
+                .filter(IdempotentSale::isCompleted)
+                .orElseThrow(() -> new IllegalStateException("A sale with this idempotency key is still being processed"));
+        if (!idempotentSale.matches(requestHash)) {
+            throw new IllegalArgumentException("Idempotency key was already used for a different sale");
+        }
+        
+        logger.info("Replaying sale {} for idempotency key {}", idempotentSale.getSaleId().getValue(), idempotencyKey);
+        return saleIdempotencyCodec.fromJson(idempotentSale.getResponseBody());
+    }
+    
+    private SaleResponse createSale(CreateSaleRequest request) {
         logger.info("Creating new sale for client: {}", request.getClientName());
         
         try {
@@ -62,6 +119,7 @@ public class CreateSaleUseCase {
             saleDomainService.reduceStockForSale(sale);
             
             Sale savedSale = saleRepository.save(sale);
+            salesRollupRepository.recordSale(savedSale);
             
             logger.info("Sale created successfully with ID: {}", savedSale.getId().getValue());
             
@@ -0,0 +1,332 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.BatchSaleRequest;
+import com.sicua.application.sale.dto.BatchSaleStatus;
+import com.sicua.application.sale.dto.CreateSalesBatchRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.application.sale.dto.SalesBatchResponse;
+import com.sicua.application.sale.dto.SalesBatchResponse.BatchSaleResult;
+import com.sicua.application.sale.service.SaleIdempotencyCodec;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.entity.SaleItem;
+import com.sicua.domain.sale.repository.SaleIdempotencyRepository;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import com.sicua.domain.sale.valueobject.IdempotentSale;
+import com.sicua.domain.sale.valueobject.SaleId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for creating an ordered batch of sales, such as the sales a till queued while it was offline
+ *
+ * The batch runs in one transaction with a fixed number of statements whatever its size: the products of
+ * every sale are locked once, stock is assigned to the sales in the order received, and the accepted sales,
+ * their items, the stock decrements added up per product and the daily totals are written as batches.
+ * A sale that cannot be created is rejected on its own and the rest of the batch goes on.
+ */
+@Service
+public class CreateSalesBatchUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CreateSalesBatchUseCase.class);
+    
+    public static final int MAX_BATCH_SIZE = 500;
+    
+    private final SaleRepository saleRepository;
+    private final ProductRepository productRepository;
+    private final SalesRollupRepository salesRollupRepository;
+    private final SaleIdempotencyRepository saleIdempotencyRepository;
+    private final SaleIdempotencyCodec saleIdempotencyCodec;
+    private final SessionService sessionService;
+    
+    public CreateSalesBatchUseCase(SaleRepository saleRepository, ProductRepository productRepository,
+                                   SalesRollupRepository salesRollupRepository, SaleIdempotencyRepository saleIdempotencyRepository,
+                                   SaleIdempotencyCodec saleIdempotencyCodec, SessionService sessionService) {
+        this.saleRepository = saleRepository;
+        this.productRepository = productRepository;
+        this.salesRollupRepository = salesRollupRepository;
+        this.saleIdempotencyRepository = saleIdempotencyRepository;
+        this.saleIdempotencyCodec = saleIdempotencyCodec;
+        this.sessionService = sessionService;
+    }
+    
+    @Transactional
+    public SalesBatchResponse execute(CreateSalesBatchRequest request) {
+        List<BatchSaleRequest> requests = request.getSales();
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must have between 1 and " + MAX_BATCH_SIZE + " sales");
+        }
+        
+        String storeId = sessionService.getCurrentStoreId();
+        logger.info("Creating batch of {} sales for store: {}", requests.size(), storeId);
+        
+        try {
+            BatchSaleResult[] results = new BatchSaleResult[requests.size()];
+            Map<String, Integer> claimedKeys = claimIdempotencyKeys(storeId, requests, results);
+            Map<Integer, Sale> sales = assignStock(storeId, requests, results);
+            
+            // Stock was checked against locked rows, a shortfall here means the locks did not hold
+            Map<ProductId, Integer> soldQuantities = new HashMap<>();
+            sales.values().forEach(sale -> sale.getItems().forEach(item ->
+                    soldQuantities.merge(item.getProductId(), item.getQuantity(), Integer::sum)));
+            List<ProductId> shortfalls = productRepository.decrementStock(soldQuantities, storeId);
+            if (!shortfalls.isEmpty()) {
+                throw new IllegalStateException("Insufficient stock for products: " + shortfalls.stream()
+                        .map(ProductId::getValue)
+                        .collect(Collectors.joining(", ")));
+            }
+            
+            List<Sale> createdSales = new ArrayList<>(sales.values());
+            saleRepository.insertAll(createdSales);
+            salesRollupRepository.recordSales(createdSales);
+            
+            Map<String, IdempotentSale> completed = new HashMap<>();
+            List<String> released = new ArrayList<>();
+            claimedKeys.forEach((key, index) -> {
+                Sale sale = sales.get(index);
+                if (sale == null) {
+                    released.add(key);
+                    return;
+                }
+                SaleResponse response = mapToResponse(sale);
+                results[index] = new BatchSaleResult(index, key, BatchSaleStatus.CREATED, response, null);
+                completed.put(key, new IdempotentSale(saleIdempotencyCodec.hash(requests.get(index)), sale.getId(),
+                        saleIdempotencyCodec.toJson(response), sale.getCreatedAt()));
+            });
+            saleIdempotencyRepository.completeAll(storeId, completed);
+            // Rejected sales give their key back so the client can retry them
+            saleIdempotencyRepository.release(storeId, released);
+            
+            sales.forEach((index, sale) -> {
+                if (results[index] == null) {
+                    results[index] = new BatchSaleResult(index, null, BatchSaleStatus.CREATED, mapToResponse(sale), null);
+                }
+            });
+            
+            SalesBatchResponse response = toResponse(results);
+            logger.info("Sales batch processed: {} created, {} replayed, {} rejected",
+                    response.getCreated(), response.getReplayed(), response.getRejected());
+            return response;
+        
+        } catch (IllegalStateException e) {
+            logger.warn("Sales batch failed: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error creating sales batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to create sales batch: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Answers the sales whose key was already used and claims the other keys with one batch
+     * @return index of the sale each claimed key belongs to
+     */
+    private Map<String, Integer> claimIdempotencyKeys(String storeId, List<BatchSaleRequest> requests, BatchSaleResult[] results) {
+        Map<String, Integer> indexByKey = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String key = requests.get(i).getIdempotencyKey();
+            if (key == null) {
+                continue;
+            }
+            try {
+                saleIdempotencyCodec.validateKey(key);
+            } catch (IllegalArgumentException e) {
+                results[i] = rejected(i, key, e.getMessage());
+                continue;
+            }
+            if (indexByKey.putIfAbsent(key, i) != null) {
+                results[i] = rejected(i, key, "Idempotency key is repeated in the batch");
+            }
+        }
+        if (indexByKey.isEmpty()) {
+            return indexByKey;
+        }
+        
+        Map<String, String> requestHashes = new HashMap<>();
+        indexByKey.forEach((key, index) -> requestHashes.put(key, saleIdempotencyCodec.hash(requests.get(index))));
+        
+        Map<String, IdempotentSale> stored = saleIdempotencyRepository.findByKeys(storeId, indexByKey.keySet());
+        Map<String, String> unused = new HashMap<>(requestHashes);
+        unused.keySet().removeAll(stored.keySet());
+        Set<String> claimed = saleIdempotencyRepository.claimAll(storeId, unused);
+        
+        // Keys claimed by another request in the meantime are answered like the ones found at first
+        unused.keySet().removeAll(claimed);
+        if (!unused.isEmpty()) {
+            stored.putAll(saleIdempotencyRepository.findByKeys(storeId, unused.keySet()));
+        }
+        
+        Map<String, Integer> claimedKeys = new LinkedHashMap<>();
+        indexByKey.forEach((key, index) -> {
+            if (claimed.contains(key)) {
+                claimedKeys.put(key, index);
+            } else {
+                results[index] = replay(index, key, requestHashes.get(key), stored.get(key));
+            }
+        });
+        return claimedKeys;
+    }
+    
+    private BatchSaleResult replay(int index, String key, String requestHash, IdempotentSale stored) {
+        if (stored == null || !stored.isCompleted()) {
+            return rejected(index, key, "A sale with this idempotency key is still being processed");
+        }
+        if (!stored.matches(requestHash)) {
+            return rejected(index, key, "Idempotency key was already used for a different sale");
+        }
+        return new BatchSaleResult(index, key, BatchSaleStatus.REPLAYED,
+                saleIdempotencyCodec.fromJson(stored.getResponseBody()), null);
+    }
+    
+    /**
+     * Locks the products of the pending sales and gives each sale its stock in batch order
+     * @return the accepted sales by index, in batch order
+     */
+    private Map<Integer, Sale> assignStock(String storeId, List<BatchSaleRequest> requests, BatchSaleResult[] results) {
+        Map<Integer, Sale> pending = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            try {
+                pending.put(i, mapToSale(requests.get(i), storeId));
+            } catch (IllegalArgumentException e) {
+                results[i] = rejected(i, requests.get(i).getIdempotencyKey(), e.getMessage());
+            }
+        }
+        
+        List<ProductId> productIds = pending.values().stream()
+                .flatMap(sale -> sale.getItems().stream())
+                .map(SaleItem::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<ProductId, Integer> stock = new HashMap<>();
+        if (!productIds.isEmpty()) {
+            productRepository.lockAllByIdsAndStoreId(productIds, storeId)
+                    .forEach(product -> stock.put(product.getProductId(), product.getQuantity()));
+        }
+        
+        Map<Integer, Sale> accepted = new LinkedHashMap<>();
+        pending.forEach((index, sale) -> {
+            Map<ProductId, Integer> quantities = new LinkedHashMap<>();
+            sale.getItems().forEach(item -> quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+            
+            String error = stockError(quantities, stock);
+            if (error != null) {
+                results[index] = rejected(index, requests.get(index).getIdempotencyKey(), error);
+                return;
+            }
+            quantities.forEach((productId, quantity) -> stock.merge(productId, -quantity, Integer::sum));
+            accepted.put(index, sale);
+        });
+        return accepted;
+    }
+    
+    private String stockError(Map<ProductId, Integer> quantities, Map<ProductId, Integer> stock) {
+        List<String> missing = new ArrayList<>();
+        List<String> shortfalls = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            Integer available = stock.get(productId);
+            if (available == null) {
+                missing.add(productId.getValue());
+            } else if (available < quantity) {
+                shortfalls.add(productId.getValue());
+            }
+        });
+        
+        if (!missing.isEmpty()) {
+            return "Product not found: " + String.join(", ", missing);
+        }
+        if (!shortfalls.isEmpty()) {
+            return "Insufficient stock for products: " + String.join(", ", shortfalls);
+        }
+        return null;
+    }
+    
+    private BatchSaleResult rejected(int index, String key, String error) {
+        return new BatchSaleResult(index, key, BatchSaleStatus.REJECTED, null, error);
+    }
+    
+    private SalesBatchResponse toResponse(BatchSaleResult[] results) {
+        Map<BatchSaleStatus, Long> counts = new HashMap<>();
+        for (BatchSaleResult result : results) {
+            counts.merge(result.getStatus(), 1L, Long::sum);
+        }
+        
+        return new SalesBatchResponse(
+                counts.getOrDefault(BatchSaleStatus.CREATED, 0L).intValue(),
+                counts.getOrDefault(BatchSaleStatus.REPLAYED, 0L).intValue(),
+                counts.getOrDefault(BatchSaleStatus.REJECTED, 0L).intValue(),
+                List.of(results)
+        );
+    }
+    
+    private Sale mapToSale(BatchSaleRequest request, String storeId) {
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("Sale must have at least one item");
+        }
+        List<SaleItem> saleItems = request.getItems().stream()
+                .map(this::mapToSaleItem)
+                .collect(Collectors.toList());
+        
+        Sale sale = new Sale(
+                SaleId.generate(),
+                storeId,
+                request.getClientDni(),
+                request.getClientName(),
+                saleItems
+        );
+        
+        // Offline sales keep the time they were made
+        if (request.getDate() != null) {
+            sale.setDate(request.getDate());
+        }
+        return sale;
+    }
+    
+    private SaleItem mapToSaleItem(SaleItemRequest request) {
+        return new SaleItem(
+                ProductId.of(request.getProductId()),
+                request.getName(),
+                request.getPrice(),
+                request.getQuantity()
+        );
+    }
+    
+    private SaleResponse mapToResponse(Sale sale) {
+        List<SaleResponse.SaleItemResponse> itemResponses = sale.getItems().stream()
+                .map(item -> new SaleResponse.SaleItemResponse(
+                        item.getProductId().getValue(),
+                        item.getName(),
+                        item.getPrice(),
+                        item.getQuantity(),
+                        item.getSubtotal()
+                ))
+                .collect(Collectors.toList());
+        
+        return new SaleResponse(
+                sale.getId().getValue(),
+                sale.getClientDni(),
+                sale.getClientName(),
+                sale.getDate(),
+                itemResponses,
+                sale.getTotal(),
+                sale.getInvoiced(),
+                sale.getCreatedAt()
+        );
+    }
+}
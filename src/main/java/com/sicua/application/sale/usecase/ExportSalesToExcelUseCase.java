@@ -1,18 +1,23 @@
 package com.sicua.application.sale.usecase;
 
 import com.sicua.application.auth.SessionService;
+import com.sicua.application.excel.service.ExcelExport;
 import com.sicua.application.excel.service.ExcelProcessingService;
 import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.SaleCursor;
+import com.sicua.domain.sale.valueobject.SaleFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Use case for exporting filtered sales to Excel format
@@ -22,42 +27,49 @@ public class ExportSalesToExcelUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(ExportSalesToExcelUseCase.class);
     
+    private static final int EXPORT_PAGE_SIZE = 500;
+    
     private final ExcelProcessingService excelProcessingService;
-    private final GetAllSalesUseCase getAllSalesUseCase;
+    private final SaleRepository saleRepository;
     private final SessionService sessionService;
     
     public ExportSalesToExcelUseCase(ExcelProcessingService excelProcessingService,
-                                   GetAllSalesUseCase getAllSalesUseCase,
+                                   SaleRepository saleRepository,
                                    SessionService sessionService) {
         this.excelProcessingService = excelProcessingService;
-        this.getAllSalesUseCase = getAllSalesUseCase;
+        this.saleRepository = saleRepository;
         this.sessionService = sessionService;
     }
     
-    @Transactional(readOnly = true)
-    public byte[] execute(String dateFilterType, String startDate, String endDate, 
-                         String selectedMonth, String statusFilter) {
+    /**
+     * Prepare the export of the current store's sales matching the given filters.
+     * Sales are read page by page while the file is written, so memory use does not grow with the result.
+     * @throws IllegalArgumentException if a date or month filter cannot be parsed
+     */
+    public ExcelExport execute(String dateFilterType, String startDate, String endDate, 
+                               String selectedMonth, String statusFilter) {
         logger.info("Starting export of filtered sales to Excel. DateType: {}, Status: {}", 
                    dateFilterType, statusFilter);
         
+        // Malformed filters are the client's error, reported as such before anything is exported
+        SaleFilter filter = buildFilter(dateFilterType, startDate, endDate, selectedMonth, statusFilter);
+        
         try {
-            // Get all sales
-            List<SaleResponse> allSales = getAllSalesUseCase.execute();
-            logger.info("Retrieved {} total sales", allSales.size());
+            // Resolve the store while the request is still available
+            String storeId = sessionService.getCurrentStoreId();
             
-            // Apply filters
-            List<SaleResponse> filteredSales = applyFilters(allSales, dateFilterType, 
-                                                           startDate, endDate, selectedMonth, statusFilter);
-            logger.info("After filtering: {} sales", filteredSales.size());
-            
-            if (filteredSales.isEmpty()) {
-                logger.warn("No sales found after applying filters");
-                // Return empty Excel with headers only
-                return excelProcessingService.exportSalesToExcel(filteredSales);
-            }
-            
-            // Export to Excel
-            return excelProcessingService.exportSalesToExcel(filteredSales);
+            return outputStream -> {
+                // Filters are applied by the database, only matching sales are loaded
+                Stream<SaleResponse> filteredSales = salePages(storeId, filter)
+                        .flatMap(List::stream)
+                        .map(this::mapToResponse);
+                
+                int exported = excelProcessingService.writeSalesToExcel(filteredSales::iterator, outputStream);
+                if (exported == 0) {
+                    logger.warn("No sales found after applying filters {}", filter);
+                }
+                logger.info("Exported {} sales matching {}", exported, filter);
+            };
             
         } catch (Exception e) {
             logger.error("Error exporting sales to Excel: {}", e.getMessage(), e);
@@ -65,64 +77,81 @@ public class ExportSalesToExcelUseCase {
         }
     }
     
-    private List<SaleResponse> applyFilters(List<SaleResponse> sales, String dateFilterType,
-                                          String startDate, String endDate, String selectedMonth, 
-                                          String statusFilter) {
-        return sales.stream()
-                .filter(sale -> applyStatusFilter(sale, statusFilter))
-                .filter(sale -> applyDateFilter(sale, dateFilterType, startDate, endDate, selectedMonth))
-                .collect(Collectors.toList());
+    /**
+     * Lazily walks the matching sales one keyset page at a time
+     */
+    private Stream<List<Sale>> salePages(String storeId, SaleFilter filter) {
+        return Stream.iterate(
+                saleRepository.findPageByStoreId(storeId, filter, null, EXPORT_PAGE_SIZE),
+                page -> !page.isEmpty(),
+                page -> page.size() < EXPORT_PAGE_SIZE
+                        ? List.of()
+                        : saleRepository.findPageByStoreId(storeId, filter, cursorAfter(page), EXPORT_PAGE_SIZE)
+        );
     }
     
-    private boolean applyStatusFilter(SaleResponse sale, String statusFilter) {
-        switch (statusFilter) {
-            case "porFacturar":
-                return !sale.getInvoiced();
-            case "facturadas":
-                return sale.getInvoiced();
-            case "todas":
-            default:
-                return true;
-        }
+    private SaleCursor cursorAfter(List<Sale> page) {
+        Sale last = page.get(page.size() - 1);
+        return SaleCursor.of(last.getCreatedAt(), last.getId().getValue());
     }
     
-    private boolean applyDateFilter(SaleResponse sale, String dateFilterType,
-                                  String startDate, String endDate, String selectedMonth) {
-        if ("all".equals(dateFilterType)) {
-            return true;
-        }
+    /**
+     * Translates the export request parameters into a repository filter
+     */
+    private SaleFilter buildFilter(String dateFilterType, String startDate, String endDate,
+                                   String selectedMonth, String statusFilter) {
+        Boolean invoiced = resolveInvoicedStatus(statusFilter);
         
         try {
-            // Parse sale date - handle both UTC and local timezone scenarios
-            LocalDateTime saleDate = sale.getDate(); // SaleResponse.getDate() returns LocalDateTime directly
-            
             if ("dateRange".equals(dateFilterType)) {
-                if (startDate != null) {
-                    LocalDate start = LocalDate.parse(startDate);
-                    if (saleDate.toLocalDate().isBefore(start)) {
-                        return false;
-                    }
-                }
-                if (endDate != null) {
-                    LocalDate end = LocalDate.parse(endDate);
-                    if (saleDate.toLocalDate().isAfter(end)) {
-                        return false;
-                    }
-                }
-                return true;
+                return SaleFilter.forDays(
+                        startDate != null ? LocalDate.parse(startDate) : null,
+                        endDate != null ? LocalDate.parse(endDate) : null,
+                        invoiced
+                );
             } else if ("month".equals(dateFilterType) && selectedMonth != null) {
                 String[] yearMonth = selectedMonth.split("-");
-                int year = Integer.parseInt(yearMonth[0]);
-                int month = Integer.parseInt(yearMonth[1]);
-                
-                return saleDate.getYear() == year && saleDate.getMonthValue() == month;
+                YearMonth month = YearMonth.of(Integer.parseInt(yearMonth[0]), Integer.parseInt(yearMonth[1]));
+                return SaleFilter.forDays(month.atDay(1), month.atEndOfMonth(), invoiced);
             }
-            
-        } catch (Exception e) {
-            logger.error("Error parsing date for filtering: {}, Sale date: {}", e.getMessage(), sale.getDate());
+        } catch (DateTimeParseException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid date filter: " + e.getMessage(), e);
+        }
+        
+        return new SaleFilter(null, null, invoiced);
+    }
+    
+    private Boolean resolveInvoicedStatus(String statusFilter) {
+        if ("porFacturar".equals(statusFilter)) {
             return false;
         }
+        if ("facturadas".equals(statusFilter)) {
+            return true;
+        }
+        // "todas" or unknown values export every sale
+        return null;
+    }
+    
+    private SaleResponse mapToResponse(Sale sale) {
+        List<SaleResponse.SaleItemResponse> itemResponses = sale.getItems().stream()
+                .map(item -> new SaleResponse.SaleItemResponse(
+                        item.getProductId().getValue(),
+                        item.getName(),
+                        item.getPrice(),
+                        item.getQuantity(),
+                        item.getSubtotal()
+                ))
+                .collect(Collectors.toList());
         
-        return true;
+        return new SaleResponse(
+                sale.getId().getValue(),
+                sale.getClientDni(),
+                sale.getClientName(),
+                sale.getDate(),
+                itemResponses,
+                sale.getTotal(),
+                sale.getInvoiced(),
+                sale.getCreatedAt()
+        );
     }
 }
@@ -0,0 +1,95 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.SalePageResponse;
+import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.SaleCursor;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for retrieving sales one page at a time using keyset pagination
+ */
+@Service
+public class GetSalesPageUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GetSalesPageUseCase.class);
+    
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    
+    private final SaleRepository saleRepository;
+    private final SessionService sessionService;
+    
+    public GetSalesPageUseCase(SaleRepository saleRepository, SessionService sessionService) {
+        this.saleRepository = saleRepository;
+        this.sessionService = sessionService;
+    }
+    
+    @Transactional(readOnly = true)
+    public SalePageResponse execute(String cursorToken, Integer size, SaleFilter filter) {
+        int pageSize = resolvePageSize(size);
+        SaleCursor cursor = cursorToken != null && !cursorToken.isBlank() ? SaleCursor.fromToken(cursorToken) : null;
+        String storeId = sessionService.getCurrentStoreId();
+        
+        logger.info("Retrieving sales page for store {} (size: {}, filter: {})", storeId, pageSize, filter);
+        
+        // Fetch one extra row to know whether another page exists
+        List<Sale> sales = saleRepository.findPageByStoreId(storeId, filter, cursor, pageSize + 1);
+        boolean hasMore = sales.size() > pageSize;
+        List<Sale> page = hasMore ? sales.subList(0, pageSize) : sales;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            Sale last = page.get(page.size() - 1);
+            nextCursor = SaleCursor.of(last.getCreatedAt(), last.getId().getValue()).toToken();
+        }
+        
+        List<SaleResponse> responses = page.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+                
+        return new SalePageResponse(responses, nextCursor, hasMore);
+    }
+    
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+    
+    private SaleResponse mapToResponse(Sale sale) {
+        List<SaleResponse.SaleItemResponse> itemResponses = sale.getItems().stream()
+                .map(item -> new SaleResponse.SaleItemResponse(
+                        item.getProductId().getValue(),
+                        item.getName(),
+                        item.getPrice(),
+                        item.getQuantity(),
+                        item.getSubtotal()
+                ))
+                .collect(Collectors.toList());
+                
+        return new SaleResponse(
+                sale.getId().getValue(),
+                sale.getClientDni(),
+                sale.getClientName(),
+                sale.getDate(),
+                itemResponses,
+                sale.getTotal(),
+                sale.getInvoiced(),
+                sale.getCreatedAt()
+        );
+    }
+}
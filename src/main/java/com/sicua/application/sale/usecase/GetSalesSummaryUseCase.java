@@ -0,0 +1,84 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.SalesSummaryResponse;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import com.sicua.domain.sale.valueobject.DailySales;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for sales KPIs over a date range.
+ * Reads the daily rollup, so the cost grows with the number of days rather than the number of sales.
+ */
+@Service
+public class GetSalesSummaryUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GetSalesSummaryUseCase.class);
+    
+    private final SalesRollupRepository salesRollupRepository;
+    private final SessionService sessionService;
+    
+    public GetSalesSummaryUseCase(SalesRollupRepository salesRollupRepository, SessionService sessionService) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.sessionService = sessionService;
+    }
+    
+    /**
+     * @param from first day to include, defaults to the first day of the month of {@code to}
+     * @param to last day to include, defaults to today
+     */
+    public SalesSummaryResponse execute(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.withDayOfMonth(1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Summary start date must not be after its end date");
+        }
+        
+        String storeId = sessionService.getCurrentStoreId();
+        logger.info("Retrieving sales summary for store {} from {} to {}", storeId, start, end);
+        
+        List<DailySales> days = salesRollupRepository.findByStoreIdAndDayBetween(storeId, start, end);
+        
+        int saleCount = 0;
+        int itemUnits = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal invoicedAmount = BigDecimal.ZERO;
+        BigDecimal pendingAmount = BigDecimal.ZERO;
+        for (DailySales day : days) {
+            saleCount += day.getSaleCount();
+            itemUnits += day.getItemUnits();
+            totalAmount = totalAmount.add(day.getTotalAmount());
+            invoicedAmount = invoicedAmount.add(day.getInvoicedAmount());
+            pendingAmount = pendingAmount.add(day.getPendingAmount());
+        }
+        BigDecimal averageTicket = saleCount > 0
+                ? totalAmount.divide(BigDecimal.valueOf(saleCount), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        
+        List<SalesSummaryResponse.DailySalesResponse> dayResponses = days.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        
+        return new SalesSummaryResponse(start, end, saleCount, itemUnits, totalAmount, invoicedAmount,
+                pendingAmount, averageTicket, dayResponses);
+    }
+    
+    private SalesSummaryResponse.DailySalesResponse mapToResponse(DailySales day) {
+        return new SalesSummaryResponse.DailySalesResponse(
+                day.getDay(),
+                day.getSaleCount(),
+                day.getItemUnits(),
+                day.getTotalAmount(),
+                day.getInvoicedAmount(),
+                day.getPendingAmount()
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.sicua.application.sale.usecase;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.TopProductsResponse;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.ProductSales;
+import com.sicua.domain.sale.valueobject.ProductSalesRanking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for the best selling products of a period and how fast they sell.
+ * Sales are aggregated per product by one grouped query. Results are cached for a short time
+ * because dashboards ask the same question repeatedly.
+ */
+@Service
+public class GetTopProductsUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GetTopProductsUseCase.class);
+    
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+    public static final int DEFAULT_DAYS = 30;
+    
+    private final SaleRepository saleRepository;
+    private final SessionService sessionService;
+    private final Cache<String, TopProductsResponse> cache;
+    
+    public GetTopProductsUseCase(SaleRepository saleRepository, SessionService sessionService,
+                                 @Value("${sicua.analytics.top-products.cache-ttl-seconds:300}") long cacheTtlSeconds,
+                                 @Value("${sicua.analytics.top-products.cache-max-entries:1000}") long cacheMaxEntries) {
+        this.saleRepository = saleRepository;
+        this.sessionService = sessionService;
+        // A TTL of zero disables the cache
+        this.cache = cacheTtlSeconds > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                        .maximumSize(cacheMaxEntries)
+                        .build()
+                : null;
+    }
+    
+    /**
+     * @param from first day to include, defaults to {@value #DEFAULT_DAYS} days before {@code to}
+     * @param to last day to include, defaults to today
+     * @param rankBy "units" (default) or "revenue"
+     * @param limit number of products, defaults to {@value #DEFAULT_LIMIT}
+     */
+    public TopProductsResponse execute(LocalDate from, LocalDate to, String rankBy, Integer limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        ProductSalesRanking ranking = resolveRanking(rankBy);
+        int size = resolveLimit(limit);
+        String storeId = sessionService.getCurrentStoreId();
+        
+        if (cache == null) {
+            return loadTopProducts(storeId, start, end, ranking, size);
+        }
+        String key = storeId + "|" + start + "|" + end + "|" + ranking + "|" + size;
+        return cache.get(key, k -> loadTopProducts(storeId, start, end, ranking, size));
+    }
+    
+    private TopProductsResponse loadTopProducts(String storeId, LocalDate start, LocalDate end,
+                                                ProductSalesRanking ranking, int limit) {
+        logger.info("Computing top {} products by {} for store {} from {} to {}", limit, ranking, storeId, start, end);
+        
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        List<ProductSales> productSales = saleRepository.findTopProducts(
+                storeId, start.atStartOfDay(), end.plusDays(1).atStartOfDay(), ranking, limit);
+        
+        List<TopProductsResponse.ProductSalesResponse> products = productSales.stream()
+                .map(sales -> mapToResponse(sales, days))
+                .collect(Collectors.toList());
+        
+        return new TopProductsResponse(start, end, ranking.name().toLowerCase(Locale.ROOT), days, products);
+    }
+    
+    private ProductSalesRanking resolveRanking(String rankBy) {
+        if (rankBy == null || rankBy.isBlank()) {
+            return ProductSalesRanking.UNITS;
+        }
+        try {
+            return ProductSalesRanking.valueOf(rankBy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid ranking: " + rankBy + ". Use 'units' or 'revenue'");
+        }
+    }
+    
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+    
+    private TopProductsResponse.ProductSalesResponse mapToResponse(ProductSales sales, long days) {
+        return new TopProductsResponse.ProductSalesResponse(
+                sales.getProductId().getValue(),
+                sales.getName(),
+                sales.getUnits(),
+                sales.getRevenue(),
+                sales.getSaleCount(),
+                BigDecimal.valueOf(sales.getUnits()).divide(BigDecimal.valueOf(days), 2, RoundingMode.HALF_UP)
+        );
+    }
+}
@@ -4,7 +4,9 @@ import com.sicua.application.auth.SessionService;
 import com.sicua.application.sale.dto.SaleResponse;
 import com.sicua.domain.sale.entity.Sale;
 import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
 import com.sicua.domain.sale.service.SaleDomainService;
+import com.sicua.domain.sale.valueobject.DailyAmount;
 import com.sicua.domain.sale.valueobject.SaleId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +18,9 @@ import java.util.stream.Collectors;
 
 /**
  * Use case for marking a sale as invoiced
+ *
+ * The sale is marked with a conditional update on its pending row, so of two requests invoicing it at once
+ * only one moves its total to invoiced in the daily totals.
  */
 @Service
 public class MarkSaleAsInvoicedUseCase {
@@ -25,11 +30,14 @@ public class MarkSaleAsInvoicedUseCase {
     private final SaleRepository saleRepository;
     private final SaleDomainService saleDomainService;
     private final SessionService sessionService;
+    private final SalesRollupRepository salesRollupRepository;
     
-    public MarkSaleAsInvoicedUseCase(SaleRepository saleRepository, SaleDomainService saleDomainService, SessionService sessionService) {
+    public MarkSaleAsInvoicedUseCase(SaleRepository saleRepository, SaleDomainService saleDomainService, SessionService sessionService,
+                                     SalesRollupRepository salesRollupRepository) {
         this.saleRepository = saleRepository;
         this.saleDomainService = saleDomainService;
         this.sessionService = sessionService;
+        this.salesRollupRepository = salesRollupRepository;
     }
     
     @Transactional
@@ -47,12 +55,17 @@ public class MarkSaleAsInvoicedUseCase {
                 throw new IllegalStateException("Sale cannot be marked as invoiced");
             }
             
+            List<DailyAmount> amounts = saleRepository.markAsInvoiced(storeId, List.of(id));
+            if (amounts.isEmpty()) {
+                // Another request invoiced it after it was read
+                throw new IllegalStateException("Sale is already invoiced");
+            }
+            salesRollupRepository.recordInvoiced(storeId, amounts);
             sale.markAsInvoiced();
-            Sale updatedSale = saleRepository.save(sale);
             
             logger.info("Sale marked as invoiced successfully: {}", saleId);
             
-            return mapToResponse(updatedSale);
+            return mapToResponse(sale);
             
         } catch (IllegalArgumentException | IllegalStateException e) {
             logger.warn("Cannot mark sale as invoiced: {}", e.getMessage());
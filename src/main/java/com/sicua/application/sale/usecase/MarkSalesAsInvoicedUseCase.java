@@ -0,0 +1,105 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.InvoiceSalesRequest;
+import com.sicua.application.sale.dto.InvoiceSalesResponse;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import com.sicua.domain.sale.valueobject.DailyAmount;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import com.sicua.domain.sale.valueobject.SaleId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for marking many sales as invoiced at once, picked by ID or by a range of days
+ *
+ * The sales are never loaded: one statement marks the pending ones and returns their totals per day, which move
+ * from pending to invoiced in the daily totals.
+ */
+@Service
+public class MarkSalesAsInvoicedUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MarkSalesAsInvoicedUseCase.class);
+    
+    public static final int MAX_SALE_IDS = 1000;
+    
+    private final SaleRepository saleRepository;
+    private final SessionService sessionService;
+    private final SalesRollupRepository salesRollupRepository;
+    
+    public MarkSalesAsInvoicedUseCase(SaleRepository saleRepository, SessionService sessionService,
+                                      SalesRollupRepository salesRollupRepository) {
+        this.saleRepository = saleRepository;
+        this.sessionService = sessionService;
+        this.salesRollupRepository = salesRollupRepository;
+    }
+    
+    @Transactional
+    public InvoiceSalesResponse execute(InvoiceSalesRequest request) {
+        boolean byIds = request.getSaleIds() != null && !request.getSaleIds().isEmpty();
+        boolean byDays = request.getFrom() != null || request.getTo() != null;
+        if (byIds == byDays) {
+            throw new IllegalArgumentException("Provide either sale IDs or a date range to invoice");
+        }
+        if (byDays && (request.getFrom() == null || request.getTo() == null)) {
+            throw new IllegalArgumentException("Invoice date range needs both a start and an end date");
+        }
+        if (byDays && request.getFrom().isAfter(request.getTo())) {
+            throw new IllegalArgumentException("Invoice start date must not be after its end date");
+        }
+        
+        String storeId = sessionService.getCurrentStoreId();
+        
+        try {
+            List<DailyAmount> amounts;
+            int requested = 0;
+            if (byIds) {
+                List<SaleId> saleIds = request.getSaleIds().stream()
+                        .distinct()
+                        .map(SaleId::of)
+                        .collect(Collectors.toList());
+                if (saleIds.size() > MAX_SALE_IDS) {
+                    throw new IllegalArgumentException("Cannot invoice more than " + MAX_SALE_IDS + " sales by ID at once");
+                }
+                logger.info("Marking {} sales as invoiced for store: {}", saleIds.size(), storeId);
+                
+                amounts = saleRepository.markAsInvoiced(storeId, saleIds);
+                requested = saleIds.size();
+            } else {
+                logger.info("Marking sales from {} to {} as invoiced for store: {}", request.getFrom(), request.getTo(), storeId);
+                
+                SaleFilter filter = SaleFilter.forDays(request.getFrom(), request.getTo(), false);
+                amounts = saleRepository.markAsInvoiced(storeId, filter);
+            }
+            
+            // The amounts come from the rows that were marked, so they always match the update
+            salesRollupRepository.recordInvoiced(storeId, amounts);
+            int invoiced = amounts.stream()
+                    .mapToInt(DailyAmount::getSaleCount)
+                    .sum();
+            int skipped = byIds ? requested - invoiced : 0;
+            
+            BigDecimal amount = amounts.stream()
+                    .map(DailyAmount::getAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            
+            logger.info("Marked {} sales as invoiced for store: {}", invoiced, storeId);
+            
+            return new InvoiceSalesResponse(invoiced, skipped, amount, amounts.size());
+            
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.warn("Cannot mark sales as invoiced: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error marking sales as invoiced: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to mark sales as invoiced: " + e.getMessage(), e);
+        }
+    }
+}
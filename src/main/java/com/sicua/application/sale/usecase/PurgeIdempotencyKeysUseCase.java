@@ -0,0 +1,45 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.domain.sale.repository.SaleIdempotencyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Use case for dropping sale idempotency keys once clients can no longer be retrying them
+ */
+@Service
+public class PurgeIdempotencyKeysUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PurgeIdempotencyKeysUseCase.class);
+    
+    private final SaleIdempotencyRepository saleIdempotencyRepository;
+    private final Duration retention;
+    
+    public PurgeIdempotencyKeysUseCase(SaleIdempotencyRepository saleIdempotencyRepository,
+                                       @Value("${sicua.sales.idempotency.ttl-hours:24}") long ttlHours) {
+        this.saleIdempotencyRepository = saleIdempotencyRepository;
+        this.retention = Duration.ofHours(ttlHours);
+    }
+    
+    /**
+     * @return number of keys deleted
+     */
+    public int execute() {
+        // Use system local time - no timezone conversion
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        
+        try {
+            int deleted = saleIdempotencyRepository.deleteCreatedBefore(cutoff);
+            logger.info("Purged {} sale idempotency keys created before {}", deleted, cutoff);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error purging sale idempotency keys: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to purge idempotency keys: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for recomputing the daily sales rollup from the sales themselves.
+ * Used to backfill sales recorded before the rollup existed or to repair it after manual data changes.
+ */
+@Service
+public class RebuildSalesRollupUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RebuildSalesRollupUseCase.class);
+    
+    private final SalesRollupRepository salesRollupRepository;
+    private final SessionService sessionService;
+    
+    public RebuildSalesRollupUseCase(SalesRollupRepository salesRollupRepository, SessionService sessionService) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.sessionService = sessionService;
+    }
+    
+    /**
+     * Rebuild the rollup of the current store
+     * @return number of days written
+     */
+    public int execute() {
+        String storeId = sessionService.getCurrentStoreId();
+        
+        try {
+            int days = salesRollupRepository.rebuild(storeId);
+            logger.info("Rebuilt daily sales rollup for store {}: {} days", storeId, days);
+            return days;
+        } catch (Exception e) {
+            logger.error("Error rebuilding daily sales rollup: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to rebuild sales rollup: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Rebuild the rollup of every store
+     * @return number of days written
+     */
+    public int executeForAllStores() {
+        try {
+            int days = salesRollupRepository.rebuildAll();
+            logger.info("Rebuilt daily sales rollup for all stores: {} days", days);
+            return days;
+        } catch (Exception e) {
+            logger.error("Error rebuilding daily sales rollup: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to rebuild sales rollup: " + e.getMessage(), e);
+        }
+    }
+}
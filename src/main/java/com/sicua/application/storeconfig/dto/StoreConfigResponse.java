@@ -22,17 +22,21 @@ public class StoreConfigResponse {
     @Schema(description = "Teléfono de contacto", example = "+51 999 888 777")
     private String phone;
     
+    @Schema(description = "Stock a partir del cual un producto se considera bajo", example = "5")
+    private int lowStockThreshold;
+    
     @Schema(description = "Fecha de última actualización", example = "2025-01-26T16:20:00")
     private LocalDateTime updatedAt;
 
     public StoreConfigResponse() {}
 
-    public StoreConfigResponse(String id, String name, String address, String email, String phone, LocalDateTime updatedAt) {
+    public StoreConfigResponse(String id, String name, String address, String email, String phone, int lowStockThreshold, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.address = address;
         this.email = email;
         this.phone = phone;
+        this.lowStockThreshold = lowStockThreshold;
         this.updatedAt = updatedAt;
     }
 
@@ -77,6 +81,14 @@ public class StoreConfigResponse {
         this.phone = phone;
     }
 
+    public int getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
+    public void setLowStockThreshold(int lowStockThreshold) {
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
@@ -1,6 +1,7 @@
 package com.sicua.application.storeconfig.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 @Schema(description = "Datos para actualizar la configuración de la tienda")
@@ -18,6 +19,10 @@ public class UpdateStoreConfigRequest {
     
     @Schema(description = "Teléfono de contacto", example = "+51 999 888 777")
     private String phone;
+    
+    @Schema(description = "Stock a partir del cual un producto se considera bajo. Si se omite se mantiene el actual", example = "5")
+    @Min(value = 0, message = "Low stock threshold cannot be negative")
+    private Integer lowStockThreshold;
 
     public UpdateStoreConfigRequest() {}
 
@@ -60,4 +65,12 @@ public class UpdateStoreConfigRequest {
     public void setPhone(String phone) {
         this.phone = phone;
     }
+
+    public Integer getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
+    public void setLowStockThreshold(Integer lowStockThreshold) {
+        this.lowStockThreshold = lowStockThreshold;
+    }
 }
@@ -63,6 +63,7 @@ public class GetStoreConfigUseCase {
                 storeConfig.getAddress(),
                 storeConfig.getEmail(),
                 storeConfig.getPhone(),
+                storeConfig.getLowStockThreshold(),
                 storeConfig.getUpdatedAt()
         );
     }
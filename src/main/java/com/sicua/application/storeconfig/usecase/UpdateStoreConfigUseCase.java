@@ -45,6 +45,9 @@ public class UpdateStoreConfigUseCase {
                     request.getEmail(),
                     request.getPhone()
             );
+            if (request.getLowStockThreshold() != null) {
+                storeConfig.updateLowStockThreshold(request.getLowStockThreshold());
+            }
             
             StoreConfig updatedConfig = storeConfigRepository.save(storeConfig);
             
@@ -68,6 +71,7 @@ public class UpdateStoreConfigUseCase {
                 storeConfig.getAddress(),
                 storeConfig.getEmail(),
                 storeConfig.getPhone(),
+                storeConfig.getLowStockThreshold(),
                 storeConfig.getUpdatedAt()
         );
     }
@@ -13,6 +13,11 @@ public interface CategoryRepository {
      */
     Category save(Category category);
     
+    /**
+     * Insert several new categories in a single batch
+     */
+    void insertAll(List<Category> categories);
+    
     /**
      * Find a category by its ID and store ID
      */
@@ -1,10 +1,17 @@
 package com.sicua.domain.product.repository;
 
 import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.valueobject.ProductCursor;
+import com.sicua.domain.product.valueobject.ProductFilter;
 import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.product.valueobject.ProductSort;
+import com.sicua.domain.product.valueobject.ProductSummary;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Product domain entity
@@ -12,13 +19,49 @@ import java.util.Optional;
 public interface ProductRepository {
     
     /**
-     * Find product by its ID and store ID
+     * Find product by its ID and store ID.
+     * May be served from a cached snapshot; decisions that must not rely on it use {@link #reloadAllByIdsAndStoreId}.
      * @param productId the product identifier
      * @param storeId the store identifier
      * @return Optional containing the product if found
      */
     Optional<Product> findByIdAndStoreId(ProductId productId, String storeId);
     
+    /**
+     * Find several products of a store, querying only the ones without a cached snapshot, in a single query
+     * @param productIds the product identifiers
+     * @param storeId the store identifier
+     * @return List of the products that were found, missing IDs are skipped
+     */
+    List<Product> findAllByIdsAndStoreId(Collection<ProductId> productIds, String storeId);
+    
+    /**
+     * Find several products of a store straight from the database, ignoring any cached snapshot
+     * @param productIds the product identifiers
+     * @param storeId the store identifier
+     * @return List of the products that were found, missing IDs are skipped
+     */
+    List<Product> reloadAllByIdsAndStoreId(Collection<ProductId> productIds, String storeId);
+    
+    /**
+     * Read several products of a store from the database and lock their rows until the transaction ends,
+     * so their stock cannot change between the read and a later {@link #decrementStock}.
+     * Rows are locked in the same product ID order as {@link #decrementStock}; callers must run this inside the
+     * transaction that records the sales.
+     * @param productIds the product identifiers
+     * @param storeId the store identifier
+     * @return List of the products that were found, missing IDs are skipped
+     */
+    List<Product> lockAllByIdsAndStoreId(Collection<ProductId> productIds, String storeId);
+    
+    /**
+     * Find which of the given product IDs already exist in a store
+     * @param productIds the product identifiers to look up
+     * @param storeId the store identifier
+     * @return the subset of the given IDs that exist in the store
+     */
+    Set<ProductId> findExistingIds(Collection<ProductId> productIds, String storeId);
+    
     /**
      * Find all products for a specific store
      * @param storeId the store identifier
@@ -26,6 +69,48 @@ public interface ProductRepository {
      */
     List<Product> findAllByStoreId(String storeId);
     
+    /**
+     * Find a batch of products for a store ordered by product ID, used to walk large inventories
+     * @param storeId the store identifier
+     * @param after product ID to continue after, or null to start from the first product
+     * @param batchSize maximum number of products to return
+     * @return List of products with an ID greater than {@code after}
+     */
+    List<Product> findBatchByStoreId(String storeId, ProductId after, int batchSize);
+    
+    /**
+     * Find a page of a store's products in keyset order, read straight into summaries
+     * @param storeId the store identifier
+     * @param filter optional restrictions, never null
+     * @param sort field the products are ordered by, ties are broken by product ID
+     * @param descending whether to order from highest to lowest
+     * @param after position to continue after, or null to start from the first product;
+     *              it must have been built for the same sort and direction
+     * @param limit maximum number of products to return
+     * @return List of at most {@code limit} products after the cursor
+     */
+    List<ProductSummary> findPageByStoreId(String storeId, ProductFilter filter, ProductSort sort,
+                                           boolean descending, ProductCursor after, int limit);
+    
+    /**
+     * Find the products of a store whose stock is at or below a threshold, lowest stock first
+     * @param storeId the store identifier
+     * @param threshold highest quantity considered low stock
+     * @param limit maximum number of products to return
+     * @return List of at most {@code limit} products ordered by quantity, then product ID
+     */
+    List<Product> findLowStockByStoreId(String storeId, int threshold, int limit);
+    
+    /**
+     * Search a store's products by name, brand, size or category name, ignoring case
+     * @param storeId the store identifier
+     * @param text text contained in any of the searched fields
+     * @param offset number of matching products to skip
+     * @param limit maximum number of products to return
+     * @return List of matching products ordered by name, then product ID
+     */
+    List<Product> searchByStoreId(String storeId, String text, int offset, int limit);
+    
     /**
      * Check if product exists by ID and store ID
      * @param productId the product identifier
@@ -34,6 +119,15 @@ public interface ProductRepository {
      */
     boolean existsByIdAndStoreId(ProductId productId, String storeId);
     
+    /**
+     * Check if a store already has a product with the given name, ignoring case
+     * @param name the product name
+     * @param storeId the store identifier
+     * @param excludeProductId product to leave out of the check (the one being updated), or null
+     * @return true if another product of the store has the name
+     */
+    boolean existsByNameAndStoreId(String name, String storeId, ProductId excludeProductId);
+    
     /**
      * Save a product
      * @param product the product to save
@@ -41,6 +135,23 @@ public interface ProductRepository {
      */
     Product save(Product product);
     
+    /**
+     * Insert several new products in a single batch.
+     * Unlike {@link #save(Product)} this never updates, an existing product ID makes the insert fail.
+     * @param products the products to insert
+     */
+    void insertAll(List<Product> products);
+    
+    /**
+     * Decrement stock for several products in a single batch.
+     * Each product is only decremented if it still has enough stock, so concurrent sales cannot oversell.
+     * Rows are updated in product ID order; callers must run this inside the transaction that records the sale.
+     * @param quantities quantity to subtract per product
+     * @param storeId the store identifier
+     * @return IDs of the products that were not decremented because of insufficient stock or because they do not exist
+     */
+    List<ProductId> decrementStock(Map<ProductId, Integer> quantities, String storeId);
+    
     /**
      * Delete a product by ID and store ID
      * @param productId the product identifier
@@ -29,7 +29,9 @@ public class ProductDomainService {
      */
     public boolean canDeleteProduct(ProductId productId) {
         String storeId = sessionService.getCurrentStoreId();
-        return productRepository.findByIdAndStoreId(productId, storeId)
+        // Deleting a product that still has stock must not rely on a cached snapshot
+        return productRepository.reloadAllByIdsAndStoreId(List.of(productId), storeId).stream()
+                .findFirst()
                 .map(product -> product.getQuantity() == 0)
                 .orElse(false);
     }
@@ -52,8 +54,6 @@ public class ProductDomainService {
      */
     public boolean isProductNameExists(String name, ProductId excludeProductId) {
         String storeId = sessionService.getCurrentStoreId();
-        return productRepository.findAllByStoreId(storeId).stream()
-                .filter(product -> !product.getProductId().equals(excludeProductId))
-                .anyMatch(product -> product.getName().equalsIgnoreCase(name));
+        return productRepository.existsByNameAndStoreId(name, storeId, excludeProductId);
     }
 }
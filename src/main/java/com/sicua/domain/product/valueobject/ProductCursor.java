@@ -0,0 +1,117 @@
+package com.sicua.domain.product.valueobject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position inside a store's product listing, ordered by (sort field, productId)
+ * in one direction. The sort field value is kept in its string form.
+ */
+public class ProductCursor {
+    private static final String SEPARATOR = "|";
+    private static final String ASCENDING = "asc";
+    private static final String DESCENDING = "desc";
+
+    private final ProductSort sort;
+    private final boolean descending;
+    private final String value;
+    private final String productId;
+
+    public ProductCursor(ProductSort sort, boolean descending, String value, String productId) {
+        this.sort = Objects.requireNonNull(sort, "Cursor sort cannot be null");
+        this.descending = descending;
+        this.value = Objects.requireNonNull(value, "Cursor value cannot be null");
+        this.productId = Objects.requireNonNull(productId, "Cursor product ID cannot be null");
+    }
+
+    /**
+     * Builds the cursor that continues after the given product
+     * @param last last product of the current page
+     * @param sort field the listing is ordered by
+     * @param descending whether the listing is in descending order
+     * @return the cursor
+     */
+    public static ProductCursor after(ProductSummary last, ProductSort sort, boolean descending) {
+        String value = switch (sort) {
+            case NAME -> last.getName();
+            case PRICE -> last.getPrice().toPlainString();
+            case STOCK -> last.getQuantity().toString();
+            case CREATED_AT -> last.getCreatedAt().toString();
+        };
+        return new ProductCursor(sort, descending, value, last.getProductId());
+    }
+
+    /**
+     * Decodes an opaque token produced by {@link #toToken()}
+     * @param token the cursor token sent by the client
+     * @return the decoded cursor
+     */
+    public static ProductCursor fromToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4 || !(ASCENDING.equals(parts[1]) || DESCENDING.equals(parts[1]))) {
+                throw new IllegalArgumentException("Invalid products cursor: " + token);
+            }
+            return new ProductCursor(
+                    ProductSort.valueOf(parts[0]),
+                    DESCENDING.equals(parts[1]),
+                    decodePart(parts[2]),
+                    decodePart(parts[3])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid products cursor: " + token, e);
+        }
+    }
+
+    public String toToken() {
+        // Value and ID are encoded on their own so they may contain the separator
+        String raw = sort.name() + SEPARATOR + (descending ? DESCENDING : ASCENDING) + SEPARATOR
+                + encodePart(value) + SEPARATOR + encodePart(productId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encodePart(String part) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String part) {
+        return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+
+    public ProductSort getSort() {
+        return sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductCursor that = (ProductCursor) o;
+        return descending == that.descending && sort == that.sort
+                && Objects.equals(value, that.value) && Objects.equals(productId, that.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sort, descending, value, productId);
+    }
+
+    @Override
+    public String toString() {
+        return toToken();
+    }
+}
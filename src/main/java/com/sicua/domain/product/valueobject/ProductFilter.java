@@ -0,0 +1,56 @@
+package com.sicua.domain.product.valueobject;
+
+import java.util.Objects;
+
+/**
+ * Optional restrictions applied to a store's products when listing them.
+ * The brand is matched ignoring case.
+ */
+public class ProductFilter {
+    private static final ProductFilter NONE = new ProductFilter(null, null);
+
+    private final Integer categoryNumber;
+    private final String brand;
+
+    public ProductFilter(Integer categoryNumber, String brand) {
+        this.categoryNumber = categoryNumber;
+        this.brand = brand != null && !brand.isBlank() ? brand.trim() : null;
+    }
+
+    public static ProductFilter none() {
+        return NONE;
+    }
+
+    public Integer getCategoryNumber() {
+        return categoryNumber;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public boolean isEmpty() {
+        return categoryNumber == null && brand == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductFilter that = (ProductFilter) o;
+        return Objects.equals(categoryNumber, that.categoryNumber) && Objects.equals(brand, that.brand);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(categoryNumber, brand);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductFilter{" +
+                "categoryNumber=" + categoryNumber +
+                ", brand='" + brand + '\'' +
+                '}';
+    }
+}
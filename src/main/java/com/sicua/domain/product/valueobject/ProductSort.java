@@ -0,0 +1,11 @@
+package com.sicua.domain.product.valueobject;
+
+/**
+ * Fields a store's product listing can be ordered by. Ties are always broken by product ID.
+ */
+public enum ProductSort {
+    NAME,
+    PRICE,
+    STOCK,
+    CREATED_AT
+}
@@ -0,0 +1,29 @@
+package com.sicua.domain.product.valueobject;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a product for listings.
+ * Implementations are backed directly by query results, no {@code Product} is built for them.
+ */
+public interface ProductSummary {
+
+    String getProductId();
+
+    String getName();
+
+    String getBrand();
+
+    Integer getCategoryNumber();
+
+    String getSize();
+
+    BigDecimal getPrice();
+
+    Integer getQuantity();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
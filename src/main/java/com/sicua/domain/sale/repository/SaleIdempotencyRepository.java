@@ -0,0 +1,81 @@
+package com.sicua.domain.sale.repository;
+
+import com.sicua.domain.sale.valueobject.IdempotentSale;
+import com.sicua.domain.sale.valueobject.SaleId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repository for the idempotency keys sent with new sales, so retried requests do not sell twice
+ */
+public interface SaleIdempotencyRepository {
+    
+    /**
+     * Find what was stored for an idempotency key of a store
+     * @param storeId the store identifier
+     * @param idempotencyKey the key sent by the client
+     * @return Optional containing the stored sale if the key was used before
+     */
+    Optional<IdempotentSale> findByKey(String storeId, String idempotencyKey);
+    
+    /**
+     * Find what was stored for several idempotency keys of a store in one query
+     * @param storeId the store identifier
+     * @param idempotencyKeys the keys sent by the client
+     * @return stored sales by key, keys never used before are left out
+     */
+    Map<String, IdempotentSale> findByKeys(String storeId, Collection<String> idempotencyKeys);
+    
+    /**
+     * Reserve an idempotency key for a new sale.
+     * Must run in the transaction that creates the sale, so a failed sale releases the key.
+     * A concurrent claim of the same key waits until the first transaction finishes.
+     * @param storeId the store identifier
+     * @param idempotencyKey the key sent by the client
+     * @param requestHash hash of the request the key is used for
+     * @return true if the key was reserved, false if it was already taken
+     */
+    boolean claim(String storeId, String idempotencyKey, String requestHash);
+    
+    /**
+     * Reserve several idempotency keys in a single batch, with the same rules as {@link #claim}
+     * @param storeId the store identifier
+     * @param requestHashByKey hash of the request each key is used for
+     * @return the keys that were reserved, the others were already taken
+     */
+    Set<String> claimAll(String storeId, Map<String, String> requestHashByKey);
+    
+    /**
+     * Store the response of the sale created for a claimed key
+     * @param storeId the store identifier
+     * @param idempotencyKey the claimed key
+     * @param saleId the created sale
+     * @param responseBody serialized response returned to the client
+     */
+    void complete(String storeId, String idempotencyKey, SaleId saleId, String responseBody);
+    
+    /**
+     * Store the responses of the sales created for several claimed keys in a single batch
+     * @param storeId the store identifier
+     * @param completedByKey created sale and serialized response per claimed key
+     */
+    void completeAll(String storeId, Map<String, IdempotentSale> completedByKey);
+    
+    /**
+     * Give back claimed keys whose sale was not created, so the client can retry them
+     * @param storeId the store identifier
+     * @param idempotencyKeys the claimed keys
+     */
+    void release(String storeId, Collection<String> idempotencyKeys);
+    
+    /**
+     * Delete the keys stored before a point in time
+     * @param cutoff keys created before this are deleted
+     * @return number of keys deleted
+     */
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
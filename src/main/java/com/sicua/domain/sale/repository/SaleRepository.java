@@ -1,8 +1,16 @@
 package com.sicua.domain.sale.repository;
 
+import com.sicua.domain.product.valueobject.ProductId;
 import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.valueobject.DailyAmount;
+import com.sicua.domain.sale.valueobject.ProductSales;
+import com.sicua.domain.sale.valueobject.ProductSalesRanking;
+import com.sicua.domain.sale.valueobject.SaleCursor;
+import com.sicua.domain.sale.valueobject.SaleFilter;
 import com.sicua.domain.sale.valueobject.SaleId;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +41,40 @@ public interface SaleRepository {
      */
     List<Sale> findAllByStoreIdOrderByCreatedAtDesc(String storeId);
     
+    /**
+     * Find one page of sales for a specific store using keyset pagination.
+     * Results are ordered by creation date descending, then by ID descending.
+     * @param storeId the store identifier
+     * @param filter date range and invoiced restrictions
+     * @param after position of the last sale of the previous page, or null for the first page
+     * @param limit maximum number of sales to return
+     * @return List of at most {@code limit} sales following the cursor
+     */
+    List<Sale> findPageByStoreId(String storeId, SaleFilter filter, SaleCursor after, int limit);
+    
+    /**
+     * Find the best selling products of a store in a period, aggregated in the database
+     * @param storeId the store identifier
+     * @param from start of the period, inclusive
+     * @param to end of the period, exclusive
+     * @param ranking measure the products are ordered by, descending
+     * @param limit maximum number of products to return
+     * @return List of at most {@code limit} products with their sales in the period
+     */
+    List<ProductSales> findTopProducts(String storeId, LocalDateTime from, LocalDateTime to,
+                                       ProductSalesRanking ranking, int limit);
+    
+    /**
+     * Find the sales of the given products in a period, aggregated in the database
+     * @param storeId the store identifier
+     * @param productIds the products to aggregate
+     * @param from start of the period, inclusive
+     * @param to end of the period, exclusive
+     * @return List with the sales of each product that sold in the period, products without sales are skipped
+     */
+    List<ProductSales> findProductSales(String storeId, Collection<ProductId> productIds,
+                                        LocalDateTime from, LocalDateTime to);
+    
     /**
      * Find sales by invoiced status for a specific store
      * @param invoiced the invoiced status
@@ -61,6 +103,32 @@ public interface SaleRepository {
      */
     Sale save(Sale sale);
     
+    /**
+     * Insert new sales and their items with batched statements, without loading or merging existing rows.
+     * Callers must run this inside the transaction that records the sales.
+     * @param sales the new sales to insert
+     */
+    void insertAll(List<Sale> sales);
+    
+    /**
+     * Mark sales of a store as invoiced without loading them.
+     * The totals are returned by the same statement that marks the pending sales, so they are exactly
+     * what was marked even while other requests create or invoice sales.
+     * @param storeId the store identifier
+     * @param saleIds the sales to mark, already invoiced, unknown or other stores' sales are left untouched
+     * @return number and amount of the sales marked, one entry per sale day, ordered by day
+     */
+    List<DailyAmount> markAsInvoiced(String storeId, Collection<SaleId> saleIds);
+    
+    /**
+     * Mark every not yet invoiced sale of a store within the filter's date bounds as invoiced,
+     * with a single statement and without loading them
+     * @param storeId the store identifier
+     * @param filter date bounds of the sales to mark, its invoiced status is ignored
+     * @return number and amount of the sales marked, one entry per sale day, ordered by day
+     */
+    List<DailyAmount> markAsInvoiced(String storeId, SaleFilter filter);
+    
     /**
      * Find all sales ordered by creation date descending
      * @return List of sales ordered by creation date
@@ -0,0 +1,55 @@
+package com.sicua.domain.sale.repository;
+
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.valueobject.DailyAmount;
+import com.sicua.domain.sale.valueobject.DailySales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the pre-aggregated daily sales totals of each store
+ */
+public interface SalesRollupRepository {
+    
+    /**
+     * Add a new sale to the totals of its day
+     * @param sale the sale that was just created
+     */
+    void recordSale(Sale sale);
+    
+    /**
+     * Add several new sales to the totals of their days, with one increment per day
+     * @param sales the sales that were just created
+     */
+    void recordSales(List<Sale> sales);
+    
+    /**
+     * Move amounts from pending to invoiced in the totals of their days, with one batch for all days
+     * @param storeId the store identifier
+     * @param amounts amount invoiced per day
+     */
+    void recordInvoiced(String storeId, List<DailyAmount> amounts);
+    
+    /**
+     * Find the daily totals of a store for a range of days
+     * @param storeId the store identifier
+     * @param from first day to include
+     * @param to last day to include
+     * @return one entry per day with sales, ordered by day
+     */
+    List<DailySales> findByStoreIdAndDayBetween(String storeId, LocalDate from, LocalDate to);
+    
+    /**
+     * Recompute a store's daily totals from its sales
+     * @param storeId the store identifier
+     * @return number of days written
+     */
+    int rebuild(String storeId);
+    
+    /**
+     * Recompute the daily totals of every store from their sales
+     * @return number of days written
+     */
+    int rebuildAll();
+}
@@ -8,8 +8,11 @@ import com.sicua.domain.sale.entity.SaleItem;
 import com.sicua.application.auth.SessionService;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,49 +30,83 @@ public class SaleDomainService {
     }
     
     /**
-     * Validates stock availability for all items in a sale
+     * Validates stock availability for all items in a sale.
+     * All products of the sale are loaded with a single query, or served from cached snapshots.
+     * A snapshot is only trusted when it shows enough stock, since the guarded decrement in
+     * {@link #reduceStockForSale(Sale)} has the final word; shortfalls are confirmed against the database.
      * @param sale the sale to validate
      * @return true if all items have enough stock
      */
     public boolean validateStockAvailability(Sale sale) {
         String storeId = sessionService.getCurrentStoreId();
-        Map<ProductId, Integer> requiredQuantities = sale.getItems().stream()
-                .collect(Collectors.groupingBy(
-                        SaleItem::getProductId,
-                        Collectors.summingInt(SaleItem::getQuantity)
-                ));
+        Map<ProductId, Integer> requiredQuantities = requiredQuantities(sale);
+        
+        Map<ProductId, Product> products = productRepository.findAllByIdsAndStoreId(requiredQuantities.keySet(), storeId).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
         
+        List<ProductId> shortfalls = new ArrayList<>();
         for (Map.Entry<ProductId, Integer> entry : requiredQuantities.entrySet()) {
-            Product product = productRepository.findByIdAndStoreId(entry.getKey(), storeId)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + entry.getKey()));
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + entry.getKey());
+            }
             
             if (!product.hasEnoughStock(entry.getValue())) {
-                return false;
+                shortfalls.add(entry.getKey());
             }
         }
+        if (shortfalls.isEmpty()) {
+            return true;
+        }
         
-        return true;
+        List<Product> current = productRepository.reloadAllByIdsAndStoreId(shortfalls, storeId);
+        requireAllFound(shortfalls, current);
+        return current.stream()
+                .allMatch(product -> product.hasEnoughStock(requiredQuantities.get(product.getProductId())));
     }
     
     /**
-     * Reduces stock for all products in the sale
+     * Reduces stock for all products in the sale with a single batch of guarded updates.
+     * Must run in the same transaction as the sale so a shortfall rolls back the other decrements.
      * @param sale the sale containing items to reduce stock for
+     * @throws IllegalArgumentException if any product no longer exists in the store
+     * @throws IllegalStateException if any product no longer has enough stock
      */
     public void reduceStockForSale(Sale sale) {
         String storeId = sessionService.getCurrentStoreId();
-        Map<ProductId, Integer> quantitiesToReduce = sale.getItems().stream()
+        
+        List<ProductId> shortfalls = productRepository.decrementStock(requiredQuantities(sale), storeId);
+        if (!shortfalls.isEmpty()) {
+            // The guarded update matches no row either when the product was deleted after its snapshot was cached
+            requireAllFound(shortfalls, productRepository.reloadAllByIdsAndStoreId(shortfalls, storeId));
+            throw new IllegalStateException("Insufficient stock for products: " + shortfalls.stream()
+                    .map(ProductId::getValue)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+    
+    /**
+     * Reports missing products apart from stock shortfalls, the same way batch sales do
+     */
+    private void requireAllFound(List<ProductId> productIds, List<Product> products) {
+        Set<ProductId> found = products.stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toSet());
+        List<String> missing = productIds.stream()
+                .filter(productId -> !found.contains(productId))
+                .map(ProductId::getValue)
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Product not found: " + String.join(", ", missing));
+        }
+    }
+    
+    private Map<ProductId, Integer> requiredQuantities(Sale sale) {
+        return sale.getItems().stream()
                 .collect(Collectors.groupingBy(
                         SaleItem::getProductId,
                         Collectors.summingInt(SaleItem::getQuantity)
                 ));
-        
-        for (Map.Entry<ProductId, Integer> entry : quantitiesToReduce.entrySet()) {
-            Product product = productRepository.findByIdAndStoreId(entry.getKey(), storeId)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + entry.getKey()));
-            
-            product.reduceStock(entry.getValue());
-            productRepository.save(product);
-        }
     }
     
     /**
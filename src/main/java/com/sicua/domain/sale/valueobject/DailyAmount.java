@@ -0,0 +1,32 @@
+package com.sicua.domain.sale.valueobject;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Number and total amount of a subset of a store's sales made on one calendar day
+ */
+public class DailyAmount {
+    private final LocalDate day;
+    private final int saleCount;
+    private final BigDecimal amount;
+
+    public DailyAmount(LocalDate day, int saleCount, BigDecimal amount) {
+        this.day = Objects.requireNonNull(day, "Day cannot be null");
+        this.saleCount = saleCount;
+        this.amount = Objects.requireNonNull(amount, "Amount cannot be null");
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getSaleCount() {
+        return saleCount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+}
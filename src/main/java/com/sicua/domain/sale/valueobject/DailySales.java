@@ -0,0 +1,52 @@
+package com.sicua.domain.sale.valueobject;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Sales totals of one store for one calendar day.
+ * Pending is the part of the total that has not been invoiced yet.
+ */
+public class DailySales {
+    private final LocalDate day;
+    private final int saleCount;
+    private final int itemUnits;
+    private final BigDecimal totalAmount;
+    private final BigDecimal invoicedAmount;
+    private final BigDecimal pendingAmount;
+
+    public DailySales(LocalDate day, int saleCount, int itemUnits, BigDecimal totalAmount,
+                      BigDecimal invoicedAmount, BigDecimal pendingAmount) {
+        this.day = Objects.requireNonNull(day, "Day cannot be null");
+        this.saleCount = saleCount;
+        this.itemUnits = itemUnits;
+        this.totalAmount = Objects.requireNonNull(totalAmount, "Total amount cannot be null");
+        this.invoicedAmount = Objects.requireNonNull(invoicedAmount, "Invoiced amount cannot be null");
+        this.pendingAmount = Objects.requireNonNull(pendingAmount, "Pending amount cannot be null");
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getSaleCount() {
+        return saleCount;
+    }
+
+    public int getItemUnits() {
+        return itemUnits;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public BigDecimal getInvoicedAmount() {
+        return invoicedAmount;
+    }
+
+    public BigDecimal getPendingAmount() {
+        return pendingAmount;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sicua.domain.sale.valueobject;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Outcome of a sale created with a client supplied idempotency key.
+ * Retries with the same key get the stored response instead of creating the sale again;
+ * the request hash detects a key reused for a different sale.
+ */
+public class IdempotentSale {
+    private final String requestHash;
+    private final SaleId saleId;
+    private final String responseBody;
+    private final LocalDateTime createdAt;
+
+    public IdempotentSale(String requestHash, SaleId saleId, String responseBody, LocalDateTime createdAt) {
+        this.requestHash = Objects.requireNonNull(requestHash, "Request hash cannot be null");
+        this.saleId = saleId;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    /**
+     * @return the created sale, or null while the sale that claimed the key has not committed
+     */
+    public SaleId getSaleId() {
+        return saleId;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public boolean isCompleted() {
+        return saleId != null && responseBody != null;
+    }
+
+    public boolean matches(String requestHash) {
+        return this.requestHash.equals(requestHash);
+    }
+}
@@ -0,0 +1,45 @@
+package com.sicua.domain.sale.valueobject;
+
+import com.sicua.domain.product.valueobject.ProductId;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Units and revenue a product sold over a period
+ */
+public class ProductSales {
+    private final ProductId productId;
+    private final String name;
+    private final long units;
+    private final BigDecimal revenue;
+    private final long saleCount;
+
+    public ProductSales(ProductId productId, String name, long units, BigDecimal revenue, long saleCount) {
+        this.productId = Objects.requireNonNull(productId, "Product ID cannot be null");
+        this.name = name;
+        this.units = units;
+        this.revenue = Objects.requireNonNull(revenue, "Revenue cannot be null");
+        this.saleCount = saleCount;
+    }
+
+    public ProductId getProductId() {
+        return productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public long getSaleCount() {
+        return saleCount;
+    }
+}
@@ -0,0 +1,9 @@
+package com.sicua.domain.sale.valueobject;
+
+/**
+ * Measure used to rank products by their sales
+ */
+public enum ProductSalesRanking {
+    UNITS,
+    REVENUE
+}
@@ -0,0 +1,78 @@
+package com.sicua.domain.sale.valueobject;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position inside a store's sales listing, ordered by (createdAt, id) descending
+ */
+public class SaleCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final String saleId;
+
+    public SaleCursor(LocalDateTime createdAt, String saleId) {
+        this.createdAt = Objects.requireNonNull(createdAt, "Cursor createdAt cannot be null");
+        this.saleId = Objects.requireNonNull(saleId, "Cursor sale ID cannot be null");
+    }
+
+    public static SaleCursor of(LocalDateTime createdAt, String saleId) {
+        return new SaleCursor(createdAt, saleId);
+    }
+
+    /**
+     * Decodes an opaque token produced by {@link #toToken()}
+     * @param token the cursor token sent by the client
+     * @return the decoded cursor
+     */
+    public static SaleCursor fromToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == decoded.length() - 1) {
+                throw new IllegalArgumentException("Invalid sales cursor: " + token);
+            }
+            return new SaleCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    decoded.substring(separatorIndex + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid sales cursor: " + token, e);
+        }
+    }
+
+    public String toToken() {
+        String raw = createdAt + SEPARATOR + saleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getSaleId() {
+        return saleId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SaleCursor that = (SaleCursor) o;
+        return Objects.equals(createdAt, that.createdAt) && Objects.equals(saleId, that.saleId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, saleId);
+    }
+
+    @Override
+    public String toString() {
+        return toToken();
+    }
+}
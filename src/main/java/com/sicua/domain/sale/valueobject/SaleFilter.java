@@ -0,0 +1,83 @@
+package com.sicua.domain.sale.valueobject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Optional restrictions applied to a store's sales when querying the repository.
+ * Date bounds apply to the sale date: {@code from} is inclusive, {@code to} is exclusive.
+ */
+public class SaleFilter {
+    private static final SaleFilter NONE = new SaleFilter(null, null, null);
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Boolean invoiced;
+
+    public SaleFilter(LocalDateTime from, LocalDateTime to, Boolean invoiced) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Sale filter start must be before its end");
+        }
+        this.from = from;
+        this.to = to;
+        this.invoiced = invoiced;
+    }
+
+    public static SaleFilter none() {
+        return NONE;
+    }
+
+    /**
+     * Builds a filter covering whole calendar days
+     * @param startDay first day to include, or null for no lower bound
+     * @param endDay last day to include, or null for no upper bound
+     * @param invoiced invoiced status to match, or null for any
+     * @return the filter
+     */
+    public static SaleFilter forDays(LocalDate startDay, LocalDate endDay, Boolean invoiced) {
+        return new SaleFilter(
+                startDay != null ? startDay.atStartOfDay() : null,
+                endDay != null ? endDay.plusDays(1).atStartOfDay() : null,
+                invoiced
+        );
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public Boolean getInvoiced() {
+        return invoiced;
+    }
+
+    public boolean isEmpty() {
+        return from == null && to == null && invoiced == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SaleFilter that = (SaleFilter) o;
+        return Objects.equals(from, that.from) && Objects.equals(to, that.to) && Objects.equals(invoiced, that.invoiced);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, invoiced);
+    }
+
+    @Override
+    public String toString() {
+        return "SaleFilter{" +
+                "from=" + from +
+                ", to=" + to +
+                ", invoiced=" + invoiced +
+                '}';
+    }
+}
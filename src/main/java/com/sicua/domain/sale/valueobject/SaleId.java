@@ -2,11 +2,23 @@ package com.sicua.domain.sale.valueobject;
 
 import jakarta.persistence.Embeddable;
 
+import java.security.SecureRandom;
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Sale identifier. New IDs are time-ordered UUIDs (version 7), so consecutive sales land next to each
+ * other in the primary key and sale_items indexes instead of on random pages.
+ * Existing random (version 4) IDs stay valid: IDs are only compared, never decoded.
+ */
 @Embeddable
 public class SaleId {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastMillis;
+    private static int sequence;
+
     private final String value;
 
     protected SaleId() {
@@ -18,7 +30,7 @@ public class SaleId {
     }
 
     public static SaleId generate() {
-        return new SaleId(UUID.randomUUID().toString());
+        return new SaleId(timeOrderedUuid(System.currentTimeMillis()).toString());
     }
 
     public static SaleId of(String value) {
@@ -29,6 +41,28 @@ public class SaleId {
         return value;
     }
 
+    /**
+     * Builds a version 7 UUID (RFC 9562): 48 bits of Unix milliseconds, then a 12-bit sequence that keeps IDs
+     * of the same millisecond increasing, then 62 random bits.
+     * A clock that goes back or a sequence overflow keep counting from the last millisecond used.
+     */
+    static synchronized UUID timeOrderedUuid(long currentMillis) {
+        if (currentMillis > lastMillis) {
+            lastMillis = currentMillis;
+            // Start low in the range so the millisecond still has room for thousands of IDs
+            sequence = RANDOM.nextInt(MAX_SEQUENCE + 1) >> 2;
+        } else if (sequence < MAX_SEQUENCE) {
+            sequence++;
+        } else {
+            lastMillis++;
+            sequence = 0;
+        }
+
+        long mostSigBits = (lastMillis << 16) | 0x7000L | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -9,12 +9,15 @@ import java.util.UUID;
  * Store configuration domain entity
  */
 public class StoreConfig {
+    public static final int DEFAULT_LOW_STOCK_THRESHOLD = 5;
+
     private String id;
     private String name;
     private String address;
     private String email;
     private String phone;
     private String password;
+    private int lowStockThreshold = DEFAULT_LOW_STOCK_THRESHOLD;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -57,6 +60,14 @@ public class StoreConfig {
         validateEmail();
     }
 
+    public void updateLowStockThreshold(int lowStockThreshold) {
+        if (lowStockThreshold < 0) {
+            throw new IllegalArgumentException("Low stock threshold cannot be negative");
+        }
+        this.lowStockThreshold = lowStockThreshold;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     private void validateEmail() {
         if (email != null && !email.isEmpty() && !email.contains("@")) {
             throw new IllegalArgumentException("Invalid email format");
@@ -100,6 +111,10 @@ public class StoreConfig {
         return password;
     }
 
+    public int getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,36 @@
+package com.sicua.infrastructure.common.session;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.auth.TenantContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Resolves the store of the authenticated session once per request and binds it to the {@link TenantContext}
+ */
+@Component
+public class TenantContextFilter extends OncePerRequestFilter {
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            TenantContext.setStoreId((String) session.getAttribute(SessionService.SESSION_STORE_ID));
+        }
+        
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Request threads are pooled, never leak a store into the next request
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sicua.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for work that runs outside the HTTP request threads
+ * 
+ * Excel imports run on their own small pool: each job holds a database
+ * connection while it writes a batch, so the pool size caps how many
+ * connections imports can take from HikariCP. Jobs beyond the queue
+ * capacity are rejected instead of piling up in memory.
+ * 
+ * Environment Configuration:
+ * - sicua.excel.import.max-concurrent-jobs: imports running at the same time
+ * - sicua.excel.import.queue-capacity: imports waiting for a free worker
+ */
+@Configuration
+public class AsyncConfig {
+    
+    @Bean(name = "excelImportExecutor")
+    public ThreadPoolTaskExecutor excelImportExecutor(
+            @Value("${sicua.excel.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${sicua.excel.import.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("excel-import-");
+        // Let running imports finish their current work on shutdown
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sicua.infrastructure.config;
+
+import com.sicua.application.sale.usecase.PurgeIdempotencyKeysUseCase;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cleanup job for the sale idempotency keys
+ * 
+ * Keys only need to outlive the client's retries. The job deletes the
+ * expired ones through the created_at index so the table stays small.
+ * 
+ * Environment Configuration:
+ * - sicua.sales.idempotency.ttl-hours: how long a key is honoured
+ * - sicua.sales.idempotency.cleanup-interval-minutes: time between cleanups
+ */
+@Configuration
+@EnableScheduling
+public class IdempotencyKeyCleanupJob {
+    
+    private final PurgeIdempotencyKeysUseCase purgeIdempotencyKeysUseCase;
+    
+    public IdempotencyKeyCleanupJob(PurgeIdempotencyKeysUseCase purgeIdempotencyKeysUseCase) {
+        this.purgeIdempotencyKeysUseCase = purgeIdempotencyKeysUseCase;
+    }
+    
+    @Scheduled(
+            initialDelayString = "${sicua.sales.idempotency.cleanup-interval-minutes:60}",
+            fixedDelayString = "${sicua.sales.idempotency.cleanup-interval-minutes:60}",
+            timeUnit = TimeUnit.MINUTES
+    )
+    public void purgeExpiredKeys() {
+        purgeIdempotencyKeysUseCase.execute();
+    }
+}
@@ -0,0 +1,33 @@
+package com.sicua.infrastructure.config;
+
+import com.sicua.application.sale.usecase.RebuildSalesRollupUseCase;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfill job for the daily sales rollup
+ * 
+ * Recomputes every store's rollup from the sales table once the
+ * application has started. Disabled by default: the V7 migration fills
+ * the table when it is created and sales keep it up to date afterwards.
+ * 
+ * Environment Configuration:
+ * - sicua.sales.rollup.backfill-on-startup: set to true for one start to rebuild
+ */
+@Component
+@ConditionalOnProperty(name = "sicua.sales.rollup.backfill-on-startup", havingValue = "true")
+public class SalesRollupBackfillRunner implements ApplicationRunner {
+    
+    private final RebuildSalesRollupUseCase rebuildSalesRollupUseCase;
+    
+    public SalesRollupBackfillRunner(RebuildSalesRollupUseCase rebuildSalesRollupUseCase) {
+        this.rebuildSalesRollupUseCase = rebuildSalesRollupUseCase;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuildSalesRollupUseCase.executeForAllStores();
+    }
+}
@@ -1,62 +1,107 @@
 package com.sicua.infrastructure.persistence.category;
 
+import com.sicua.application.cache.TenantCache;
+import com.sicua.application.cache.TenantCacheRegistry;
 import com.sicua.domain.category.entity.Category;
 import com.sicua.domain.category.entity.CategoryId;
 import com.sicua.domain.category.repository.CategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+/**
+ * Category persistence. Each store's categories are cached as one list, since they are few, rarely change
+ * and are read on almost every product screen. Lookups by id, number and name are answered from that list,
+ * while the uniqueness checks used right before a write always go to the database.
+ */
 @Repository
 @Transactional
 public class CategoryRepositoryImpl implements CategoryRepository {
 
+    private static final String INSERT_CATEGORY_SQL =
+            "INSERT INTO categories (category_id, store_id, name, category_number, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
     private final JpaCategoryRepository jpaCategoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TenantCache<List<Category>> cache;
 
     @Autowired
-    public CategoryRepositoryImpl(JpaCategoryRepository jpaCategoryRepository) {
+    public CategoryRepositoryImpl(JpaCategoryRepository jpaCategoryRepository, JdbcTemplate jdbcTemplate,
+                                  TenantCacheRegistry tenantCacheRegistry,
+                                  @Value("${sicua.cache.categories.ttl-seconds:600}") long cacheTtlSeconds,
+                                  @Value("${sicua.cache.categories.max-stores:10000}") long cacheMaxStores) {
         this.jpaCategoryRepository = jpaCategoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = tenantCacheRegistry.create("categories", cacheTtlSeconds, cacheMaxStores);
     }
 
     @Override
     public Category save(Category category) {
+        cache.evict(category.getStoreId());
         CategoryEntity entity = toEntity(category);
         CategoryEntity savedEntity = jpaCategoryRepository.save(entity);
         return toDomain(savedEntity);
     }
 
+    @Override
+    public void insertAll(List<Category> categories) {
+        if (categories.isEmpty()) {
+            return;
+        }
+        categories.stream()
+                .map(Category::getStoreId)
+                .distinct()
+                .forEach(cache::evict);
+
+        List<Object[]> batchArgs = categories.stream()
+                .map(category -> new Object[]{
+                        category.getCategoryId().getValue(),
+                        category.getStoreId(),
+                        category.getName(),
+                        category.getCategoryNumber(),
+                        Timestamp.valueOf(category.getCreatedAt()),
+                        Timestamp.valueOf(category.getUpdatedAt())
+                })
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_SQL, batchArgs);
+    }
+
     @Override
     public Optional<Category> findByIdAndStoreId(CategoryId categoryId, String storeId) {
-        return jpaCategoryRepository.findByCategoryIdAndStoreId(categoryId.getValue(), storeId)
-                .map(this::toDomain);
+        return findFirstCached(storeId, category -> category.getCategoryId().equals(categoryId));
     }
 
     @Override
     public List<Category> findByStoreId(String storeId) {
-        return jpaCategoryRepository.findByStoreIdOrderByCategoryNumber(storeId)
+        return cachedCategories(storeId)
                 .stream()
-                .map(this::toDomain)
+                .map(this::copyOf)
                 .collect(Collectors.toList());
     }
 
     @Override
     public Optional<Category> findByCategoryNumberAndStoreId(Integer categoryNumber, String storeId) {
-        return jpaCategoryRepository.findByCategoryNumberAndStoreId(categoryNumber, storeId)
-                .map(this::toDomain);
+        return findFirstCached(storeId, category -> category.getCategoryNumber().equals(categoryNumber));
     }
 
     @Override
     public Optional<Category> findByNameAndStoreId(String name, String storeId) {
-        return jpaCategoryRepository.findByNameAndStoreId(name, storeId)
-                .map(this::toDomain);
+        return findFirstCached(storeId, category -> category.getName().equals(name));
     }
 
     @Override
     public void deleteByIdAndStoreId(CategoryId categoryId, String storeId) {
+        cache.evict(storeId);
         jpaCategoryRepository.deleteByCategoryIdAndStoreId(categoryId.getValue(), storeId);
     }
 
@@ -82,6 +127,26 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return jpaCategoryRepository.findNextCategoryNumber(storeId);
     }
 
+    private List<Category> cachedCategories(String storeId) {
+        return cache.get(storeId, id -> jpaCategoryRepository.findByStoreIdOrderByCategoryNumber(id)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    private Optional<Category> findFirstCached(String storeId, Predicate<Category> condition) {
+        return cachedCategories(storeId)
+                .stream()
+                .filter(condition)
+                .findFirst()
+                .map(this::copyOf);
+    }
+
+    // Categories are mutable, callers always get their own copy of the cached instance
+    private Category copyOf(Category category) {
+        return toDomain(toEntity(category));
+    }
+
     private CategoryEntity toEntity(Category category) {
         return new CategoryEntity(
                 category.getCategoryId().getValue(),
@@ -0,0 +1,40 @@
+package com.sicua.infrastructure.persistence.common;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * Stores UUID strings in native uuid columns (16 bytes instead of 36 characters)
+ * while the domain keeps handling them as plain strings.
+ */
+@Converter
+public class UuidStringConverter implements AttributeConverter<String, UUID> {
+
+    @Override
+    public UUID convertToDatabaseColumn(String attribute) {
+        return attribute != null ? UUID.fromString(attribute) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(UUID dbData) {
+        return dbData != null ? dbData.toString() : null;
+    }
+
+    /**
+     * Checks whether a value can be stored in a uuid column.
+     * Lookups use it to answer "not found" for malformed IDs instead of failing on the bind.
+     */
+    public static boolean isUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
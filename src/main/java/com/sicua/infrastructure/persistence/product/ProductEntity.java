@@ -5,7 +5,13 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_product_store_product", columnList = "store_id, product_id"),
+    @Index(name = "idx_product_store_quantity", columnList = "store_id, quantity"),
+    @Index(name = "idx_product_store_name_product", columnList = "store_id, name, product_id"),
+    @Index(name = "idx_product_store_price_product", columnList = "store_id, price, product_id"),
+    @Index(name = "idx_product_store_created_at_product", columnList = "store_id, created_at, product_id")
+})
 public class ProductEntity {
     
     @Id
@@ -33,7 +39,7 @@ public class ProductEntity {
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
@@ -1,21 +1,44 @@
 package com.sicua.infrastructure.persistence.product;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProductJpaRepository extends JpaRepository<ProductEntity, String> {
+public interface ProductJpaRepository extends JpaRepository<ProductEntity, String>, JpaSpecificationExecutor<ProductEntity> {
     
     @Query("SELECT p FROM ProductEntity p WHERE p.storeId = :storeId ORDER BY p.createdAt DESC")
     List<ProductEntity> findByStoreId(@Param("storeId") String storeId);
     
+    List<ProductEntity> findByStoreIdOrderByProductIdAsc(String storeId, Limit limit);
+    
+    List<ProductEntity> findByStoreIdAndProductIdGreaterThanOrderByProductIdAsc(String storeId, String productId, Limit limit);
+    
+    List<ProductEntity> findByStoreIdAndQuantityLessThanEqualOrderByQuantityAscProductIdAsc(String storeId, Integer quantity, Limit limit);
+    
+    List<ProductEntity> findByStoreIdAndProductIdIn(String storeId, Collection<String> productIds);
+    
+    @Query("SELECT p.productId FROM ProductEntity p WHERE p.storeId = :storeId AND p.productId IN :productIds")
+    List<String> findProductIdsByStoreIdAndProductIdIn(@Param("storeId") String storeId, @Param("productIds") Collection<String> productIds);
+    
     Optional<ProductEntity> findByProductIdAndStoreId(String productId, String storeId);
     
     boolean existsByProductIdAndStoreId(String productId, String storeId);
     
+    // LOWER rather than the derived IgnoreCase (UPPER) so the (store_id, lower(name)) index is used
+    @Query("SELECT COUNT(p) > 0 FROM ProductEntity p WHERE p.storeId = :storeId AND LOWER(p.name) = LOWER(:name)")
+    boolean existsByStoreIdAndNameIgnoreCase(@Param("storeId") String storeId, @Param("name") String name);
+    
+    @Query("SELECT COUNT(p) > 0 FROM ProductEntity p WHERE p.storeId = :storeId AND LOWER(p.name) = LOWER(:name) " +
+           "AND p.productId <> :productId")
+    boolean existsByStoreIdAndNameIgnoreCaseAndProductIdNot(@Param("storeId") String storeId, @Param("name") String name,
+                                                            @Param("productId") String productId);
+    
     void deleteByProductIdAndStoreId(String productId, String storeId);
 }
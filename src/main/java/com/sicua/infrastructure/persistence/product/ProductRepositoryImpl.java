@@ -1,27 +1,137 @@
 package com.sicua.infrastructure.persistence.product;
 
+import com.sicua.application.cache.TenantCacheRegistry;
 import com.sicua.domain.product.entity.Product;
 import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductCursor;
+import com.sicua.domain.product.valueobject.ProductFilter;
 import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.product.valueobject.ProductSort;
+import com.sicua.domain.product.valueobject.ProductSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Product persistence. Lookups by product ID, which the point-of-sale path repeats for the same few products,
+ * are served from a {@link ProductSnapshotCache}; listings, searches and reports always query the database.
+ */
 @Repository
 public class ProductRepositoryImpl implements ProductRepository {
     
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO products (product_id, store_id, name, brand, category_number, size, price, quantity, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final int[] INSERT_PRODUCT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER,
+            Types.VARCHAR, Types.DECIMAL, Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+    
+    // Keeps IN lists well below driver parameter limits
+    private static final int MAX_IDS_PER_QUERY = 1000;
+    
+    // Both write paths lock product rows one statement per row in this order, never in the database's
+    // collation order, so a batch and a single sale sharing products cannot deadlock each other
+    private static final Comparator<ProductId> LOCK_ORDER = Comparator.comparing(ProductId::getValue);
+    
+    private static final String LOCK_PRODUCT_SQL =
+            "UPDATE products SET quantity = quantity WHERE product_id = ? AND store_id = ?";
+    
+    private static final String DECREMENT_STOCK_SQL =
+            "UPDATE products SET quantity = quantity - ?, updated_at = ? " +
+            "WHERE product_id = ? AND store_id = ? AND quantity >= ?";
+    
     private final ProductJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductSnapshotCache snapshotCache;
     
-    public ProductRepositoryImpl(ProductJpaRepository jpaRepository) {
+    public ProductRepositoryImpl(ProductJpaRepository jpaRepository, JdbcTemplate jdbcTemplate,
+                                 TenantCacheRegistry tenantCacheRegistry,
+                                 @Value("${sicua.cache.products.ttl-seconds:60}") long cacheTtlSeconds,
+                                 @Value("${sicua.cache.products.max-entries:50000}") long cacheMaxEntries) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotCache = new ProductSnapshotCache(cacheTtlSeconds, cacheMaxEntries);
+        tenantCacheRegistry.register(snapshotCache);
     }
     
     @Override
     public Optional<Product> findByIdAndStoreId(ProductId productId, String storeId) {
-        return jpaRepository.findByProductIdAndStoreId(productId.getValue(), storeId)
-                .map(this::toDomain);
+        return Optional.ofNullable(snapshotCache.getAll(storeId, List.of(productId),
+                ids -> loadAllByIdsAndStoreId(ids, storeId)).get(productId));
+    }
+    
+    @Override
+    public List<Product> findAllByIdsAndStoreId(Collection<ProductId> productIds, String storeId) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        
+        return new ArrayList<>(snapshotCache.getAll(storeId, productIds,
+                ids -> loadAllByIdsAndStoreId(ids, storeId)).values());
+    }
+    
+    @Override
+    public List<Product> reloadAllByIdsAndStoreId(Collection<ProductId> productIds, String storeId) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        
+        return loadAllByIdsAndStoreId(productIds, storeId);
+    }
+    
+    @Override
+    public List<Product> lockAllByIdsAndStoreId(Collection<ProductId> productIds, String storeId) {
+        List<ProductId> ids = productIds.stream()
+                .distinct()
+                .sorted(LOCK_ORDER)
+                .collect(Collectors.toList());
+        
+        List<Object[]> batchArgs = ids.stream()
+                .map(productId -> new Object[]{productId.getValue(), storeId})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(LOCK_PRODUCT_SQL, batchArgs);
+        
+        // The rows stay locked until the transaction ends, a plain read sees their current stock
+        List<Product> products = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            products.addAll(loadAllByIdsAndStoreId(ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size())), storeId));
+        }
+        return products;
+    }
+    
+    @Override
+    public Set<ProductId> findExistingIds(Collection<ProductId> productIds, String storeId) {
+        List<String> ids = productIds.stream()
+                .map(ProductId::getValue)
+                .distinct()
+                .collect(Collectors.toList());
+        
+        Set<ProductId> existingIds = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            List<String> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+            jpaRepository.findProductIdsByStoreIdAndProductIdIn(storeId, chunk)
+                    .forEach(id -> existingIds.add(ProductId.of(id)));
+        }
+        return existingIds;
     }
     
     @Override
@@ -31,11 +141,68 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Product> findBatchByStoreId(String storeId, ProductId after, int batchSize) {
+        List<ProductEntity> entities = after == null
+                ? jpaRepository.findByStoreIdOrderByProductIdAsc(storeId, Limit.of(batchSize))
+                : jpaRepository.findByStoreIdAndProductIdGreaterThanOrderByProductIdAsc(storeId, after.getValue(), Limit.of(batchSize));
+        
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<ProductSummary> findPageByStoreId(String storeId, ProductFilter filter, ProductSort sort,
+                                                  boolean descending, ProductCursor after, int limit) {
+        Specification<ProductEntity> specification = ProductSpecifications.belongsToStore(storeId)
+                .and(ProductSpecifications.matches(filter))
+                .and(ProductSpecifications.after(after));
+        
+        // Interface projection: rows are read into summaries without managed entities or domain copies
+        return jpaRepository.findBy(specification, query -> query
+                .as(ProductSummary.class)
+                .sortBy(ProductSpecifications.keysetOrder(sort, descending))
+                .limit(limit)
+                .all());
+    }
+    
+    @Override
+    public List<Product> findLowStockByStoreId(String storeId, int threshold, int limit) {
+        return jpaRepository.findByStoreIdAndQuantityLessThanEqualOrderByQuantityAscProductIdAsc(storeId, threshold, Limit.of(limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Product> searchByStoreId(String storeId, String text, int offset, int limit) {
+        Specification<ProductEntity> specification = ProductSpecifications.belongsToStore(storeId)
+                .and(ProductSpecifications.containsText(storeId, text));
+        
+        // Offset positions resume after the given element, so skipping n rows means resuming after row n - 1
+        ScrollPosition position = offset == 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset - 1);
+        
+        return jpaRepository.findBy(specification, query -> query
+                        .sortBy(ProductSpecifications.SEARCH_ORDER)
+                        .limit(limit)
+                        .scroll(position))
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     public boolean existsByIdAndStoreId(ProductId productId, String storeId) {
         return jpaRepository.existsByProductIdAndStoreId(productId.getValue(), storeId);
     }
     
+    @Override
+    public boolean existsByNameAndStoreId(String name, String storeId, ProductId excludeProductId) {
+        return excludeProductId == null
+                ? jpaRepository.existsByStoreIdAndNameIgnoreCase(storeId, name)
+                : jpaRepository.existsByStoreIdAndNameIgnoreCaseAndProductIdNot(storeId, name, excludeProductId.getValue());
+    }
+    
     // Legacy method for backward compatibility - checks across all stores
     public boolean existsById(ProductId productId) {
         return jpaRepository.existsById(productId.getValue());
@@ -43,16 +210,94 @@ public class ProductRepositoryImpl implements ProductRepository {
     
     @Override
     public Product save(Product product) {
+        snapshotCache.evict(product.getStoreId(), List.of(product.getProductId()));
         ProductEntity entity = toEntity(product);
         ProductEntity savedEntity = jpaRepository.save(entity);
         return toDomain(savedEntity);
     }
     
+    @Override
+    public void insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        products.stream()
+                .collect(Collectors.groupingBy(Product::getStoreId,
+                        Collectors.mapping(Product::getProductId, Collectors.toList())))
+                .forEach(snapshotCache::evict);
+        
+        List<Object[]> batchArgs = products.stream()
+                .map(product -> new Object[]{
+                        product.getProductId().getValue(),
+                        product.getStoreId(),
+                        product.getName(),
+                        product.getBrand(),
+                        product.getCategoryNumber(),
+                        product.getSize(),
+                        product.getPrice(),
+                        product.getQuantity(),
+                        Timestamp.valueOf(product.getCreatedAt()),
+                        Timestamp.valueOf(product.getUpdatedAt())
+                })
+                .collect(Collectors.toList());
+        
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, batchArgs, INSERT_PRODUCT_TYPES);
+    }
+    
+    @Override
+    public List<ProductId> decrementStock(Map<ProductId, Integer> quantities, String storeId) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        
+        List<ProductId> productIds = quantities.keySet().stream()
+                .sorted(LOCK_ORDER)
+                .collect(Collectors.toList());
+        // Use system local time - no timezone conversion
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        
+        List<Object[]> batchArgs = productIds.stream()
+                .map(productId -> new Object[]{
+                        quantities.get(productId),
+                        updatedAt,
+                        productId.getValue(),
+                        storeId,
+                        quantities.get(productId)
+                })
+                .collect(Collectors.toList());
+        
+        int[] updatedRows = jdbcTemplate.batchUpdate(DECREMENT_STOCK_SQL, batchArgs);
+        
+        // A row count of 0 means the stock guard (or the product lookup) did not match
+        List<ProductId> shortfalls = new ArrayList<>();
+        Map<ProductId, Integer> decremented = new HashMap<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                shortfalls.add(productIds.get(i));
+            } else {
+                decremented.put(productIds.get(i), quantities.get(productIds.get(i)));
+            }
+        }
+        snapshotCache.decrementStock(storeId, decremented);
+        return shortfalls;
+    }
+    
     @Override
     public void deleteByIdAndStoreId(ProductId productId, String storeId) {
+        snapshotCache.evict(storeId, List.of(productId));
         jpaRepository.deleteByProductIdAndStoreId(productId.getValue(), storeId);
     }
     
+    private List<Product> loadAllByIdsAndStoreId(Collection<ProductId> productIds, String storeId) {
+        List<String> ids = productIds.stream()
+                .map(ProductId::getValue)
+                .collect(Collectors.toList());
+        
+        return jpaRepository.findByStoreIdAndProductIdIn(storeId, ids).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+    
     private Product toDomain(ProductEntity entity) {
         Product product = new Product(
                 ProductId.of(entity.getProductId()),
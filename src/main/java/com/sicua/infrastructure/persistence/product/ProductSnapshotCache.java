@@ -0,0 +1,248 @@
+package com.sicua.infrastructure.persistence.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sicua.application.cache.MonitoredCache;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of product snapshots keyed by store and product ID, used by the point-of-sale reads.
+ * <p>
+ * Every store has a write version that moves forward on each write, and every snapshot remembers the version
+ * it was loaded at. A snapshot loaded while the store was being written is never stored, and a committed
+ * stock decrement is only applied to snapshots loaded before the sale started committing; any other
+ * snapshot is dropped because it may or may not already include that sale. Products written in the current
+ * transaction are read from the database until it completes, so uncommitted data is never cached.
+ */
+class ProductSnapshotCache implements MonitoredCache {
+
+    static final String NAME = "products";
+
+    private final Cache<SnapshotKey, Snapshot> cache;
+    private final Map<String, AtomicLong> storeVersions = new ConcurrentHashMap<>();
+    private final LongAdder invalidations = new LongAdder();
+
+    ProductSnapshotCache(long ttlSeconds, long maxEntries) {
+        // A TTL of zero disables the cache
+        this.cache = ttlSeconds > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .maximumSize(maxEntries)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * Returns copies of the cached products and loads the missing ones with a single call to the loader.
+     * IDs that do not exist in the store are left out of the result.
+     */
+    Map<ProductId, Product> getAll(String storeId, Collection<ProductId> productIds,
+                                   Function<Collection<ProductId>, List<Product>> loader) {
+        Map<ProductId, Product> products = new LinkedHashMap<>();
+        if (cache == null) {
+            loader.apply(productIds).forEach(product -> products.put(product.getProductId(), product));
+            return products;
+        }
+
+        Set<SnapshotKey> written = writtenInCurrentTransaction();
+        List<ProductId> missing = new ArrayList<>();
+        for (ProductId productId : productIds) {
+            SnapshotKey key = new SnapshotKey(storeId, productId);
+            Snapshot snapshot = written.contains(key) ? null : cache.getIfPresent(key);
+            if (snapshot != null) {
+                products.put(productId, copyOf(snapshot.product(), 0));
+            } else {
+                missing.add(productId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return products;
+        }
+
+        // The version is read before the query; a snapshot is only stored if no write started since
+        AtomicLong storeVersion = storeVersion(storeId);
+        long loadedAt = storeVersion.get();
+        for (Product product : loader.apply(missing)) {
+            products.put(product.getProductId(), product);
+            SnapshotKey key = new SnapshotKey(storeId, product.getProductId());
+            if (!written.contains(key)) {
+                Snapshot snapshot = new Snapshot(copyOf(product, 0), loadedAt);
+                // Checked under the entry's lock, a write that started after the load always wins
+                cache.asMap().compute(key, (k, current) -> storeVersion.get() == loadedAt ? snapshot : current);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Drops the products now and again once the current transaction commits or rolls back
+     */
+    void evict(String storeId, Collection<ProductId> productIds) {
+        if (cache == null) {
+            return;
+        }
+        List<SnapshotKey> keys = keys(storeId, productIds);
+        storeVersion(storeId).incrementAndGet();
+        keys.forEach(this::invalidate);
+        if (markWritten(keys)) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    storeVersion(storeId).incrementAndGet();
+                    keys.forEach(ProductSnapshotCache.this::invalidate);
+                }
+            });
+        }
+    }
+
+    /**
+     * Writes stock decrements through to the cached snapshots once they commit.
+     * Snapshots loaded before the sale started committing get the decrement, any other snapshot is dropped.
+     */
+    void decrementStock(String storeId, Map<ProductId, Integer> quantities) {
+        if (cache == null) {
+            return;
+        }
+        List<SnapshotKey> keys = keys(storeId, quantities.keySet());
+        if (!markWritten(keys)) {
+            // Already committed, a snapshot loaded meanwhile may or may not include the sale
+            storeVersion(storeId).incrementAndGet();
+            keys.forEach(this::invalidate);
+            return;
+        }
+
+        AtomicLong storeVersion = storeVersion(storeId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long committingAt;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committingAt = storeVersion.incrementAndGet();
+            }
+
+            @Override
+            public void afterCommit() {
+                applyDecrements(storeId, quantities, committingAt);
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    @Override
+    public long estimatedSize() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+
+    @Override
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private void applyDecrements(String storeId, Map<ProductId, Integer> quantities, long committedAt) {
+        quantities.forEach((productId, quantity) -> cache.asMap().computeIfPresent(
+                new SnapshotKey(storeId, productId), (key, snapshot) -> {
+                    if (snapshot.loadedAt() < committedAt) {
+                        return new Snapshot(copyOf(snapshot.product(), quantity), snapshot.loadedAt());
+                    }
+                    invalidations.increment();
+                    return null;
+                }));
+    }
+
+    private void invalidate(SnapshotKey key) {
+        cache.invalidate(key);
+        invalidations.increment();
+    }
+
+    private AtomicLong storeVersion(String storeId) {
+        return storeVersions.computeIfAbsent(storeId, id -> new AtomicLong());
+    }
+
+    /**
+     * Records the keys as written by the current transaction, so its own reads bypass the cache until it completes
+     * @return false if no transaction is active and the write is already committed
+     */
+    private boolean markWritten(Collection<SnapshotKey> keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        Set<SnapshotKey> written = (Set<SnapshotKey>) TransactionSynchronizationManager.getResource(this);
+        if (written == null) {
+            written = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, written);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductSnapshotCache.this);
+                }
+            });
+        }
+        written.addAll(keys);
+        return true;
+    }
+
+    private Set<SnapshotKey> writtenInCurrentTransaction() {
+        @SuppressWarnings("unchecked")
+        Set<SnapshotKey> written = (Set<SnapshotKey>) TransactionSynchronizationManager.getResource(this);
+        return written != null ? written : Set.of();
+    }
+
+    private static List<SnapshotKey> keys(String storeId, Collection<ProductId> productIds) {
+        return productIds.stream()
+                .map(productId -> new SnapshotKey(storeId, productId))
+                .toList();
+    }
+
+    // Products are mutable, the cache keeps its own instance and hands out copies
+    private static Product copyOf(Product product, int soldQuantity) {
+        return new Product(
+                product.getProductId(),
+                product.getStoreId(),
+                product.getName(),
+                product.getBrand(),
+                product.getCategoryNumber(),
+                product.getSize(),
+                product.getPrice(),
+                product.getQuantity() - soldQuantity,
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+
+    private record SnapshotKey(String storeId, ProductId productId) {}
+
+    private record Snapshot(Product product, long loadedAt) {}
+}
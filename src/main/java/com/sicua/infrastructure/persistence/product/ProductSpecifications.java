@@ -0,0 +1,151 @@
+package com.sicua.infrastructure.persistence.product;
+
+import com.sicua.domain.product.valueobject.ProductCursor;
+import com.sicua.domain.product.valueobject.ProductFilter;
+import com.sicua.domain.product.valueobject.ProductSort;
+import com.sicua.infrastructure.persistence.category.CategoryEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * JPA specifications for store-scoped product queries.
+ * Text matches compare lower(column) with a LIKE pattern so PostgreSQL can answer them
+ * from the pg_trgm indexes on lower(name), lower(brand) and lower(size). Category names are
+ * matched through the store's categories, which the (store_id, ...) indexes already narrow down.
+ */
+public final class ProductSpecifications {
+
+    /**
+     * Stable ordering used by product searches
+     */
+    public static final Sort SEARCH_ORDER = Sort.by(Sort.Order.asc("name"), Sort.Order.asc("productId"));
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<ProductEntity> belongsToStore(String storeId) {
+        return (root, query, cb) -> cb.equal(root.get("storeId"), storeId);
+    }
+
+    public static Specification<ProductEntity> matches(ProductFilter filter) {
+        return (root, query, cb) -> {
+            var predicate = cb.conjunction();
+            if (filter == null) {
+                return predicate;
+            }
+            if (filter.getCategoryNumber() != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("categoryNumber"), filter.getCategoryNumber()));
+            }
+            if (filter.getBrand() != null) {
+                predicate = cb.and(predicate, cb.equal(cb.lower(root.get("brand")), filter.getBrand().toLowerCase(Locale.ROOT)));
+            }
+            return predicate;
+        };
+    }
+
+    /**
+     * Keyset ordering of paginated product listings: the sort field, then the product ID, in one direction
+     */
+    public static Sort keysetOrder(ProductSort sort, boolean descending) {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(new Sort.Order(direction, attribute(sort)), new Sort.Order(direction, "productId"));
+    }
+
+    /**
+     * Restricts to products strictly after the cursor in {@link #keysetOrder(ProductSort, boolean)}
+     */
+    public static Specification<ProductEntity> after(ProductCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            Expression<Comparable<Object>> field = root.get(attribute(cursor.getSort()));
+            Comparable<Object> value = sortValue(cursor);
+            Expression<String> productId = root.get("productId");
+            return cb.or(
+                    beyond(cb, field, value, cursor.isDescending()),
+                    cb.and(
+                            cb.equal(field, value),
+                            beyond(cb, productId, cursor.getProductId(), cursor.isDescending())
+                    )
+            );
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate beyond(CriteriaBuilder cb, Expression<? extends T> field,
+                                                                    T value, boolean descending) {
+        return descending ? cb.lessThan(field, value) : cb.greaterThan(field, value);
+    }
+
+    private static String attribute(ProductSort sort) {
+        return switch (sort) {
+            case NAME -> "name";
+            case PRICE -> "price";
+            case STOCK -> "quantity";
+            case CREATED_AT -> "createdAt";
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> sortValue(ProductCursor cursor) {
+        try {
+            Comparable<?> value = switch (cursor.getSort()) {
+                case NAME -> cursor.getValue();
+                case PRICE -> new BigDecimal(cursor.getValue());
+                case STOCK -> Integer.valueOf(cursor.getValue());
+                case CREATED_AT -> LocalDateTime.parse(cursor.getValue());
+            };
+            return (Comparable<Object>) value;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid products cursor: " + cursor.toToken(), e);
+        }
+    }
+
+    /**
+     * Matches products whose name, brand, size or category name contains the text, ignoring case
+     */
+    public static Specification<ProductEntity> containsText(String storeId, String text) {
+        String pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> {
+            Subquery<Integer> categoryNumbers = query.subquery(Integer.class);
+            var category = categoryNumbers.from(CategoryEntity.class);
+            categoryNumbers.select(category.get("categoryNumber"))
+                    .where(
+                            cb.equal(category.get("storeId"), storeId),
+                            cb.like(cb.lower(category.get("name")), pattern, LIKE_ESCAPE)
+                    );
+
+            return cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("brand")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("size")), pattern, LIKE_ESCAPE),
+                    root.get("categoryNumber").in(categoryNumbers)
+            );
+        };
+    }
+
+    /**
+     * Escapes LIKE wildcards so user input is matched literally
+     */
+    static String escapeLike(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import java.math.BigDecimal;
+
+/**
+ * Row of the per-product sales aggregation
+ */
+public interface ProductSalesView {
+    
+    String getProductId();
+    
+    String getName();
+    
+    Long getUnits();
+    
+    BigDecimal getRevenue();
+    
+    Long getSaleCount();
+}
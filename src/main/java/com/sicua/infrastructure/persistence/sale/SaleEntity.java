@@ -1,5 +1,6 @@
 package com.sicua.infrastructure.persistence.sale;
 
+import com.sicua.infrastructure.persistence.common.UuidStringConverter;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -7,11 +8,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "sales")
+@Table(name = "sales", indexes = {
+    @Index(name = "idx_sale_store_created_at", columnList = "store_id, created_at, id"),
+    @Index(name = "idx_sale_store_date", columnList = "store_id, date"),
+    @Index(name = "idx_sale_store_invoiced_date", columnList = "store_id, invoiced, date")
+})
 public class SaleEntity {
     
     @Id
-    @Column(name = "id", length = 36)
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "id")
     private String id;
     
     @Column(name = "client_dni", length = 20)
@@ -32,11 +38,12 @@ public class SaleEntity {
     @Column(name = "store_id", nullable = false, length = 36)
     private String storeId;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
+    // Items write sale_id themselves, so no extra UPDATE per item is issued to link them
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JoinColumn(name = "sale_id")
+    @JoinColumn(name = "sale_id", insertable = false, updatable = false)
     private List<SaleItemEntity> items = new ArrayList<>();
 
     protected SaleEntity() {
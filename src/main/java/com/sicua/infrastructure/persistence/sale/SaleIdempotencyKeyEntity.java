@@ -0,0 +1,93 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import com.sicua.infrastructure.persistence.common.UuidStringConverter;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "sale_idempotency_keys", indexes = {
+    @Index(name = "idx_sale_idempotency_created_at", columnList = "created_at")
+})
+@IdClass(SaleIdempotencyKeyEntity.IdempotencyKeyId.class)
+public class SaleIdempotencyKeyEntity {
+    
+    @Id
+    @Column(name = "store_id", nullable = false, length = 36)
+    private String storeId;
+    
+    @Id
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+    
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+    
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "sale_id")
+    private String saleId;
+    
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected SaleIdempotencyKeyEntity() {
+        // For JPA
+    }
+
+    // Getters
+    public String getStoreId() {
+        return storeId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getSaleId() {
+        return saleId;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public static class IdempotencyKeyId implements Serializable {
+        
+        private String storeId;
+        private String idempotencyKey;
+
+        protected IdempotencyKeyId() {
+            // For JPA
+        }
+
+        public IdempotencyKeyId(String storeId, String idempotencyKey) {
+            this.storeId = storeId;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IdempotencyKeyId that = (IdempotencyKeyId) o;
+            return Objects.equals(storeId, that.storeId) && Objects.equals(idempotencyKey, that.idempotencyKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(storeId, idempotencyKey);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SaleIdempotencyKeyJpaRepository extends JpaRepository<SaleIdempotencyKeyEntity, SaleIdempotencyKeyEntity.IdempotencyKeyId> {
+    
+    List<SaleIdempotencyKeyEntity> findByStoreIdAndIdempotencyKeyIn(String storeId, Collection<String> idempotencyKeys);
+}
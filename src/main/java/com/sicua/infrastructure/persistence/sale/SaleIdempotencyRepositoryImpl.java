@@ -0,0 +1,146 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import com.sicua.domain.sale.repository.SaleIdempotencyRepository;
+import com.sicua.domain.sale.valueobject.IdempotentSale;
+import com.sicua.domain.sale.valueobject.SaleId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Idempotency keys are claimed with a conflict-ignoring insert on the (store_id, idempotency_key) primary key,
+ * so two requests racing with the same key serialize on the index entry and only one creates the sale.
+ */
+@Repository
+public class SaleIdempotencyRepositoryImpl implements SaleIdempotencyRepository {
+    
+    // H2 accepts ON CONFLICT only without a target, the primary key is the only constraint anyway
+    private static final String CLAIM_SQL =
+            "INSERT INTO sale_idempotency_keys (store_id, idempotency_key, request_hash, created_at) " +
+            "VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING";
+    
+    private static final String COMPLETE_SQL =
+            "UPDATE sale_idempotency_keys SET sale_id = ?, response_body = ? WHERE store_id = ? AND idempotency_key = ?";
+    
+    private static final String RELEASE_SQL =
+            "DELETE FROM sale_idempotency_keys WHERE store_id = ? AND idempotency_key = ?";
+    
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM sale_idempotency_keys WHERE created_at < ?";
+    
+    private final SaleIdempotencyKeyJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    public SaleIdempotencyRepositoryImpl(SaleIdempotencyKeyJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public Optional<IdempotentSale> findByKey(String storeId, String idempotencyKey) {
+        return jpaRepository.findById(new SaleIdempotencyKeyEntity.IdempotencyKeyId(storeId, idempotencyKey))
+                .map(this::toDomain);
+    }
+    
+    @Override
+    public Map<String, IdempotentSale> findByKeys(String storeId, Collection<String> idempotencyKeys) {
+        Map<String, IdempotentSale> stored = new HashMap<>();
+        if (idempotencyKeys.isEmpty()) {
+            return stored;
+        }
+        
+        jpaRepository.findByStoreIdAndIdempotencyKeyIn(storeId, idempotencyKeys)
+                .forEach(entity -> stored.put(entity.getIdempotencyKey(), toDomain(entity)));
+        return stored;
+    }
+    
+    @Override
+    public boolean claim(String storeId, String idempotencyKey, String requestHash) {
+        // Use system local time - no timezone conversion
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(CLAIM_SQL, storeId, idempotencyKey, requestHash, now) == 1;
+    }
+    
+    @Override
+    public Set<String> claimAll(String storeId, Map<String, String> requestHashByKey) {
+        if (requestHashByKey.isEmpty()) {
+            return new HashSet<>();
+        }
+        
+        // Use system local time - no timezone conversion
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> keys = new ArrayList<>(requestHashByKey.keySet());
+        List<Object[]> batchArgs = keys.stream()
+                .map(key -> new Object[]{storeId, key, requestHashByKey.get(key), now})
+                .collect(Collectors.toList());
+        
+        int[] insertedRows = jdbcTemplate.batchUpdate(CLAIM_SQL, batchArgs);
+        Set<String> claimed = new HashSet<>();
+        for (int i = 0; i < insertedRows.length; i++) {
+            if (insertedRows[i] == 1) {
+                claimed.add(keys.get(i));
+            }
+        }
+        return claimed;
+    }
+    
+    @Override
+    public void complete(String storeId, String idempotencyKey, SaleId saleId, String responseBody) {
+        jdbcTemplate.update(COMPLETE_SQL, UUID.fromString(saleId.getValue()), responseBody, storeId, idempotencyKey);
+    }
+    
+    @Override
+    public void completeAll(String storeId, Map<String, IdempotentSale> completedByKey) {
+        if (completedByKey.isEmpty()) {
+            return;
+        }
+        
+        List<Object[]> batchArgs = completedByKey.entrySet().stream()
+                .map(entry -> new Object[]{
+                        UUID.fromString(entry.getValue().getSaleId().getValue()),
+                        entry.getValue().getResponseBody(),
+                        storeId,
+                        entry.getKey()
+                })
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(COMPLETE_SQL, batchArgs);
+    }
+    
+    @Override
+    public void release(String storeId, Collection<String> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) {
+            return;
+        }
+        
+        List<Object[]> batchArgs = idempotencyKeys.stream()
+                .map(key -> new Object[]{storeId, key})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(RELEASE_SQL, batchArgs);
+    }
+    
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(cutoff));
+    }
+    
+    private IdempotentSale toDomain(SaleIdempotencyKeyEntity entity) {
+        return new IdempotentSale(
+                entity.getRequestHash(),
+                entity.getSaleId() != null ? SaleId.of(entity.getSaleId()) : null,
+                entity.getResponseBody(),
+                entity.getCreatedAt()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.sicua.infrastructure.persistence.sale;
 
+import com.sicua.infrastructure.persistence.common.UuidStringConverter;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 
@@ -7,11 +8,14 @@ import java.math.BigDecimal;
 @Table(name = "sale_items")
 public class SaleItemEntity {
     
+    // Pooled sequence: one round trip hands out 50 IDs, and unlike IDENTITY lets Hibernate batch the inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sale_item_id")
+    @SequenceGenerator(name = "sale_item_id", sequenceName = "sale_items_id_seq", allocationSize = 50)
     private Long id;
     
-    @Column(name = "sale_id", nullable = false, length = 36)
+    @Convert(converter = UuidStringConverter.class)
+    @Column(name = "sale_id", nullable = false)
     private String saleId;
     
     @Column(name = "product_id", nullable = false, length = 36)
@@ -0,0 +1,37 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SaleItemJpaRepository extends JpaRepository<SaleItemEntity, Long> {
+    
+    String PRODUCT_SALES_FROM =
+            "SELECT i.productId AS productId, MAX(i.name) AS name, SUM(i.quantity) AS units, " +
+            "SUM(i.subtotal) AS revenue, COUNT(DISTINCT s.id) AS saleCount " +
+            "FROM SaleEntity s JOIN SaleItemEntity i ON i.saleId = s.id " +
+            "WHERE s.storeId = :storeId AND s.date >= :from AND s.date < :to ";
+    
+    String PRODUCT_SALES_SELECT = PRODUCT_SALES_FROM + "GROUP BY i.productId ";
+    
+    List<SaleItemEntity> findBySaleIdInOrderByIdAsc(Collection<String> saleIds);
+    
+    @Query(PRODUCT_SALES_SELECT + "ORDER BY SUM(i.quantity) DESC, SUM(i.subtotal) DESC, i.productId")
+    List<ProductSalesView> findTopProductsByUnits(@Param("storeId") String storeId, @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to, Limit limit);
+    
+    @Query(PRODUCT_SALES_SELECT + "ORDER BY SUM(i.subtotal) DESC, SUM(i.quantity) DESC, i.productId")
+    List<ProductSalesView> findTopProductsByRevenue(@Param("storeId") String storeId, @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to, Limit limit);
+    
+    @Query(PRODUCT_SALES_FROM + "AND i.productId IN :productIds GROUP BY i.productId")
+    List<ProductSalesView> findProductSales(@Param("storeId") String storeId, @Param("productIds") Collection<String> productIds,
+                                            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
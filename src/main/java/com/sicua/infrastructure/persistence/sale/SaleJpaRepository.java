@@ -1,13 +1,14 @@
 package com.sicua.infrastructure.persistence.sale;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface SaleJpaRepository extends JpaRepository<SaleEntity, String> {
+public interface SaleJpaRepository extends JpaRepository<SaleEntity, String>, JpaSpecificationExecutor<SaleEntity> {
     
     @Query("SELECT s FROM SaleEntity s ORDER BY s.createdAt DESC")
     List<SaleEntity> findAllOrderByCreatedAtDesc();
@@ -4,33 +4,87 @@ import com.sicua.domain.product.valueobject.ProductId;
 import com.sicua.domain.sale.entity.Sale;
 import com.sicua.domain.sale.entity.SaleItem;
 import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.DailyAmount;
+import com.sicua.domain.sale.valueobject.ProductSales;
+import com.sicua.domain.sale.valueobject.ProductSalesRanking;
+import com.sicua.domain.sale.valueobject.SaleCursor;
+import com.sicua.domain.sale.valueobject.SaleFilter;
 import com.sicua.domain.sale.valueobject.SaleId;
+import com.sicua.infrastructure.persistence.common.UuidStringConverter;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Repository
 public class SaleRepositoryImpl implements SaleRepository {
     
+    // Keeps IN lists well below driver parameter limits
+    private static final int MAX_IDS_PER_QUERY = 1000;
+    
+    private static final String INSERT_SALE_SQL =
+            "INSERT INTO sales (id, client_dni, client_name, date, total, invoiced, store_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    // Each row takes its own value of the pooled sequence; the gaps it leaves are harmless
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO sale_items (id, sale_id, product_id, name, price, quantity, subtotal) " +
+            "VALUES (nextval('sale_items_id_seq'), ?, ?, ?, ?, ?, ?)";
+    
+    // One statement marks the pending sales and sums what it marked per day; the invoiced = false
+    // condition is re-checked on each row it updates, so a sale is never counted twice
+    private static final String MARK_INVOICED_SQL =
+            "WITH marked AS (UPDATE sales SET invoiced = true WHERE store_id = ? AND invoiced = false AND %s " +
+            "RETURNING date, total) " +
+            "SELECT CAST(date AS DATE) AS sale_day, COUNT(*) AS sale_count, SUM(total) AS amount " +
+            "FROM marked GROUP BY CAST(date AS DATE) ORDER BY sale_day";
+    
+    // H2 has no data-modifying CTEs, its delta table gives the same single statement
+    private static final String H2_MARK_INVOICED_SQL =
+            "SELECT CAST(date AS DATE) AS sale_day, COUNT(*) AS sale_count, SUM(total) AS amount " +
+            "FROM FINAL TABLE (UPDATE sales SET invoiced = true WHERE store_id = ? AND invoiced = false AND %s) " +
+            "GROUP BY CAST(date AS DATE) ORDER BY sale_day";
+    
     private final SaleJpaRepository jpaRepository;
+    private final SaleItemJpaRepository itemJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String markInvoicedSql;
     
-    public SaleRepositoryImpl(SaleJpaRepository jpaRepository) {
+    public SaleRepositoryImpl(SaleJpaRepository jpaRepository, SaleItemJpaRepository itemJpaRepository,
+                              JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.itemJpaRepository = itemJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
     public Optional<Sale> findById(SaleId saleId) {
+        if (!UuidStringConverter.isUuid(saleId.getValue())) {
+            return Optional.empty();
+        }
         return jpaRepository.findById(saleId.getValue())
                 .map(this::toDomain);
     }
     
     @Override
     public List<Sale> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findAll());
     }
     
     @Override
@@ -54,49 +108,210 @@ public class SaleRepositoryImpl implements SaleRepository {
         return toDomain(savedEntity);
     }
     
+    @Override
+    public void insertAll(List<Sale> sales) {
+        if (sales.isEmpty()) {
+            return;
+        }
+        
+        List<Object[]> saleArgs = new ArrayList<>(sales.size());
+        List<Object[]> itemArgs = new ArrayList<>();
+        for (Sale sale : sales) {
+            UUID saleId = UUID.fromString(sale.getId().getValue());
+            saleArgs.add(new Object[]{
+                    saleId,
+                    sale.getClientDni(),
+                    sale.getClientName(),
+                    Timestamp.valueOf(sale.getDate()),
+                    sale.getTotal(),
+                    sale.getInvoiced(),
+                    sale.getStoreId(),
+                    Timestamp.valueOf(sale.getCreatedAt())
+            });
+            for (SaleItem item : sale.getItems()) {
+                itemArgs.add(new Object[]{
+                        saleId,
+                        item.getProductId().getValue(),
+                        item.getName(),
+                        item.getPrice(),
+                        item.getQuantity(),
+                        item.getSubtotal()
+                });
+            }
+        }
+        
+        // Sales first, items reference them
+        jdbcTemplate.batchUpdate(INSERT_SALE_SQL, saleArgs);
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, itemArgs);
+    }
+    
+    @Override
+    public List<DailyAmount> markAsInvoiced(String storeId, Collection<SaleId> saleIds) {
+        List<DailyAmount> marked = new ArrayList<>();
+        for (SalePredicate chunk : SalePredicate.ofIds(saleIds)) {
+            marked.addAll(markAsInvoiced(storeId, chunk));
+        }
+        return toDailyAmounts(marked);
+    }
+    
+    @Override
+    public List<DailyAmount> markAsInvoiced(String storeId, SaleFilter filter) {
+        return markAsInvoiced(storeId, SalePredicate.ofFilter(filter));
+    }
+    
     @Override
     public List<Sale> findAllOrderByCreatedAtDesc() {
-        return jpaRepository.findAllOrderByCreatedAtDesc().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findAllOrderByCreatedAtDesc());
     }
     
     @Override
     public List<Sale> findByInvoiced(boolean invoiced) {
-        return jpaRepository.findByInvoiced(invoiced).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByInvoiced(invoiced));
     }
     
     @Override
     public Optional<Sale> findByIdAndStoreId(SaleId saleId, String storeId) {
+        if (!UuidStringConverter.isUuid(saleId.getValue())) {
+            return Optional.empty();
+        }
         SaleEntity entity = jpaRepository.findByIdAndStoreId(saleId.getValue(), storeId);
         return entity != null ? Optional.of(toDomain(entity)) : Optional.empty();
     }
     
     @Override
     public List<Sale> findAllByStoreId(String storeId) {
-        return jpaRepository.findByStoreId(storeId).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByStoreId(storeId));
     }
     
     @Override
     public List<Sale> findAllByStoreIdOrderByCreatedAtDesc(String storeId) {
-        return jpaRepository.findByStoreIdOrderByCreatedAtDesc(storeId).stream()
-                .map(this::toDomain)
+        return toDomainList(jpaRepository.findByStoreIdOrderByCreatedAtDesc(storeId));
+    }
+    
+    @Override
+    @Transactional(readOnly = true) // Sales and their items are read from the same snapshot
+    public List<Sale> findPageByStoreId(String storeId, SaleFilter filter, SaleCursor after, int limit) {
+        if (after != null && !UuidStringConverter.isUuid(after.getSaleId())) {
+            throw new IllegalArgumentException("Invalid sales cursor: " + after.toToken());
+        }
+        
+        Specification<SaleEntity> specification = SaleSpecifications.belongsToStore(storeId)
+                .and(SaleSpecifications.matches(filter))
+                .and(SaleSpecifications.after(after));
+        
+        return toDomainList(jpaRepository.findBy(specification, query -> query
+                .sortBy(SaleSpecifications.KEYSET_ORDER)
+                .limit(limit)
+                .all()));
+    }
+    
+    @Override
+    public List<ProductSales> findTopProducts(String storeId, LocalDateTime from, LocalDateTime to,
+                                              ProductSalesRanking ranking, int limit) {
+        List<ProductSalesView> rows = ranking == ProductSalesRanking.REVENUE
+                ? itemJpaRepository.findTopProductsByRevenue(storeId, from, to, Limit.of(limit))
+                : itemJpaRepository.findTopProductsByUnits(storeId, from, to, Limit.of(limit));
+        
+        return rows.stream()
+                .map(this::toProductSales)
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<ProductSales> findProductSales(String storeId, Collection<ProductId> productIds,
+                                               LocalDateTime from, LocalDateTime to) {
+        List<String> ids = productIds.stream()
+                .map(ProductId::getValue)
+                .distinct()
+                .collect(Collectors.toList());
+        
+        List<ProductSales> productSales = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += MAX_IDS_PER_QUERY) {
+            List<String> chunk = ids.subList(start, Math.min(start + MAX_IDS_PER_QUERY, ids.size()));
+            itemJpaRepository.findProductSales(storeId, chunk, from, to)
+                    .forEach(row -> productSales.add(toProductSales(row)));
+        }
+        return productSales;
+    }
+    
     @Override
     public List<Sale> findByInvoicedAndStoreId(boolean invoiced, String storeId) {
-        return jpaRepository.findByInvoicedAndStoreId(invoiced, storeId).stream()
-                .map(this::toDomain)
+        return toDomainList(jpaRepository.findByInvoicedAndStoreId(invoiced, storeId));
+    }
+    
+    /**
+     * Marks the pending sales matching the predicate and returns what was marked, per day,
+     * without bringing the sales themselves over the wire.
+     */
+    private List<DailyAmount> markAsInvoiced(String storeId, SalePredicate predicate) {
+        return jdbcTemplate.query(String.format(markInvoicedSql(), predicate.sql()),
+                (rs, rowNum) -> new DailyAmount(
+                        rs.getDate("sale_day").toLocalDate(),
+                        rs.getInt("sale_count"),
+                        rs.getBigDecimal("amount")),
+                predicate.argsAfter(storeId));
+    }
+    
+    private String markInvoicedSql() {
+        if (markInvoicedSql == null) {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            markInvoicedSql = "H2".equals(database) ? H2_MARK_INVOICED_SQL : MARK_INVOICED_SQL;
+        }
+        return markInvoicedSql;
+    }
+    
+    private List<DailyAmount> toDailyAmounts(List<DailyAmount> amounts) {
+        // ID chunks may each mark sales of the same day
+        Map<LocalDate, DailyAmount> amountsByDay = new TreeMap<>();
+        for (DailyAmount amount : amounts) {
+            amountsByDay.merge(amount.getDay(), amount,
+                    (a, b) -> new DailyAmount(a.getDay(), a.getSaleCount() + b.getSaleCount(), a.getAmount().add(b.getAmount())));
+        }
+        return new ArrayList<>(amountsByDay.values());
+    }
+    
+    private ProductSales toProductSales(ProductSalesView row) {
+        return new ProductSales(
+                ProductId.of(row.getProductId()),
+                row.getName(),
+                row.getUnits(),
+                row.getRevenue(),
+                row.getSaleCount()
+        );
+    }
+    
+    /**
+     * Maps a list of sales with a single query for all their items (one per 1000 sales)
+     * instead of initializing each sale's lazy collection.
+     */
+    private List<Sale> toDomainList(List<SaleEntity> entities) {
+        if (entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<String> saleIds = entities.stream()
+                .map(SaleEntity::getId)
+                .collect(Collectors.toList());
+        Map<String, List<SaleItemEntity>> itemsBySale = new HashMap<>();
+        for (int from = 0; from < saleIds.size(); from += MAX_IDS_PER_QUERY) {
+            List<String> chunk = saleIds.subList(from, Math.min(from + MAX_IDS_PER_QUERY, saleIds.size()));
+            itemJpaRepository.findBySaleIdInOrderByIdAsc(chunk)
+                    .forEach(item -> itemsBySale.computeIfAbsent(item.getSaleId(), id -> new ArrayList<>()).add(item));
+        }
+        
+        return entities.stream()
+                .map(entity -> toDomain(entity, itemsBySale.getOrDefault(entity.getId(), List.of())))
                 .collect(Collectors.toList());
     }
     
-    private Sale toDomain(SaleEntity entity) {
-        List<SaleItem> items = entity.getItems().stream()
+    // Package-private so the mapping benchmarks can measure it directly
+    Sale toDomain(SaleEntity entity) {
+        return toDomain(entity, entity.getItems());
+    }
+    
+    private Sale toDomain(SaleEntity entity, List<SaleItemEntity> itemEntities) {
+        List<SaleItem> items = itemEntities.stream()
                 .map(this::saleItemToDomain)
                 .collect(Collectors.toList());
         
@@ -128,7 +343,8 @@ public class SaleRepositoryImpl implements SaleRepository {
         );
     }
     
-    private SaleEntity toEntity(Sale sale) {
+    // Package-private so the mapping benchmarks can measure it directly
+    SaleEntity toEntity(Sale sale) {
         SaleEntity entity = new SaleEntity(
                 sale.getId().getValue(),
                 sale.getStoreId(),
@@ -158,4 +374,49 @@ public class SaleRepositoryImpl implements SaleRepository {
                 item.getSubtotal()
         );
     }
+    
+    /**
+     * WHERE clause picking sales by ID or by date bounds; values are always bound as parameters
+     */
+    private record SalePredicate(String sql, List<Object> args) {
+        
+        static List<SalePredicate> ofIds(Collection<SaleId> saleIds) {
+            // IDs that are not UUIDs cannot match any sale, and could not be bound to the uuid column
+            List<UUID> ids = saleIds.stream()
+                    .map(SaleId::getValue)
+                    .filter(UuidStringConverter::isUuid)
+                    .map(UUID::fromString)
+                    .distinct()
+                    .collect(Collectors.toList());
+            
+            List<SalePredicate> chunks = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+                String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                chunks.add(new SalePredicate("id IN (" + placeholders + ")", new ArrayList<>(chunk)));
+            }
+            return chunks;
+        }
+        
+        static SalePredicate ofFilter(SaleFilter filter) {
+            List<String> conditions = new ArrayList<>(List.of("1 = 1"));
+            List<Object> args = new ArrayList<>();
+            if (filter.getFrom() != null) {
+                conditions.add("date >= ?");
+                args.add(Timestamp.valueOf(filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                conditions.add("date < ?");
+                args.add(Timestamp.valueOf(filter.getTo()));
+            }
+            return new SalePredicate(String.join(" AND ", conditions), args);
+        }
+        
+        Object[] argsAfter(String storeId) {
+            List<Object> all = new ArrayList<>(args.size() + 1);
+            all.add(storeId);
+            all.addAll(args);
+            return all.toArray();
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import com.sicua.domain.sale.valueobject.SaleCursor;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * JPA specifications for store-scoped sale queries.
+ * Only the restrictions that are actually set are added, so each query keeps a plain
+ * indexable predicate on (store_id, created_at, id) / (store_id, date).
+ */
+public final class SaleSpecifications {
+
+    /**
+     * Keyset ordering used by paginated sale listings
+     */
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private SaleSpecifications() {
+    }
+
+    public static Specification<SaleEntity> belongsToStore(String storeId) {
+        return (root, query, cb) -> cb.equal(root.get("storeId"), storeId);
+    }
+
+    public static Specification<SaleEntity> matches(SaleFilter filter) {
+        return (root, query, cb) -> {
+            var predicate = cb.conjunction();
+            if (filter == null) {
+                return predicate;
+            }
+            if (filter.getFrom() != null) {
+                predicate = cb.and(predicate, cb.greaterThanOrEqualTo(root.get("date"), filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                predicate = cb.and(predicate, cb.lessThan(root.get("date"), filter.getTo()));
+            }
+            if (filter.getInvoiced() != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("invoiced"), filter.getInvoiced()));
+            }
+            return predicate;
+        };
+    }
+
+    /**
+     * Restricts to sales strictly after the cursor in {@link #KEYSET_ORDER}
+     */
+    public static Specification<SaleEntity> after(SaleCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                            cb.lessThan(root.get("id"), cursor.getSaleId())
+                    )
+            );
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "sales_daily_rollup")
+@IdClass(SalesDailyRollupEntity.RollupId.class)
+public class SalesDailyRollupEntity {
+    
+    @Id
+    @Column(name = "store_id", nullable = false, length = 36)
+    private String storeId;
+    
+    @Id
+    @Column(name = "sale_day", nullable = false)
+    private LocalDate saleDay;
+    
+    @Column(name = "sale_count", nullable = false)
+    private Integer saleCount;
+    
+    @Column(name = "item_units", nullable = false)
+    private Integer itemUnits;
+    
+    @Column(name = "total_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(name = "invoiced_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal invoicedAmount;
+    
+    @Column(name = "pending_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal pendingAmount;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    protected SalesDailyRollupEntity() {
+        // For JPA
+    }
+
+    // Getters
+    public String getStoreId() {
+        return storeId;
+    }
+
+    public LocalDate getSaleDay() {
+        return saleDay;
+    }
+
+    public Integer getSaleCount() {
+        return saleCount;
+    }
+
+    public Integer getItemUnits() {
+        return itemUnits;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public BigDecimal getInvoicedAmount() {
+        return invoicedAmount;
+    }
+
+    public BigDecimal getPendingAmount() {
+        return pendingAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public static class RollupId implements Serializable {
+        
+        private String storeId;
+        private LocalDate saleDay;
+
+        protected RollupId() {
+            // For JPA
+        }
+
+        public RollupId(String storeId, LocalDate saleDay) {
+            this.storeId = storeId;
+            this.saleDay = saleDay;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RollupId that = (RollupId) o;
+            return Objects.equals(storeId, that.storeId) && Objects.equals(saleDay, that.saleDay);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(storeId, saleDay);
+        }
+    }
+}
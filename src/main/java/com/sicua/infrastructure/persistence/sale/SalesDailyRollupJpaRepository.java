@@ -0,0 +1,13 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyRollupJpaRepository extends JpaRepository<SalesDailyRollupEntity, SalesDailyRollupEntity.RollupId> {
+    
+    List<SalesDailyRollupEntity> findByStoreIdAndSaleDayBetweenOrderBySaleDayAsc(String storeId, LocalDate from, LocalDate to);
+}
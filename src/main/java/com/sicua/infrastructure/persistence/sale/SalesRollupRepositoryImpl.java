@@ -0,0 +1,190 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.entity.SaleItem;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import com.sicua.domain.sale.valueobject.DailyAmount;
+import com.sicua.domain.sale.valueobject.DailySales;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Daily rollups are changed with single-row increments instead of read-modify-write,
+ * so concurrent sales of the same store and day serialize on the row lock and never lose an update.
+ */
+@Repository
+public class SalesRollupRepositoryImpl implements SalesRollupRepository {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SalesRollupRepositoryImpl.class);
+    
+    // Portable upsert (H2 accepts ON CONFLICT only without a target): make sure the day exists, then increment it
+    private static final String ENSURE_DAY_SQL =
+            "INSERT INTO sales_daily_rollup (store_id, sale_day, sale_count, item_units, total_amount, invoiced_amount, pending_amount, updated_at) " +
+            "VALUES (?, ?, 0, 0, 0, 0, 0, ?) ON CONFLICT DO NOTHING";
+    
+    private static final String ADD_SALES_SQL =
+            "UPDATE sales_daily_rollup SET sale_count = sale_count + ?, item_units = item_units + ?, " +
+            "total_amount = total_amount + ?, invoiced_amount = invoiced_amount + ?, pending_amount = pending_amount + ?, updated_at = ? " +
+            "WHERE store_id = ? AND sale_day = ?";
+    
+    private static final String INVOICE_SALE_SQL =
+            "UPDATE sales_daily_rollup SET invoiced_amount = invoiced_amount + ?, pending_amount = pending_amount - ?, updated_at = ? " +
+            "WHERE store_id = ? AND sale_day = ?";
+    
+    private static final String REBUILD_SQL =
+            "INSERT INTO sales_daily_rollup (store_id, sale_day, sale_count, item_units, total_amount, invoiced_amount, pending_amount, updated_at) " +
+            "SELECT s.store_id, CAST(s.date AS DATE), COUNT(*), COALESCE(SUM(u.units), 0), SUM(s.total), " +
+            "SUM(CASE WHEN s.invoiced THEN s.total ELSE 0 END), SUM(CASE WHEN s.invoiced THEN 0 ELSE s.total END), ? " +
+            "FROM sales s " +
+            "LEFT JOIN (SELECT sale_id, SUM(quantity) AS units FROM sale_items GROUP BY sale_id) u ON u.sale_id = s.id ";
+    
+    private static final String REBUILD_GROUP_BY = "GROUP BY s.store_id, CAST(s.date AS DATE)";
+    
+    private final SalesDailyRollupJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    public SalesRollupRepositoryImpl(SalesDailyRollupJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void recordSale(Sale sale) {
+        recordSales(List.of(sale));
+    }
+    
+    @Override
+    public void recordSales(List<Sale> sales) {
+        if (sales.isEmpty()) {
+            return;
+        }
+        
+        // Days in a fixed order so batches sharing days cannot deadlock each other
+        Map<StoreDay, DayTotals> totalsByDay = new TreeMap<>(
+                Comparator.comparing(StoreDay::storeId).thenComparing(StoreDay::day));
+        for (Sale sale : sales) {
+            totalsByDay.computeIfAbsent(new StoreDay(sale.getStoreId(), sale.getDate().toLocalDate()),
+                    key -> new DayTotals()).add(sale);
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> ensureArgs = new ArrayList<>();
+        List<Object[]> addArgs = new ArrayList<>();
+        totalsByDay.forEach((key, totals) -> {
+            ensureArgs.add(new Object[]{key.storeId(), Date.valueOf(key.day()), now});
+            addArgs.add(new Object[]{
+                    totals.saleCount,
+                    totals.units,
+                    totals.total,
+                    totals.invoiced,
+                    totals.pending,
+                    now,
+                    key.storeId(),
+                    Date.valueOf(key.day())
+            });
+        });
+        
+        jdbcTemplate.batchUpdate(ENSURE_DAY_SQL, ensureArgs);
+        jdbcTemplate.batchUpdate(ADD_SALES_SQL, addArgs);
+    }
+    
+    @Override
+    public void recordInvoiced(String storeId, List<DailyAmount> amounts) {
+        if (amounts.isEmpty()) {
+            return;
+        }
+        
+        // Days in a fixed order so concurrent invoicing cannot deadlock
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = amounts.stream()
+                .sorted(Comparator.comparing(DailyAmount::getDay))
+                .map(amount -> new Object[]{
+                        amount.getAmount(),
+                        amount.getAmount(),
+                        now,
+                        storeId,
+                        Date.valueOf(amount.getDay())
+                })
+                .collect(Collectors.toList());
+        
+        int[] updatedRows = jdbcTemplate.batchUpdate(INVOICE_SALE_SQL, batchArgs);
+        long missingDays = Arrays.stream(updatedRows).filter(rows -> rows == 0).count();
+        // Sales older than the rollup are counted by the next rebuild
+        if (missingDays > 0) {
+            logger.debug("No daily rollup for {} invoiced days of store {}, skipping", missingDays, storeId);
+        }
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailySales> findByStoreIdAndDayBetween(String storeId, LocalDate from, LocalDate to) {
+        return jpaRepository.findByStoreIdAndSaleDayBetweenOrderBySaleDayAsc(storeId, from, to).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional
+    public int rebuild(String storeId) {
+        jdbcTemplate.update("DELETE FROM sales_daily_rollup WHERE store_id = ?", storeId);
+        return jdbcTemplate.update(REBUILD_SQL + "WHERE s.store_id = ? " + REBUILD_GROUP_BY,
+                Timestamp.valueOf(LocalDateTime.now()), storeId);
+    }
+    
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        jdbcTemplate.update("DELETE FROM sales_daily_rollup");
+        return jdbcTemplate.update(REBUILD_SQL + REBUILD_GROUP_BY, Timestamp.valueOf(LocalDateTime.now()));
+    }
+    
+    private record StoreDay(String storeId, LocalDate day) {}
+    
+    private static class DayTotals {
+        private int saleCount;
+        private long units;
+        private BigDecimal total = BigDecimal.ZERO;
+        private BigDecimal invoiced = BigDecimal.ZERO;
+        private BigDecimal pending = BigDecimal.ZERO;
+        
+        void add(Sale sale) {
+            saleCount++;
+            units += sale.getItems().stream()
+                    .mapToInt(SaleItem::getQuantity)
+                    .sum();
+            total = total.add(sale.getTotal());
+            if (Boolean.TRUE.equals(sale.getInvoiced())) {
+                invoiced = invoiced.add(sale.getTotal());
+            } else {
+                pending = pending.add(sale.getTotal());
+            }
+        }
+    }
+    
+    private DailySales toDomain(SalesDailyRollupEntity entity) {
+        return new DailySales(
+                entity.getSaleDay(),
+                entity.getSaleCount(),
+                entity.getItemUnits(),
+                entity.getTotalAmount(),
+                entity.getInvoicedAmount(),
+                entity.getPendingAmount()
+        );
+    }
+}
@@ -26,6 +26,9 @@ public class StoreConfigEntity {
     @Column(name = "password")
     private String password;
     
+    @Column(name = "low_stock_threshold", nullable = false)
+    private Integer lowStockThreshold;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -36,13 +39,14 @@ public class StoreConfigEntity {
         // For JPA
     }
 
-    public StoreConfigEntity(String id, String name, String address, String email, String phone, String password, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public StoreConfigEntity(String id, String name, String address, String email, String phone, String password, Integer lowStockThreshold, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.address = address;
         this.email = email;
         this.phone = phone;
         this.password = password;
+        this.lowStockThreshold = lowStockThreshold;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -102,6 +106,14 @@ public class StoreConfigEntity {
         this.password = password;
     }
 
+    public Integer getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
+    public void setLowStockThreshold(Integer lowStockThreshold) {
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -1,18 +1,29 @@
 package com.sicua.infrastructure.persistence.storeconfig;
 
+import com.sicua.application.cache.TenantCache;
+import com.sicua.application.cache.TenantCacheRegistry;
 import com.sicua.domain.storeconfig.entity.StoreConfig;
 import com.sicua.domain.storeconfig.repository.StoreConfigRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+/**
+ * Store configuration persistence. Lookups by store ID, done on every authenticated status check and report,
+ * are cached per store; lookups by email stay uncached since they back login and registration.
+ */
 @Repository
 public class StoreConfigRepositoryImpl implements StoreConfigRepository {
     
     private final StoreConfigJpaRepository jpaRepository;
+    private final TenantCache<StoreConfig> cache;
     
-    public StoreConfigRepositoryImpl(StoreConfigJpaRepository jpaRepository) {
+    public StoreConfigRepositoryImpl(StoreConfigJpaRepository jpaRepository, TenantCacheRegistry tenantCacheRegistry,
+                                     @Value("${sicua.cache.store-config.ttl-seconds:600}") long cacheTtlSeconds,
+                                     @Value("${sicua.cache.store-config.max-stores:10000}") long cacheMaxStores) {
         this.jpaRepository = jpaRepository;
+        this.cache = tenantCacheRegistry.create("store-config", cacheTtlSeconds, cacheMaxStores);
     }
     
     @Override
@@ -23,8 +34,11 @@ public class StoreConfigRepositoryImpl implements StoreConfigRepository {
     
     @Override
     public Optional<StoreConfig> findById(String id) {
-        return jpaRepository.findById(id)
-                .map(this::toDomain);
+        // Store configs are mutable, callers always get their own copy of the cached instance
+        return Optional.ofNullable(cache.get(id, storeId -> jpaRepository.findById(storeId)
+                        .map(this::toDomain)
+                        .orElse(null)))
+                .map(config -> toDomain(toEntity(config)));
     }
     
     @Override
@@ -40,6 +54,9 @@ public class StoreConfigRepositoryImpl implements StoreConfigRepository {
     
     @Override
     public StoreConfig save(StoreConfig storeConfig) {
+        if (storeConfig.getId() != null) {
+            cache.evict(storeConfig.getId());
+        }
         StoreConfigEntity entity = toEntity(storeConfig);
         StoreConfigEntity savedEntity = jpaRepository.save(entity);
         return toDomain(savedEntity);
@@ -62,6 +79,12 @@ public class StoreConfigRepositoryImpl implements StoreConfigRepository {
             passwordField.setAccessible(true);
             passwordField.set(config, entity.getPassword());
             
+            if (entity.getLowStockThreshold() != null) {
+                java.lang.reflect.Field lowStockThresholdField = StoreConfig.class.getDeclaredField("lowStockThreshold");
+                lowStockThresholdField.setAccessible(true);
+                lowStockThresholdField.set(config, entity.getLowStockThreshold());
+            }
+            
             java.lang.reflect.Field createdAtField = StoreConfig.class.getDeclaredField("createdAt");
             createdAtField.setAccessible(true);
             createdAtField.set(config, entity.getCreatedAt());
@@ -79,6 +102,7 @@ public class StoreConfigRepositoryImpl implements StoreConfigRepository {
                 storeConfig.getEmail(),
                 storeConfig.getPhone(),
                 storeConfig.getPassword(),
+                storeConfig.getLowStockThreshold(),
                 storeConfig.getCreatedAt(),
                 storeConfig.getUpdatedAt()
         );
@@ -0,0 +1,63 @@
+package com.sicua.interfaces.rest.cache;
+
+import com.sicua.application.cache.dto.CacheStatsResponse;
+import com.sicua.application.cache.usecase.GetCacheStatsUseCase;
+import com.sicua.interfaces.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for the in-memory cache statistics
+ */
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "API para monitorear las cachés en memoria")
+public class CacheController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CacheController.class);
+    
+    private final GetCacheStatsUseCase getCacheStatsUseCase;
+    
+    public CacheController(GetCacheStatsUseCase getCacheStatsUseCase) {
+        this.getCacheStatsUseCase = getCacheStatsUseCase;
+    }
+    
+    /**
+     * Get cache statistics
+     */
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Obtener estadísticas de caché",
+            description = "Retorna aciertos, fallos, tamaño e invalidaciones de las cachés de categorías, configuración de tienda y productos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estadísticas obtenidas exitosamente",
+                    content = @Content(schema = @Schema(implementation = CacheStatsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        logger.info("GET /api/cache/stats - Get cache statistics");
+        
+        List<CacheStatsResponse> stats = getCacheStatsUseCase.execute();
+        return ResponseEntity.ok(stats);
+    }
+}
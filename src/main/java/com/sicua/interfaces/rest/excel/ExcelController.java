@@ -1,9 +1,13 @@
 package com.sicua.interfaces.rest.excel;
 
+import com.sicua.application.excel.dto.ExcelImportJobResponse;
 import com.sicua.application.excel.dto.ExcelImportResponse;
+import com.sicua.application.excel.service.ExcelExport;
 import com.sicua.application.excel.usecase.ExportProductsToExcelUseCase;
 import com.sicua.application.excel.usecase.GenerateExcelTemplateUseCase;
+import com.sicua.application.excel.usecase.GetExcelImportJobUseCase;
 import com.sicua.application.excel.usecase.ImportProductsFromExcelUseCase;
+import com.sicua.application.excel.usecase.StartExcelImportJobUseCase;
 import com.sicua.interfaces.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,6 +24,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -38,13 +43,19 @@ public class ExcelController {
     private final ImportProductsFromExcelUseCase importProductsUseCase;
     private final ExportProductsToExcelUseCase exportProductsUseCase;
     private final GenerateExcelTemplateUseCase generateTemplateUseCase;
+    private final StartExcelImportJobUseCase startImportJobUseCase;
+    private final GetExcelImportJobUseCase getImportJobUseCase;
     
     public ExcelController(ImportProductsFromExcelUseCase importProductsUseCase,
                          ExportProductsToExcelUseCase exportProductsUseCase,
-                         GenerateExcelTemplateUseCase generateTemplateUseCase) {
+                         GenerateExcelTemplateUseCase generateTemplateUseCase,
+                         StartExcelImportJobUseCase startImportJobUseCase,
+                         GetExcelImportJobUseCase getImportJobUseCase) {
         this.importProductsUseCase = importProductsUseCase;
         this.exportProductsUseCase = exportProductsUseCase;
         this.generateTemplateUseCase = generateTemplateUseCase;
+        this.startImportJobUseCase = startImportJobUseCase;
+        this.getImportJobUseCase = getImportJobUseCase;
     }
     
     /**
@@ -118,6 +129,79 @@ public class ExcelController {
         }
     }
     
+    /**
+     * Start a background import of products from an Excel file
+     */
+    @PostMapping(value = "/import/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Iniciar importación de productos en segundo plano",
+            description = "Recibe el archivo Excel y devuelve de inmediato el ID del trabajo. La importación valida todas las filas " +
+                    "y luego confirma los productos por lotes. El progreso se consulta en /api/products/excel/import/{jobId}."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Importación aceptada y en cola",
+                    content = @Content(schema = @Schema(implementation = ExcelImportJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Archivo vacío o que no es Excel",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Demasiadas importaciones en curso",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<ExcelImportJobResponse> startImportJob(
+            @Parameter(description = "Archivo Excel con los productos a importar (.xlsx)", required = true)
+            @RequestParam("file") MultipartFile file) {
+        
+        logger.info("POST /api/products/excel/import/async - Start import job for file: {}", file.getOriginalFilename());
+        
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("El archivo está vacío");
+        }
+        if (!isExcelFile(file)) {
+            throw new IllegalArgumentException("El archivo debe ser un Excel (.xlsx)");
+        }
+        
+        ExcelImportJobResponse job = startImportJobUseCase.execute(file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+    
+    /**
+     * Get the progress of a background import
+     */
+    @GetMapping("/import/{jobId}")
+    @Operation(
+            summary = "Consultar importación en segundo plano",
+            description = "Devuelve el estado, el progreso, los errores por fila y, al terminar, el resultado final de la importación."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estado de la importación",
+                    content = @Content(schema = @Schema(implementation = ExcelImportJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Importación no encontrada o expirada"
+            )
+    })
+    public ResponseEntity<ExcelImportJobResponse> getImportJob(
+            @Parameter(description = "ID del trabajo de importación", required = true)
+            @PathVariable String jobId) {
+        
+        logger.debug("GET /api/products/excel/import/{} - Get import job", jobId);
+        
+        return getImportJobUseCase.execute(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     /**
      * Download Excel template
      */
@@ -180,11 +264,11 @@ public class ExcelController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public ResponseEntity<byte[]> exportProducts() {
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
         logger.info("GET /api/products/excel/export - Export all products to Excel");
         
         try {
-            byte[] excelBytes = exportProductsUseCase.execute();
+            ExcelExport export = exportProductsUseCase.execute();
             
             // Generate filename with timestamp (using local time)
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
@@ -193,12 +277,12 @@ public class ExcelController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             headers.setContentDispositionFormData("attachment", filename);
-            headers.setContentLength(excelBytes.length);
             
-            logger.info("Products exported to Excel successfully: {}", filename);
+            // The file is written straight to the response, its length is not known up front
+            logger.info("Streaming products Excel export: {}", filename);
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(excelBytes);
+                    .body(export::writeTo);
                     
         } catch (Exception e) {
             logger.error("Error exporting products to Excel: {}", e.getMessage(), e);
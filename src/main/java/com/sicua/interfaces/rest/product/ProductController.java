@@ -1,12 +1,19 @@
 package com.sicua.interfaces.rest.product;
 
 import com.sicua.application.product.dto.CreateProductRequest;
+import com.sicua.application.product.dto.LowStockProductsResponse;
+import com.sicua.application.product.dto.ProductPageResponse;
 import com.sicua.application.product.dto.ProductResponse;
+import com.sicua.application.product.dto.ProductSearchResponse;
 import com.sicua.application.product.dto.UpdateProductRequest;
 import com.sicua.application.product.usecase.CreateProductUseCase;
 import com.sicua.application.product.usecase.DeleteProductUseCase;
 import com.sicua.application.product.usecase.GetAllProductsUseCase;
+import com.sicua.application.product.usecase.GetLowStockProductsUseCase;
+import com.sicua.application.product.usecase.GetProductsPageUseCase;
+import com.sicua.application.product.usecase.SearchProductsUseCase;
 import com.sicua.application.product.usecase.UpdateProductUseCase;
+import com.sicua.domain.product.valueobject.ProductFilter;
 import com.sicua.interfaces.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -38,15 +45,24 @@ public class ProductController {
     private final GetAllProductsUseCase getAllProductsUseCase;
     private final UpdateProductUseCase updateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
+    private final GetLowStockProductsUseCase getLowStockProductsUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final GetProductsPageUseCase getProductsPageUseCase;
     
     public ProductController(CreateProductUseCase createProductUseCase,
                            GetAllProductsUseCase getAllProductsUseCase,
                            UpdateProductUseCase updateProductUseCase,
-                           DeleteProductUseCase deleteProductUseCase) {
+                           DeleteProductUseCase deleteProductUseCase,
+                           GetLowStockProductsUseCase getLowStockProductsUseCase,
+                           SearchProductsUseCase searchProductsUseCase,
+                           GetProductsPageUseCase getProductsPageUseCase) {
         this.createProductUseCase = createProductUseCase;
         this.getAllProductsUseCase = getAllProductsUseCase;
         this.updateProductUseCase = updateProductUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
+        this.getLowStockProductsUseCase = getLowStockProductsUseCase;
+        this.searchProductsUseCase = searchProductsUseCase;
+        this.getProductsPageUseCase = getProductsPageUseCase;
     }
     
     /**
@@ -76,6 +92,131 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
     
+    /**
+     * Get products one page at a time
+     */
+    @GetMapping("/page")
+    @Operation(
+            summary = "Obtener productos paginados",
+            description = "Retorna una página de productos usando paginación por cursor, ordenada por nombre, precio, stock " +
+                    "o fecha de creación. Los filtros de categoría y marca se aplican en la base de datos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de productos obtenida exitosamente",
+                    content = @Content(schema = @Schema(implementation = ProductPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor, tamaño de página u orden inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<ProductPageResponse> getProductsPage(
+            @Parameter(description = "Cursor devuelto por la página anterior (omitir para la primera página)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Cantidad de productos por página (máximo " + GetProductsPageUseCase.MAX_PAGE_SIZE + ")", example = "50")
+            @RequestParam(value = "size", required = false) Integer size,
+            @Parameter(description = "Campo de orden: name, price, stock o createdAt", example = "name")
+            @RequestParam(value = "sort", required = false) String sort,
+            @Parameter(description = "Dirección del orden: asc o desc", example = "asc")
+            @RequestParam(value = "direction", required = false) String direction,
+            @Parameter(description = "Filtrar por número de categoría", example = "1")
+            @RequestParam(value = "categoryNumber", required = false) Integer categoryNumber,
+            @Parameter(description = "Filtrar por marca (sin distinguir mayúsculas)", example = "Adidas")
+            @RequestParam(value = "brand", required = false) String brand) {
+        logger.info("GET /api/products/page - Get products page (size: {}, sort: {} {}, category: {}, brand: {})",
+                size, sort, direction, categoryNumber, brand);
+        
+        ProductPageResponse page = getProductsPageUseCase.execute(cursor, size, sort, direction,
+                new ProductFilter(categoryNumber, brand));
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Search products one page at a time
+     */
+    @GetMapping("/search")
+    @Operation(
+            summary = "Buscar productos",
+            description = "Busca productos cuyo nombre, marca, talla o nombre de categoría contiene el texto, " +
+                    "sin distinguir mayúsculas. Los resultados se ordenan por nombre y se devuelven por páginas"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultados de la búsqueda obtenidos exitosamente",
+                    content = @Content(schema = @Schema(implementation = ProductSearchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @Parameter(description = "Texto a buscar (máximo " + SearchProductsUseCase.MAX_QUERY_LENGTH + " caracteres)", required = true, example = "polo")
+            @RequestParam("q") String query,
+            @Parameter(description = "Número de página, empezando en 0", example = "0")
+            @RequestParam(value = "page", required = false) Integer page,
+            @Parameter(description = "Cantidad de productos por página (máximo " + SearchProductsUseCase.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(value = "size", required = false) Integer size) {
+        logger.info("GET /api/products/search - q: '{}', page: {}, size: {}", query, page, size);
+        
+        ProductSearchResponse response = searchProductsUseCase.execute(query, page, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Get products running out of stock
+     */
+    @GetMapping("/low-stock")
+    @Operation(
+            summary = "Obtener productos con stock bajo",
+            description = "Retorna los productos con stock igual o menor al umbral de la tienda, de menor a mayor stock, " +
+                    "con su velocidad de venta reciente y los días estimados hasta agotarse"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Productos con stock bajo obtenidos exitosamente",
+                    content = @Content(schema = @Schema(implementation = LowStockProductsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<LowStockProductsResponse> getLowStockProducts(
+            @Parameter(description = "Umbral de stock, por defecto el configurado en la tienda", example = "5")
+            @RequestParam(value = "threshold", required = false) Integer threshold,
+            @Parameter(description = "Días de ventas para calcular la velocidad de venta (por defecto 30, máximo 365)", example = "30")
+            @RequestParam(value = "days", required = false) Integer days,
+            @Parameter(description = "Cantidad máxima de productos (por defecto 50, máximo 500)", example = "50")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        logger.info("GET /api/products/low-stock - threshold: {}, days: {}, limit: {}", threshold, days, limit);
+        
+        LowStockProductsResponse response = getLowStockProductsUseCase.execute(threshold, days, limit);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Create a new product
      */
@@ -1,11 +1,26 @@
 package com.sicua.interfaces.rest.sale;
 
+import com.sicua.application.excel.service.ExcelExport;
 import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.CreateSalesBatchRequest;
+import com.sicua.application.sale.dto.InvoiceSalesRequest;
+import com.sicua.application.sale.dto.InvoiceSalesResponse;
+import com.sicua.application.sale.dto.SalePageResponse;
 import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.application.sale.dto.SalesBatchResponse;
+import com.sicua.application.sale.dto.SalesSummaryResponse;
+import com.sicua.application.sale.dto.TopProductsResponse;
 import com.sicua.application.sale.usecase.CreateSaleUseCase;
+import com.sicua.application.sale.usecase.CreateSalesBatchUseCase;
 import com.sicua.application.sale.usecase.GetAllSalesUseCase;
+import com.sicua.application.sale.usecase.GetSalesPageUseCase;
+import com.sicua.application.sale.usecase.GetSalesSummaryUseCase;
+import com.sicua.application.sale.usecase.GetTopProductsUseCase;
 import com.sicua.application.sale.usecase.MarkSaleAsInvoicedUseCase;
+import com.sicua.application.sale.usecase.MarkSalesAsInvoicedUseCase;
+import com.sicua.application.sale.usecase.RebuildSalesRollupUseCase;
 import com.sicua.application.sale.usecase.ExportSalesToExcelUseCase;
+import com.sicua.domain.sale.valueobject.SaleFilter;
 import com.sicua.interfaces.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,12 +32,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -38,18 +56,36 @@ public class SaleController {
     private static final Logger logger = LoggerFactory.getLogger(SaleController.class);
     
     private final CreateSaleUseCase createSaleUseCase;
+    private final CreateSalesBatchUseCase createSalesBatchUseCase;
     private final GetAllSalesUseCase getAllSalesUseCase;
+    private final GetSalesPageUseCase getSalesPageUseCase;
     private final MarkSaleAsInvoicedUseCase markSaleAsInvoicedUseCase;
+    private final MarkSalesAsInvoicedUseCase markSalesAsInvoicedUseCase;
     private final ExportSalesToExcelUseCase exportSalesToExcelUseCase;
+    private final GetSalesSummaryUseCase getSalesSummaryUseCase;
+    private final RebuildSalesRollupUseCase rebuildSalesRollupUseCase;
+    private final GetTopProductsUseCase getTopProductsUseCase;
     
     public SaleController(CreateSaleUseCase createSaleUseCase,
+                         CreateSalesBatchUseCase createSalesBatchUseCase,
                          GetAllSalesUseCase getAllSalesUseCase,
+                         GetSalesPageUseCase getSalesPageUseCase,
                          MarkSaleAsInvoicedUseCase markSaleAsInvoicedUseCase,
-                         ExportSalesToExcelUseCase exportSalesToExcelUseCase) {
+                         MarkSalesAsInvoicedUseCase markSalesAsInvoicedUseCase,
+                         ExportSalesToExcelUseCase exportSalesToExcelUseCase,
+                         GetSalesSummaryUseCase getSalesSummaryUseCase,
+                         RebuildSalesRollupUseCase rebuildSalesRollupUseCase,
+                         GetTopProductsUseCase getTopProductsUseCase) {
         this.createSaleUseCase = createSaleUseCase;
+        this.createSalesBatchUseCase = createSalesBatchUseCase;
         this.getAllSalesUseCase = getAllSalesUseCase;
+        this.getSalesPageUseCase = getSalesPageUseCase;
         this.markSaleAsInvoicedUseCase = markSaleAsInvoicedUseCase;
+        this.markSalesAsInvoicedUseCase = markSalesAsInvoicedUseCase;
         this.exportSalesToExcelUseCase = exportSalesToExcelUseCase;
+        this.getSalesSummaryUseCase = getSalesSummaryUseCase;
+        this.rebuildSalesRollupUseCase = rebuildSalesRollupUseCase;
+        this.getTopProductsUseCase = getTopProductsUseCase;
     }
     
     /**
@@ -79,13 +115,153 @@ public class SaleController {
         return ResponseEntity.ok(sales);
     }
     
+    /**
+     * Get sales one page at a time
+     */
+    @GetMapping("/page")
+    @Operation(
+            summary = "Obtener ventas paginadas",
+            description = "Retorna una página de ventas ordenadas por fecha de creación (más recientes primero) usando paginación por cursor. " +
+                    "Los filtros de fecha y estado de facturación se aplican en la base de datos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de ventas obtenida exitosamente",
+                    content = @Content(schema = @Schema(implementation = SalePageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor, tamaño de página o rango de fechas inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<SalePageResponse> getSalesPage(
+            @Parameter(description = "Cursor devuelto por la página anterior (omitir para la primera página)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Cantidad de ventas por página (máximo " + GetSalesPageUseCase.MAX_PAGE_SIZE + ")", example = "50")
+            @RequestParam(value = "size", required = false) Integer size,
+            @Parameter(description = "Fecha de inicio inclusive (YYYY-MM-DD)", example = "2024-01-01")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Fecha de fin inclusive (YYYY-MM-DD)", example = "2024-12-31")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Filtrar por estado de facturación", example = "false")
+            @RequestParam(value = "invoiced", required = false) Boolean invoiced) {
+        logger.info("GET /api/sales/page - Get sales page (size: {}, from: {}, to: {}, invoiced: {})", size, from, to, invoiced);
+        
+        SalePageResponse page = getSalesPageUseCase.execute(cursor, size, SaleFilter.forDays(from, to, invoiced));
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Get sales KPIs for a date range
+     */
+    @GetMapping("/summary")
+    @Operation(
+            summary = "Obtener resumen de ventas",
+            description = "Retorna los totales de ventas, tickets, unidades y montos facturados/por facturar de un rango de fechas, " +
+                    "con el detalle por día. Se calcula desde los totales diarios precalculados. " +
+                    "Por defecto cubre desde el inicio del mes hasta hoy."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resumen de ventas obtenido exitosamente",
+                    content = @Content(schema = @Schema(implementation = SalesSummaryResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Rango de fechas inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<SalesSummaryResponse> getSalesSummary(
+            @Parameter(description = "Fecha de inicio inclusive (YYYY-MM-DD)", example = "2024-01-01")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Fecha de fin inclusive (YYYY-MM-DD)", example = "2024-01-31")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("GET /api/sales/summary - Get sales summary (from: {}, to: {})", from, to);
+        
+        SalesSummaryResponse summary = getSalesSummaryUseCase.execute(from, to);
+        return ResponseEntity.ok(summary);
+    }
+    
+    /**
+     * Get the best selling products of a period
+     */
+    @GetMapping("/top-products")
+    @Operation(
+            summary = "Obtener productos más vendidos",
+            description = "Retorna los productos más vendidos de un periodo por unidades o por monto, " +
+                    "con su velocidad de venta (unidades por día). Por defecto cubre los últimos " + GetTopProductsUseCase.DEFAULT_DAYS + " días."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Productos más vendidos obtenidos exitosamente",
+                    content = @Content(schema = @Schema(implementation = TopProductsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Rango de fechas, criterio o límite inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<TopProductsResponse> getTopProducts(
+            @Parameter(description = "Fecha de inicio inclusive (YYYY-MM-DD)", example = "2024-01-01")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Fecha de fin inclusive (YYYY-MM-DD)", example = "2024-01-30")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Criterio de orden: units (unidades) o revenue (monto)", example = "units")
+            @RequestParam(value = "rankBy", required = false) String rankBy,
+            @Parameter(description = "Cantidad de productos (máximo " + GetTopProductsUseCase.MAX_LIMIT + ")", example = "10")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        logger.info("GET /api/sales/top-products - Get top products (from: {}, to: {}, rankBy: {}, limit: {})", from, to, rankBy, limit);
+        
+        TopProductsResponse topProducts = getTopProductsUseCase.execute(from, to, rankBy, limit);
+        return ResponseEntity.ok(topProducts);
+    }
+    
+    /**
+     * Rebuild the daily sales totals of the current store
+     */
+    @PostMapping("/summary/rebuild")
+    @Operation(
+            summary = "Recalcular totales diarios de ventas",
+            description = "Vuelve a calcular los totales diarios de la tienda a partir de sus ventas. " +
+                    "Útil para ventas registradas antes de existir el resumen o tras correcciones manuales."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Totales recalculados exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<Void> rebuildSalesSummary() {
+        logger.info("POST /api/sales/summary/rebuild - Rebuild daily sales totals");
+        
+        rebuildSalesRollupUseCase.execute();
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * Create a new sale
      */
     @PostMapping
     @Operation(
             summary = "Crear una nueva venta",
-            description = "Crea una nueva venta con múltiples items. Automáticamente reduce el stock de los productos vendidos y calcula el total."
+            description = "Crea una nueva venta con múltiples items. Automáticamente reduce el stock de los productos vendidos y calcula el total. " +
+                    "Enviar el encabezado Idempotency-Key permite reintentar la petición sin duplicar la venta."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -95,12 +271,12 @@ public class SaleController {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Datos de entrada inválidos",
+                    description = "Datos de entrada inválidos o clave de idempotencia usada para otra venta",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
             @ApiResponse(
                     responseCode = "409",
-                    description = "Stock insuficiente para uno o más productos",
+                    description = "Stock insuficiente para uno o más productos, o venta con la misma clave de idempotencia aún en proceso",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
             @ApiResponse(
@@ -110,14 +286,53 @@ public class SaleController {
             )
     })
     public ResponseEntity<SaleResponse> createSale(
+            @Parameter(description = "Clave única de la venta generada por el cliente; los reintentos con la misma clave " +
+                    "devuelven la venta ya creada en lugar de registrarla otra vez", example = "0b6f7c1e-3f1a-4f3e-9a57-2d1c8e5b9a10")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "Datos de la venta a crear", required = true)
             @Valid @RequestBody CreateSaleRequest request) {
         logger.info("POST /api/sales - Create sale for client: {}", request.getClientName());
         
-        SaleResponse response = createSaleUseCase.execute(request);
+        SaleResponse response = createSaleUseCase.execute(request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Create an ordered batch of sales
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Crear un lote de ventas",
+            description = "Registra hasta 500 ventas en el orden recibido, por ejemplo las ventas de una caja que trabajó sin conexión. " +
+                    "El stock se asigna venta por venta en ese orden; una venta sin stock suficiente se rechaza sin afectar al resto. " +
+                    "Cada venta puede enviar su propia clave de idempotencia para reintentar el lote sin duplicar ventas."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote procesado, con el resultado de cada venta",
+                    content = @Content(schema = @Schema(implementation = SalesBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos o lote vacío o con más de 500 ventas",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<SalesBatchResponse> createSalesBatch(
+            @Parameter(description = "Ventas a crear, en el orden en que se realizaron", required = true)
+            @Valid @RequestBody CreateSalesBatchRequest request) {
+        logger.info("POST /api/sales/batch - Create batch of {} sales", request.getSales().size());
+        
+        SalesBatchResponse response = createSalesBatchUseCase.execute(request);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Mark sale as invoiced
      */
@@ -157,6 +372,42 @@ public class SaleController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Mark many sales as invoiced
+     */
+    @PutMapping("/invoice")
+    @Operation(
+            summary = "Facturar ventas en bloque",
+            description = "Marca como facturadas las ventas indicadas por ID (hasta 1000) o todas las ventas pendientes de un rango de días, " +
+                    "sin cargar las ventas. Las ventas pendientes se bloquean antes de marcarlas, así que las ventas ya facturadas " +
+                    "o facturadas al mismo tiempo por otra petición se omiten."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Ventas marcadas como facturadas",
+                    content = @Content(schema = @Schema(implementation = InvoiceSalesResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Se debe enviar una lista de IDs o un rango de fechas válido, no ambos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<InvoiceSalesResponse> markSalesAsInvoiced(
+            @Parameter(description = "Ventas a facturar", required = true)
+            @Valid @RequestBody InvoiceSalesRequest request) {
+        logger.info("PUT /api/sales/invoice - Mark sales as invoiced");
+        
+        InvoiceSalesResponse response = markSalesAsInvoicedUseCase.execute(request);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Export filtered sales to Excel
      */
@@ -171,13 +422,18 @@ public class SaleController {
                     description = "Ventas exportadas exitosamente",
                     content = @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Fecha o mes de filtro inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Error interno del servidor",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public ResponseEntity<byte[]> exportFilteredSales(
+    public ResponseEntity<StreamingResponseBody> exportFilteredSales(
             @Parameter(description = "Tipo de filtro de fecha", example = "all")
             @RequestParam(value = "dateFilterType", defaultValue = "all") String dateFilterType,
             @Parameter(description = "Fecha de inicio (YYYY-MM-DD)", example = "2024-01-01")
@@ -193,7 +449,7 @@ public class SaleController {
                    dateFilterType, statusFilter);
         
         try {
-            byte[] excelBytes = exportSalesToExcelUseCase.execute(
+            ExcelExport export = exportSalesToExcelUseCase.execute(
                 dateFilterType, startDate, endDate, selectedMonth, statusFilter);
             
             // Generate filename with timestamp (using local time) and filters
@@ -217,13 +473,16 @@ public class SaleController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             headers.setContentDispositionFormData("attachment", filename.toString());
-            headers.setContentLength(excelBytes.length);
             
-            logger.info("Sales exported to Excel successfully: {}", filename);
+            // The file is written straight to the response, its length is not known up front
+            logger.info("Streaming sales Excel export: {}", filename);
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(excelBytes);
+                    .body(export::writeTo);
                     
+        } catch (IllegalArgumentException e) {
+            // Invalid filters are answered with 400 by the global handler
+            throw e;
         } catch (Exception e) {
             logger.error("Error exporting sales to Excel: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -0,0 +1,3 @@
+-- Migration script to check for duplicate product names without loading the catalogue
+-- Checks read WHERE store_id = ? AND lower(name) = lower(?) [AND product_id <> ?]
+CREATE INDEX IF NOT EXISTS idx_product_store_lower_name ON products(store_id, lower(name));
@@ -0,0 +1,6 @@
+-- Migration script for keyset pagination of the product catalogue
+-- Pages read WHERE store_id = ? AND (field > ? OR (field = ? AND product_id > ?)) ORDER BY field, product_id LIMIT ?
+-- Stock ordering is served by idx_product_store_quantity from V8
+CREATE INDEX IF NOT EXISTS idx_product_store_name_product ON products(store_id, name, product_id);
+CREATE INDEX IF NOT EXISTS idx_product_store_price_product ON products(store_id, price, product_id);
+CREATE INDEX IF NOT EXISTS idx_product_store_created_at_product ON products(store_id, created_at, product_id);
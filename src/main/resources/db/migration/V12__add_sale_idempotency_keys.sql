@@ -0,0 +1,19 @@
+-- Migration script to make sale creation idempotent
+-- POST /api/sales with an Idempotency-Key header claims (store_id, idempotency_key) in the sale transaction
+-- and stores the response, retries read it back through the primary key
+CREATE TABLE IF NOT EXISTS sale_idempotency_keys (
+    store_id VARCHAR(36) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    sale_id VARCHAR(36),
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (store_id, idempotency_key)
+);
+
+ALTER TABLE sale_idempotency_keys 
+ADD CONSTRAINT fk_sale_idempotency_keys_store 
+FOREIGN KEY (store_id) REFERENCES store_config(id) ON DELETE CASCADE;
+
+-- Expired keys are deleted by age
+CREATE INDEX IF NOT EXISTS idx_sale_idempotency_created_at ON sale_idempotency_keys(created_at);
@@ -0,0 +1,4 @@
+-- Migration script for batched sale item inserts
+-- SaleItemEntity takes IDs from sale_items_id_seq with a pooled optimizer (allocationSize = 50):
+-- each nextval reserves the 50 IDs up to the returned value, so the increment must match the allocation size
+ALTER SEQUENCE sale_items_id_seq INCREMENT BY 50;
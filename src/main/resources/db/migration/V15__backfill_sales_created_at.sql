@@ -0,0 +1,7 @@
+-- Migration script to make sales.created_at mandatory
+-- The sales listing pages by (created_at, id); sales written before created_at was filled in have it NULL
+-- and cannot produce a next-page cursor. Their sale date is the closest value they have.
+UPDATE sales SET created_at = date WHERE created_at IS NULL;
+
+ALTER TABLE sales ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE sales ALTER COLUMN created_at SET NOT NULL;
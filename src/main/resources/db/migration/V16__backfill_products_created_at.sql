@@ -0,0 +1,7 @@
+-- Migration script to make products.created_at mandatory
+-- Product listings sorted by creation date page by (created_at, product_id); products without created_at
+-- cannot produce a next-page cursor and never match it. Their last update is the closest value they have.
+UPDATE products SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+ALTER TABLE products ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE products ALTER COLUMN created_at SET NOT NULL;
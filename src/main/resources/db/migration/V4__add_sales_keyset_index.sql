@@ -0,0 +1,3 @@
+-- Migration script to support keyset pagination of the sales listing
+-- Pages are read with WHERE store_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_sale_store_created_at ON sales(store_id, created_at, id);
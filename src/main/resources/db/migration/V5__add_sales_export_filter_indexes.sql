@@ -0,0 +1,4 @@
+-- Migration script to run filtered sales exports as index range scans
+-- Exports read WHERE store_id = ? [AND invoiced = ?] AND date >= ? AND date < ?
+CREATE INDEX IF NOT EXISTS idx_sale_store_date ON sales(store_id, date);
+CREATE INDEX IF NOT EXISTS idx_sale_store_invoiced_date ON sales(store_id, invoiced, date);
@@ -0,0 +1,3 @@
+-- Migration script to walk a store's inventory in product ID order during streamed exports
+-- Exports read WHERE store_id = ? AND product_id > ? ORDER BY product_id LIMIT ?
+CREATE INDEX IF NOT EXISTS idx_product_store_product ON products(store_id, product_id);
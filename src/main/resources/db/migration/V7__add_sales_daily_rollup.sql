@@ -0,0 +1,28 @@
+-- Migration script to pre-aggregate sales per store and day
+-- Summaries read WHERE store_id = ? AND sale_day BETWEEN ? AND ? instead of scanning every sale
+CREATE TABLE IF NOT EXISTS sales_daily_rollup (
+    store_id VARCHAR(36) NOT NULL,
+    sale_day DATE NOT NULL,
+    sale_count INTEGER NOT NULL DEFAULT 0,
+    item_units INTEGER NOT NULL DEFAULT 0,
+    total_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    invoiced_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    pending_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (store_id, sale_day)
+);
+
+ALTER TABLE sales_daily_rollup 
+ADD CONSTRAINT fk_sales_daily_rollup_store 
+FOREIGN KEY (store_id) REFERENCES store_config(id) ON DELETE CASCADE;
+
+-- Fill the table from the existing sales
+INSERT INTO sales_daily_rollup (store_id, sale_day, sale_count, item_units, total_amount, invoiced_amount, pending_amount, updated_at)
+SELECT s.store_id, CAST(s.date AS DATE), COUNT(*), COALESCE(SUM(u.units), 0), SUM(s.total),
+       SUM(CASE WHEN s.invoiced THEN s.total ELSE 0 END),
+       SUM(CASE WHEN s.invoiced THEN 0 ELSE s.total END),
+       CURRENT_TIMESTAMP
+FROM sales s
+LEFT JOIN (SELECT sale_id, SUM(quantity) AS units FROM sale_items GROUP BY sale_id) u ON u.sale_id = s.id
+GROUP BY s.store_id, CAST(s.date AS DATE)
+ON CONFLICT (store_id, sale_day) DO NOTHING;
@@ -0,0 +1,6 @@
+-- Migration script for the low stock report
+-- Each store picks the quantity at or below which a product counts as low stock
+ALTER TABLE store_config ADD COLUMN IF NOT EXISTS low_stock_threshold INTEGER NOT NULL DEFAULT 5;
+
+-- The report reads WHERE store_id = ? AND quantity <= ? ORDER BY quantity LIMIT ?
+CREATE INDEX IF NOT EXISTS idx_product_store_quantity ON products(store_id, quantity);
@@ -0,0 +1,8 @@
+-- Migration script for server-side product search
+-- Searches read WHERE store_id = ? AND (lower(name) LIKE ? OR lower(brand) LIKE ? OR lower(size) LIKE ? OR ...)
+-- with '%text%' patterns, which B-tree indexes cannot serve; trigram GIN indexes can
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_product_name_trgm ON products USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_product_brand_trgm ON products USING gin (lower(brand) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_product_size_trgm ON products USING gin (lower(size) gin_trgm_ops);
@@ -9,6 +9,7 @@ CREATE TABLE IF NOT EXISTS store_config (
     email VARCHAR(255) UNIQUE NOT NULL,
     phone VARCHAR(50),
     password VARCHAR(255) NOT NULL,
+    low_stock_threshold INTEGER NOT NULL DEFAULT 5,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -48,7 +49,7 @@ CREATE TABLE IF NOT EXISTS products (
     size VARCHAR(50),
     price DECIMAL(10,2) NOT NULL,
     quantity INTEGER NOT NULL DEFAULT 0,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
@@ -57,6 +58,21 @@ CREATE INDEX IF NOT EXISTS idx_product_store_id ON products(store_id);
 CREATE INDEX IF NOT EXISTS idx_product_name ON products(name);
 CREATE INDEX IF NOT EXISTS idx_product_category_number ON products(category_number);
 CREATE INDEX IF NOT EXISTS idx_product_size ON products(size);
+-- Batched inventory exports: WHERE store_id = ? AND product_id > ? ORDER BY product_id
+CREATE INDEX IF NOT EXISTS idx_product_store_product ON products(store_id, product_id);
+-- Low stock report: WHERE store_id = ? AND quantity <= ? ORDER BY quantity
+CREATE INDEX IF NOT EXISTS idx_product_store_quantity ON products(store_id, quantity);
+-- Duplicate name checks: WHERE store_id = ? AND lower(name) = lower(?)
+CREATE INDEX IF NOT EXISTS idx_product_store_lower_name ON products(store_id, lower(name));
+-- Keyset product pages: WHERE store_id = ? AND (field, product_id) > (?, ?) ORDER BY field, product_id
+CREATE INDEX IF NOT EXISTS idx_product_store_name_product ON products(store_id, name, product_id);
+CREATE INDEX IF NOT EXISTS idx_product_store_price_product ON products(store_id, price, product_id);
+CREATE INDEX IF NOT EXISTS idx_product_store_created_at_product ON products(store_id, created_at, product_id);
+-- Product search: lower(column) LIKE '%text%' served by trigram indexes
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_product_name_trgm ON products USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_product_brand_trgm ON products USING gin (lower(brand) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_product_size_trgm ON products USING gin (lower(size) gin_trgm_ops);
 
 -- Add foreign key constraint for products
 ALTER TABLE products 
@@ -65,14 +81,14 @@ FOREIGN KEY (store_id) REFERENCES store_config(id) ON DELETE CASCADE;
 
 -- Sales table (linked to store owner)
 CREATE TABLE IF NOT EXISTS sales (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     store_id VARCHAR(36) NOT NULL,
     client_dni VARCHAR(20),
     client_name VARCHAR(255),
     date TIMESTAMP NOT NULL,
     total DECIMAL(10,2) NOT NULL,
     invoiced BOOLEAN DEFAULT FALSE,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
 -- Create indexes for sales
@@ -80,6 +96,11 @@ CREATE INDEX IF NOT EXISTS idx_sale_store_id ON sales(store_id);
 CREATE INDEX IF NOT EXISTS idx_sale_date ON sales(date);
 CREATE INDEX IF NOT EXISTS idx_sale_client_dni ON sales(client_dni);
 CREATE INDEX IF NOT EXISTS idx_sale_invoiced ON sales(invoiced);
+-- Keyset pagination: WHERE store_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_sale_store_created_at ON sales(store_id, created_at, id);
+-- Filtered exports: WHERE store_id = ? [AND invoiced = ?] AND date >= ? AND date < ?
+CREATE INDEX IF NOT EXISTS idx_sale_store_date ON sales(store_id, date);
+CREATE INDEX IF NOT EXISTS idx_sale_store_invoiced_date ON sales(store_id, invoiced, date);
 
 -- Add foreign key constraint for sales
 ALTER TABLE sales 
@@ -89,7 +110,7 @@ FOREIGN KEY (store_id) REFERENCES store_config(id) ON DELETE CASCADE;
 -- Sale items table (linked to sales)
 CREATE TABLE IF NOT EXISTS sale_items (
     id BIGSERIAL PRIMARY KEY,
-    sale_id VARCHAR(36) NOT NULL,
+    sale_id UUID NOT NULL,
     product_id VARCHAR(36) NOT NULL,
     name VARCHAR(255) NOT NULL,
     price DECIMAL(10,2) NOT NULL,
@@ -97,6 +118,9 @@ CREATE TABLE IF NOT EXISTS sale_items (
     subtotal DECIMAL(10,2) NOT NULL
 );
 
+-- Sale item IDs are handed out 50 at a time by Hibernate's pooled optimizer
+ALTER SEQUENCE sale_items_id_seq INCREMENT BY 50;
+
 -- Create indexes for sale_items
 CREATE INDEX IF NOT EXISTS idx_sale_item_sale_id ON sale_items(sale_id);
 CREATE INDEX IF NOT EXISTS idx_sale_item_product_id ON sale_items(product_id);
@@ -106,6 +130,43 @@ ALTER TABLE sale_items
 ADD CONSTRAINT fk_sale_item_sale 
 FOREIGN KEY (sale_id) REFERENCES sales(id) ON DELETE CASCADE;
 
+-- Daily sales totals per store, kept up to date as sales are created and invoiced
+CREATE TABLE IF NOT EXISTS sales_daily_rollup (
+    store_id VARCHAR(36) NOT NULL,
+    sale_day DATE NOT NULL,
+    sale_count INTEGER NOT NULL DEFAULT 0,
+    item_units INTEGER NOT NULL DEFAULT 0,
+    total_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    invoiced_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    pending_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (store_id, sale_day)
+);
+
+-- Add foreign key constraint for sales_daily_rollup
+ALTER TABLE sales_daily_rollup 
+ADD CONSTRAINT fk_sales_daily_rollup_store 
+FOREIGN KEY (store_id) REFERENCES store_config(id) ON DELETE CASCADE;
+
+-- Idempotency keys of recent sales, so retried requests return the first response instead of selling twice
+CREATE TABLE IF NOT EXISTS sale_idempotency_keys (
+    store_id VARCHAR(36) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    sale_id UUID,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (store_id, idempotency_key)
+);
+
+-- Add foreign key constraint for sale_idempotency_keys
+ALTER TABLE sale_idempotency_keys 
+ADD CONSTRAINT fk_sale_idempotency_keys_store 
+FOREIGN KEY (store_id) REFERENCES store_config(id) ON DELETE CASCADE;
+
+-- Expired idempotency keys are purged by age
+CREATE INDEX IF NOT EXISTS idx_sale_idempotency_created_at ON sale_idempotency_keys(created_at);
+
 -- Create triggers for updated_at columns (PostgreSQL equivalent of MySQL's ON UPDATE CURRENT_TIMESTAMP)
 CREATE OR REPLACE FUNCTION update_updated_at_column()
 RETURNS TRIGGER AS $$
@@ -0,0 +1,100 @@
+package com.sicua.application.excel.service;
+
+import com.sicua.application.excel.dto.ExcelProductImportRequest;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelProcessingServiceTest {
+
+    private final ExcelProcessingService excelProcessingService = new ExcelProcessingService();
+
+    @Test
+    void writeProductsToExcel_MoreRowsThanWindow_WritesEveryRow() throws Exception {
+        // Arrange
+        int productCount = 1_000;
+        Stream<ExcelProductImportRequest> products = IntStream.range(0, productCount)
+                .mapToObj(i -> new ExcelProductImportRequest(
+                        "P" + i, "Producto " + i, new BigDecimal("10.50"), "M", "Rojo", 1, "Polos", i, "Marca"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        int written = excelProcessingService.writeProductsToExcel(products::iterator, outputStream);
+
+        // Assert
+        assertEquals(productCount, written);
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Inventario");
+            assertEquals(productCount, sheet.getLastRowNum());
+            assertEquals("Producto_ID", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("P0", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("P999", sheet.getRow(productCount).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void readProducts_StreamsRowsWithExcelRowNumbers() throws Exception {
+        // Arrange
+        Path workbookFile = Files.createTempFile("products-", ".xlsx");
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(workbookFile)) {
+            Sheet sheet = workbook.createSheet("Productos");
+            sheet.createRow(0).createCell(0).setCellValue("Producto_ID");
+            writeRow(sheet.createRow(1), 7750123456789d, "Polo", 29.9, 3, 12);
+            // Row 3 is left empty
+            writeRow(sheet.createRow(3), "P-002", "Jean", 89.5, 4, 5);
+            writeRow(sheet.createRow(4), "P-003", null, 10, 4, 5);
+            workbook.write(outputStream);
+        }
+        List<ExcelProductImportRequest> products = new ArrayList<>();
+        List<Integer> rowNumbers = new ArrayList<>();
+
+        // Act
+        int emitted;
+        try {
+            emitted = excelProcessingService.readProducts(workbookFile, (product, rowNumber) -> {
+                products.add(product);
+                rowNumbers.add(rowNumber);
+            });
+        } finally {
+            Files.deleteIfExists(workbookFile);
+        }
+
+        // Assert - the row without a name is skipped
+        assertEquals(2, emitted);
+        assertEquals(List.of(2, 4), rowNumbers);
+        assertEquals("7750123456789", products.get(0).getProductId());
+        assertEquals(0, new BigDecimal("29.9").compareTo(products.get(0).getPrecio()));
+        assertEquals(12, products.get(0).getStock());
+        assertEquals("P-002", products.get(1).getProductId());
+        assertEquals(4, products.get(1).getCategoriaNumero());
+    }
+
+    private void writeRow(Row row, Object productId, String name, double price, int category, int stock) {
+        if (productId instanceof Double) {
+            row.createCell(0).setCellValue((Double) productId);
+        } else {
+            row.createCell(0).setCellValue((String) productId);
+        }
+        if (name != null) {
+            row.createCell(1).setCellValue(name);
+        }
+        row.createCell(2).setCellValue(price);
+        row.createCell(5).setCellValue(category);
+        row.createCell(7).setCellValue(stock);
+    }
+}
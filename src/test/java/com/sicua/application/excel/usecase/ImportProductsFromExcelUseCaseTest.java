@@ -0,0 +1,124 @@
+package com.sicua.application.excel.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.category.dto.CategoryResponse;
+import com.sicua.application.category.dto.CreateCategoryRequest;
+import com.sicua.application.category.usecase.CategoryService;
+import com.sicua.application.excel.dto.ExcelImportResponse;
+import com.sicua.application.excel.dto.ExcelProductImportRequest;
+import com.sicua.application.excel.service.ExcelProcessingService;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class ImportProductsFromExcelUseCaseTest {
+
+    @Autowired
+    private ImportProductsFromExcelUseCase importProductsFromExcelUseCase;
+
+    @Autowired
+    private ExcelProcessingService excelProcessingService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_ValidFileLargerThanOneBatch_InsertsProductsAndNewCategories() throws Exception {
+        // Arrange
+        String storeId = "store-import-valid";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        createCategory(storeId, 1, "Polos");
+        // Rows alternate between the existing category 1 and a new category 2, with other names from row 6 on
+        List<ExcelProductImportRequest> rows = IntStream.range(0, 1_200)
+                .mapToObj(i -> new ExcelProductImportRequest("IMP-" + i, "Producto " + i, new BigDecimal("19.90"),
+                        "M", null, i % 2 + 1, i >= 4 ? "Otros" : i % 2 == 0 ? "Polos" : "Jeans", 5, null))
+                .collect(Collectors.toList());
+
+        // Act
+        ExcelImportResponse response = importProductsFromExcelUseCase.execute(workbook(rows));
+
+        // Assert
+        assertEquals(1_200, response.getTotalProcessed());
+        assertEquals(1_200, response.getSuccessfulImports());
+        assertEquals(1, response.getCategoriesCreated());
+        assertTrue(response.getErrors().isEmpty());
+        assertTrue(response.getWarnings().contains("Fila 3: Se creó automáticamente la categoría 2 - 'Jeans'"));
+        assertTrue(response.getWarnings().contains(
+                "Fila 6: Categoría 1 ya existe con nombre 'Polos'. Se ignora el nombre proporcionado 'Otros'"));
+        assertTrue(response.getWarnings().contains(
+                "Fila 7: Categoría 2 ya existe con nombre 'Jeans'. Se ignora el nombre proporcionado 'Otros'"));
+
+        Map<Integer, String> categories = categoryService.getAllCategories(storeId).stream()
+                .collect(Collectors.toMap(CategoryResponse::getCategoryNumber, CategoryResponse::getName));
+        assertEquals(Map.of(1, "Polos", 2, "Jeans"), categories);
+
+        Product last = productRepository.findByIdAndStoreId(ProductId.of("IMP-1199"), storeId).orElseThrow();
+        assertEquals("Producto 1199", last.getName());
+        assertEquals(2, last.getCategoryNumber());
+        assertEquals(0, new BigDecimal("19.90").compareTo(last.getPrice()));
+        assertEquals(1_200, productRepository.findAllByStoreId(storeId).size());
+    }
+
+    @Test
+    void execute_ExistingAndRepeatedIds_ReportsEveryRowAndImportsNothing() throws Exception {
+        // Arrange
+        String storeId = "store-import-invalid";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        productRepository.save(new Product(ProductId.of("DUP-1"), storeId, "Existente",
+                null, null, null, new BigDecimal("10.00"), 1));
+        List<ExcelProductImportRequest> rows = List.of(
+                new ExcelProductImportRequest("DUP-1", "Polo", new BigDecimal("10.00"), null, null, 1, "Polos", 1, null),
+                new ExcelProductImportRequest("NEW-1", "Jean", new BigDecimal("10.00"), null, null, 1, "Polos", 1, null),
+                new ExcelProductImportRequest("NEW-1", "Jean", new BigDecimal("10.00"), null, null, 1, "Polos", 1, null),
+                new ExcelProductImportRequest("NEW-2", "Short", new BigDecimal("10.00"), null, null, 9, null, 1, null));
+
+        // Act
+        ExcelImportResponse response = importProductsFromExcelUseCase.execute(workbook(rows));
+
+        // Assert
+        assertEquals(4, response.getTotalProcessed());
+        assertEquals(0, response.getSuccessfulImports());
+        assertEquals(List.of(
+                "Fila 2: El producto con ID 'DUP-1' ya existe en la tienda",
+                "Fila 4: El producto con ID 'NEW-1' está repetido en el archivo",
+                "Fila 5: Categoría 9 no existe y no se proporcionó nombre para crearla"), response.getErrors());
+        assertEquals(1, productRepository.findAllByStoreId(storeId).size());
+        assertTrue(categoryService.getAllCategories(storeId).isEmpty());
+    }
+
+    private void createCategory(String storeId, int number, String name) {
+        CreateCategoryRequest request = new CreateCategoryRequest();
+        request.setCategoryNumber(number);
+        request.setName(name);
+        categoryService.createCategory(storeId, request);
+    }
+
+    private MockMultipartFile workbook(List<ExcelProductImportRequest> rows) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelProcessingService.writeProductsToExcel(rows, outputStream);
+        return new MockMultipartFile("file", "productos.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,118 @@
+package com.sicua.application.excel.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.excel.dto.ExcelImportJobResponse;
+import com.sicua.application.excel.dto.ExcelImportJobStatus;
+import com.sicua.application.excel.dto.ExcelProductImportRequest;
+import com.sicua.application.excel.service.ExcelProcessingService;
+import com.sicua.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class StartExcelImportJobUseCaseTest {
+
+    @Autowired
+    private StartExcelImportJobUseCase startExcelImportJobUseCase;
+
+    @Autowired
+    private GetExcelImportJobUseCase getExcelImportJobUseCase;
+
+    @Autowired
+    private ExcelProcessingService excelProcessingService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_ValidFile_CompletesInBackgroundAndReportsProgress() throws Exception {
+        // Arrange
+        String storeId = "store-import-job-valid";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        List<ExcelProductImportRequest> rows = IntStream.range(0, 1_100)
+                .mapToObj(i -> new ExcelProductImportRequest("JOB-" + i, "Producto " + i, new BigDecimal("5.00"),
+                        null, null, 3, "Accesorios", 2, null))
+                .collect(Collectors.toList());
+
+        // Act
+        ExcelImportJobResponse started = startExcelImportJobUseCase.execute(workbook(rows));
+        ExcelImportJobResponse finished = awaitFinished(started.getJobId());
+
+        // Assert
+        assertNotNull(started.getJobId());
+        assertEquals(ExcelImportJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(1_100, finished.getTotalRows());
+        assertEquals(1_100, finished.getValidatedRows());
+        assertEquals(1_100, finished.getImportedProducts());
+        assertEquals(1, finished.getCategoriesCreated());
+        assertTrue(finished.getErrors().isEmpty());
+        assertEquals(1_100, finished.getResult().getSuccessfulImports());
+        assertEquals(1_100, productRepository.findAllByStoreId(storeId).size());
+    }
+
+    @Test
+    void execute_InvalidRows_RejectsJobWithRowErrors() throws Exception {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn("store-import-job-invalid");
+        List<ExcelProductImportRequest> rows = List.of(
+                new ExcelProductImportRequest("REJ-1", "Polo", new BigDecimal("5.00"), null, null, 77, null, 1, null));
+
+        // Act
+        ExcelImportJobResponse finished = awaitFinished(startExcelImportJobUseCase.execute(workbook(rows)).getJobId());
+
+        // Assert
+        assertEquals(ExcelImportJobStatus.REJECTED, finished.getStatus());
+        assertEquals(List.of("Fila 2: Categoría 77 no existe y no se proporcionó nombre para crearla"), finished.getErrors());
+        assertEquals(0, finished.getImportedProducts());
+    }
+
+    @Test
+    void getJob_FromAnotherStore_IsNotFound() throws Exception {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn("store-import-job-owner");
+        List<ExcelProductImportRequest> rows = List.of(
+                new ExcelProductImportRequest("OWN-1", "Polo", new BigDecimal("5.00"), null, null, 3, "Accesorios", 1, null));
+        String jobId = startExcelImportJobUseCase.execute(workbook(rows)).getJobId();
+        awaitFinished(jobId);
+
+        // Act
+        when(sessionService.getCurrentStoreId()).thenReturn("another-store");
+
+        // Assert
+        assertTrue(getExcelImportJobUseCase.execute(jobId).isEmpty());
+    }
+
+    private ExcelImportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            ExcelImportJobResponse job = getExcelImportJobUseCase.execute(jobId).orElseThrow();
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        return fail("Import job " + jobId + " did not finish in time");
+    }
+
+    private MockMultipartFile workbook(List<ExcelProductImportRequest> rows) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        excelProcessingService.writeProductsToExcel(rows, outputStream);
+        return new MockMultipartFile("file", "productos.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,103 @@
+package com.sicua.application.product.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.product.dto.LowStockProductsResponse;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.usecase.CreateSaleUseCase;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.storeconfig.entity.StoreConfig;
+import com.sicua.domain.storeconfig.repository.StoreConfigRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class GetLowStockProductsUseCaseTest {
+
+    @Autowired
+    private GetLowStockProductsUseCase getLowStockProductsUseCase;
+
+    @Autowired
+    private CreateSaleUseCase createSaleUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreConfigRepository storeConfigRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_UsesStoreThresholdAndEstimatesDaysToStockout() {
+        // Arrange
+        StoreConfig storeConfig = new StoreConfig("Tienda", null, "low-stock@sicua.com", null);
+        storeConfig.updateLowStockThreshold(3);
+        String storeId = storeConfigRepository.save(storeConfig).getId();
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "LOW-SOLD", 5);
+        saveProduct(storeId, "LOW-IDLE", 1);
+        saveProduct(storeId, "LOW-FULL", 50);
+        createSaleUseCase.execute(new CreateSaleRequest(null, "Cliente", List.of(
+                new SaleItemRequest("LOW-SOLD", "Producto LOW-SOLD", new BigDecimal("10.00"), 2))));
+
+        // Act
+        LowStockProductsResponse response = getLowStockProductsUseCase.execute(null, 10, null);
+        LowStockProductsResponse overridden = getLowStockProductsUseCase.execute(0, null, null);
+
+        // Assert
+        assertEquals(3, response.getThreshold());
+        assertEquals(10, response.getDays());
+        assertEquals(List.of("LOW-IDLE", "LOW-SOLD"), productIds(response));
+
+        LowStockProductsResponse.LowStockProductResponse idle = response.getProducts().get(0);
+        assertEquals(1, idle.getQuantity());
+        assertEquals(0, idle.getUnitsSold());
+        assertNull(idle.getDaysToStockout());
+
+        LowStockProductsResponse.LowStockProductResponse sold = response.getProducts().get(1);
+        assertEquals(3, sold.getQuantity());
+        assertEquals(2, sold.getUnitsSold());
+        assertEquals(new BigDecimal("0.20"), sold.getUnitsPerDay());
+        assertEquals(new BigDecimal("15.0"), sold.getDaysToStockout());
+
+        assertEquals(0, overridden.getThreshold());
+        assertEquals(GetLowStockProductsUseCase.DEFAULT_DAYS, overridden.getDays());
+        assertTrue(overridden.getProducts().isEmpty());
+    }
+
+    @Test
+    void execute_InvalidParameters_ThrowsIllegalArgumentException() {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn("store-low-stock-invalid");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> getLowStockProductsUseCase.execute(-1, null, null));
+        assertThrows(IllegalArgumentException.class, () -> getLowStockProductsUseCase.execute(null, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> getLowStockProductsUseCase.execute(null, null, GetLowStockProductsUseCase.MAX_LIMIT + 1));
+    }
+
+    private void saveProduct(String storeId, String productId, int quantity) {
+        productRepository.save(new Product(ProductId.of(productId), storeId, "Producto " + productId,
+                null, null, null, new BigDecimal("10.00"), quantity));
+    }
+
+    private List<String> productIds(LowStockProductsResponse response) {
+        return response.getProducts().stream()
+                .map(LowStockProductsResponse.LowStockProductResponse::getProductId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,111 @@
+package com.sicua.application.product.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.product.dto.ProductPageResponse;
+import com.sicua.application.product.dto.ProductResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductFilter;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class GetProductsPageUseCaseTest {
+
+    @Autowired
+    private GetProductsPageUseCase getProductsPageUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_WalksPagesByPriceDescendingWithTies() {
+        // Arrange
+        String storeId = "store-product-pages";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "PG-1", "Polo", "Adidas", 1, "10.00");
+        saveProduct(storeId, "PG-2", "Jean", "Levi's", 2, "50.00");
+        saveProduct(storeId, "PG-3", "Gorra", "adidas", 1, "10.00");
+        saveProduct(storeId, "PG-4", "Casaca", "Nike", 2, "80.00");
+        saveProduct(storeId, "PG-5", "Media", "Adidas", 1, "10.00");
+
+        // Act
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ProductPageResponse page = getProductsPageUseCase.execute(cursor, 2, "price", "desc", ProductFilter.none());
+            walked.addAll(productIds(page));
+            cursor = page.getNextCursor();
+            assertEquals(cursor != null, page.isHasMore());
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(3, pages);
+        assertEquals(List.of("PG-4", "PG-2", "PG-5", "PG-3", "PG-1"), walked);
+    }
+
+    @Test
+    void execute_FiltersByCategoryAndBrand() {
+        // Arrange
+        String storeId = "store-product-pages-filter";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "PF-1", "Polo", "Adidas", 1, "10.00");
+        saveProduct(storeId, "PF-2", "Gorra", "ADIDAS", 2, "10.00");
+        saveProduct(storeId, "PF-3", "Media", "Nike", 1, "10.00");
+
+        // Act
+        ProductPageResponse page = getProductsPageUseCase.execute(null, null, null, null, new ProductFilter(1, "adidas"));
+
+        // Assert
+        assertEquals(List.of("PF-1"), productIds(page));
+        ProductResponse product = page.getProducts().get(0);
+        assertEquals("Polo", product.getName());
+        assertEquals(0, new BigDecimal("10.00").compareTo(product.getPrice()));
+        assertNotNull(product.getCreatedAt());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void execute_CursorFromAnotherSortOrInvalidSort_ThrowsIllegalArgumentException() {
+        // Arrange
+        String storeId = "store-product-pages-invalid";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "PI-1", "Polo", null, null, "10.00");
+        saveProduct(storeId, "PI-2", "Jean", null, null, "20.00");
+        String nameCursor = getProductsPageUseCase.execute(null, 1, "name", null, ProductFilter.none()).getNextCursor();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> getProductsPageUseCase.execute(nameCursor, 1, "price", null, ProductFilter.none()));
+        assertThrows(IllegalArgumentException.class,
+                () -> getProductsPageUseCase.execute(null, null, "margin", null, ProductFilter.none()));
+    }
+
+    private void saveProduct(String storeId, String productId, String name, String brand, Integer categoryNumber, String price) {
+        productRepository.save(new Product(ProductId.of(productId), storeId, name,
+                brand, categoryNumber, null, new BigDecimal(price), 1));
+    }
+
+    private List<String> productIds(ProductPageResponse page) {
+        return page.getProducts().stream()
+                .map(ProductResponse::getProductId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,103 @@
+package com.sicua.application.product.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.category.dto.CreateCategoryRequest;
+import com.sicua.application.category.usecase.CategoryService;
+import com.sicua.application.product.dto.ProductResponse;
+import com.sicua.application.product.dto.ProductSearchResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class SearchProductsUseCaseTest {
+
+    @Autowired
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_MatchesNameBrandSizeAndCategoryIgnoringCase() {
+        // Arrange
+        String storeId = "store-search";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        CreateCategoryRequest category = new CreateCategoryRequest();
+        category.setCategoryNumber(2);
+        category.setName("Pantalones");
+        categoryService.createCategory(storeId, category);
+        saveProduct(storeId, "S-1", "Polo básico", "Adidas", 1, "M");
+        saveProduct(storeId, "S-2", "Jean slim", "Levi's", 2, "32");
+        saveProduct(storeId, "S-3", "Gorra 100%", null, 1, "XL");
+        saveProduct(storeId, "S-4", "Gorra 1000", null, 1, null);
+        saveProduct("store-search-other", "S-5", "Polo ajeno", null, 1, null);
+
+        // Act & Assert
+        assertEquals(List.of("Polo básico"), names(searchProductsUseCase.execute("POLO", null, null)));
+        assertEquals(List.of("Jean slim"), names(searchProductsUseCase.execute("levi", null, null)));
+        assertEquals(List.of("Gorra 100%"), names(searchProductsUseCase.execute("xl", null, null)));
+        assertEquals(List.of("Jean slim"), names(searchProductsUseCase.execute("pantal", null, null)));
+        // Wildcards in the search text are matched literally
+        assertEquals(List.of("Gorra 100%"), names(searchProductsUseCase.execute("100%", null, null)));
+    }
+
+    @Test
+    void execute_PagesThroughResultsOrderedByName() {
+        // Arrange
+        String storeId = "store-search-pages";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "P-3", "Polo C", null, null, null);
+        saveProduct(storeId, "P-1", "Polo A", null, null, null);
+        saveProduct(storeId, "P-2", "Polo B", null, null, null);
+
+        // Act
+        ProductSearchResponse first = searchProductsUseCase.execute(" polo ", 0, 2);
+        ProductSearchResponse second = searchProductsUseCase.execute("polo", 1, 2);
+
+        // Assert
+        assertEquals("polo", first.getQuery());
+        assertEquals(List.of("Polo A", "Polo B"), names(first));
+        assertTrue(first.isHasMore());
+        assertEquals(List.of("Polo C"), names(second));
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    void execute_BlankTextOrNegativePage_ThrowsIllegalArgumentException() {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn("store-search-invalid");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> searchProductsUseCase.execute("  ", null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchProductsUseCase.execute("polo", -1, null));
+    }
+
+    private void saveProduct(String storeId, String productId, String name, String brand, Integer categoryNumber, String size) {
+        productRepository.save(new Product(ProductId.of(productId), storeId, name,
+                brand, categoryNumber, size, new BigDecimal("10.00"), 1));
+    }
+
+    private List<String> names(ProductSearchResponse response) {
+        return response.getProducts().stream()
+                .map(ProductResponse::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,115 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class CreateSaleUseCaseConcurrencyTest {
+
+    private static final String STORE_ID = "store-concurrency";
+    private static final int THREADS = 16;
+    private static final int SALES_PER_THREAD = 10;
+    private static final int INITIAL_STOCK = 50;
+
+    @Autowired
+    private CreateSaleUseCase createSaleUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_ConcurrentSalesOfSameProducts_NeverOversells() throws Exception {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn(STORE_ID);
+        saveProduct("CONC-A", INITIAL_STOCK);
+        saveProduct("CONC-B", INITIAL_STOCK);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<int[]>> results = new ArrayList<>();
+
+        // Every sale takes one unit of both products, half the threads list them in the opposite order
+        for (int t = 0; t < THREADS; t++) {
+            boolean reversed = t % 2 == 1;
+            Callable<int[]> till = () -> {
+                start.await();
+                int sold = 0;
+                int rejected = 0;
+                for (int i = 0; i < SALES_PER_THREAD; i++) {
+                    try {
+                        createSaleUseCase.execute(saleRequest(reversed));
+                        sold++;
+                    } catch (IllegalStateException e) {
+                        rejected++;
+                    }
+                }
+                return new int[]{sold, rejected};
+            };
+            results.add(executor.submit(till));
+        }
+
+        // Act
+        start.countDown();
+        int sold = 0;
+        int rejected = 0;
+        for (Future<int[]> result : results) {
+            int[] counts = result.get(60, TimeUnit.SECONDS);
+            sold += counts[0];
+            rejected += counts[1];
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(THREADS * SALES_PER_THREAD, sold + rejected);
+        assertEquals(INITIAL_STOCK, sold);
+        assertEquals(0, stockOf("CONC-A"));
+        assertEquals(0, stockOf("CONC-B"));
+        assertEquals(INITIAL_STOCK, saleRepository.findPageByStoreId(STORE_ID, SaleFilter.none(), null, 1000).size());
+    }
+
+    private void saveProduct(String productId, int quantity) {
+        productRepository.save(new Product(ProductId.of(productId), STORE_ID, "Producto " + productId,
+                null, null, null, new BigDecimal("10.00"), quantity));
+    }
+
+    private int stockOf(String productId) {
+        return productRepository.findByIdAndStoreId(ProductId.of(productId), STORE_ID)
+                .orElseThrow()
+                .getQuantity();
+    }
+
+    private CreateSaleRequest saleRequest(boolean reversed) {
+        SaleItemRequest itemA = new SaleItemRequest("CONC-A", "Producto CONC-A", new BigDecimal("10.00"), 1);
+        SaleItemRequest itemB = new SaleItemRequest("CONC-B", "Producto CONC-B", new BigDecimal("10.00"), 1);
+        return new CreateSaleRequest(null, "Cliente", reversed ? List.of(itemB, itemA) : List.of(itemA, itemB));
+    }
+}
@@ -0,0 +1,179 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.repository.SaleIdempotencyRepository;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class CreateSaleUseCaseIdempotencyTest {
+
+    @Autowired
+    private CreateSaleUseCase createSaleUseCase;
+
+    @Autowired
+    private PurgeIdempotencyKeysUseCase purgeIdempotencyKeysUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleIdempotencyRepository saleIdempotencyRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_RetriedWithSameKey_ReturnsFirstSaleWithoutSellingAgain() {
+        // Arrange
+        String storeId = "store-idempotency";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "IDEM-1", 10);
+
+        // Act
+        SaleResponse first = createSaleUseCase.execute(saleRequest("IDEM-1", 2), "key-1");
+        SaleResponse retry = createSaleUseCase.execute(saleRequest("IDEM-1", 2), "key-1");
+        SaleResponse other = createSaleUseCase.execute(saleRequest("IDEM-1", 2), "key-2");
+
+        // Assert
+        assertEquals(first.getId(), retry.getId());
+        assertEquals(first.getTotal(), retry.getTotal());
+        assertEquals(first.getItems().size(), retry.getItems().size());
+        assertNotEquals(first.getId(), other.getId());
+        assertEquals(6, stockOf(storeId, "IDEM-1"));
+        assertEquals(2, saleRepository.findPageByStoreId(storeId, SaleFilter.none(), null, 100).size());
+    }
+
+    @Test
+    void execute_KeyReusedForDifferentSale_ThrowsIllegalArgumentException() {
+        // Arrange
+        String storeId = "store-idempotency-mismatch";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "IDEM-2", 10);
+        createSaleUseCase.execute(saleRequest("IDEM-2", 1), "key-1");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> createSaleUseCase.execute(saleRequest("IDEM-2", 3), "key-1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> createSaleUseCase.execute(saleRequest("IDEM-2", 1), " "));
+        assertEquals(9, stockOf(storeId, "IDEM-2"));
+    }
+
+    @Test
+    void execute_FailedSale_ReleasesKeyForRetry() {
+        // Arrange
+        String storeId = "store-idempotency-failed";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "IDEM-3", 1);
+
+        // Act
+        assertThrows(IllegalStateException.class,
+                () -> createSaleUseCase.execute(saleRequest("IDEM-3", 2), "key-1"));
+        productRepository.save(new Product(ProductId.of("IDEM-3"), storeId, "Producto IDEM-3",
+                null, null, null, new BigDecimal("10.00"), 5));
+        SaleResponse retry = createSaleUseCase.execute(saleRequest("IDEM-3", 2), "key-1");
+
+        // Assert
+        assertNotNull(retry.getId());
+        assertEquals(3, stockOf(storeId, "IDEM-3"));
+    }
+
+    @Test
+    void execute_ConcurrentRetries_CreateOneSale() throws Exception {
+        // Arrange
+        String storeId = "store-idempotency-concurrent";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "IDEM-4", 100);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return createSaleUseCase.execute(saleRequest("IDEM-4", 1), "key-storm").getId();
+                } catch (IllegalStateException e) {
+                    // The first request had not committed yet, a real client retries later
+                    return null;
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        List<String> saleIds = new ArrayList<>();
+        for (Future<String> result : results) {
+            saleIds.add(result.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Assert
+        Set<String> created = saleIds.stream()
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        assertEquals(1, created.size());
+        assertEquals(99, stockOf(storeId, "IDEM-4"));
+        assertEquals(1, saleRepository.findPageByStoreId(storeId, SaleFilter.none(), null, 100).size());
+    }
+
+    @Test
+    void execute_PurgedKey_IsNoLongerReplayed() {
+        // Arrange
+        String storeId = "store-idempotency-purge";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "IDEM-5", 10);
+        createSaleUseCase.execute(saleRequest("IDEM-5", 1), "key-1");
+
+        // Act
+        int deleted = saleIdempotencyRepository.deleteCreatedBefore(LocalDateTime.now().plusMinutes(1));
+        purgeIdempotencyKeysUseCase.execute();
+
+        // Assert
+        assertTrue(deleted >= 1);
+        assertTrue(saleIdempotencyRepository.findByKey(storeId, "key-1").isEmpty());
+    }
+
+    private void saveProduct(String storeId, String productId, int quantity) {
+        productRepository.save(new Product(ProductId.of(productId), storeId, "Producto " + productId,
+                null, null, null, new BigDecimal("10.00"), quantity));
+    }
+
+    private int stockOf(String storeId, String productId) {
+        return productRepository.reloadAllByIdsAndStoreId(List.of(ProductId.of(productId)), storeId).get(0).getQuantity();
+    }
+
+    private CreateSaleRequest saleRequest(String productId, int quantity) {
+        return new CreateSaleRequest(null, "Cliente", List.of(
+                new SaleItemRequest(productId, "Producto " + productId, new BigDecimal("10.00"), quantity)));
+    }
+}
@@ -0,0 +1,143 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.BatchSaleRequest;
+import com.sicua.application.sale.dto.BatchSaleStatus;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.CreateSalesBatchRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.application.sale.dto.SalesBatchResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import com.sicua.domain.sale.valueobject.DailySales;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class CreateSalesBatchUseCaseTest {
+
+    @Autowired
+    private CreateSalesBatchUseCase createSalesBatchUseCase;
+
+    @Autowired
+    private CreateSaleUseCase createSaleUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_AssignsStockInBatchOrderAndRejectsOnlyTheSalesThatDoNotFit() {
+        // Arrange
+        String storeId = "store-batch";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "BATCH-1", 5);
+        saveProduct(storeId, "BATCH-2", 10);
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+
+        // Act
+        SalesBatchResponse response = createSalesBatchUseCase.execute(new CreateSalesBatchRequest(List.of(
+                saleRequest("BATCH-1", 3, null, yesterday),
+                saleRequest("BATCH-1", 3, null, null),
+                saleRequest("BATCH-1", 2, null, null),
+                saleRequest("MISSING", 1, null, null),
+                new BatchSaleRequest(null, "Cliente", List.of(
+                        new SaleItemRequest("BATCH-2", "Producto BATCH-2", new BigDecimal("10.00"), 4),
+                        new SaleItemRequest("BATCH-2", "Producto BATCH-2", new BigDecimal("10.00"), 4)), null, null)
+        )));
+
+        // Assert
+        assertEquals(List.of(BatchSaleStatus.CREATED, BatchSaleStatus.REJECTED, BatchSaleStatus.CREATED,
+                BatchSaleStatus.REJECTED, BatchSaleStatus.CREATED), statuses(response));
+        assertEquals(3, response.getCreated());
+        assertEquals(2, response.getRejected());
+        assertEquals("Insufficient stock for products: BATCH-1", response.getResults().get(1).getError());
+        assertEquals("Product not found: MISSING", response.getResults().get(3).getError());
+        assertEquals(yesterday, response.getResults().get(0).getSale().getDate());
+        assertEquals(0, stockOf(storeId, "BATCH-1"));
+        assertEquals(2, stockOf(storeId, "BATCH-2"));
+        assertEquals(3, saleRepository.findPageByStoreId(storeId, SaleFilter.none(), null, 100).size());
+
+        List<DailySales> days = salesRollupRepository.findByStoreIdAndDayBetween(storeId,
+                yesterday.toLocalDate(), LocalDate.now());
+        assertEquals(2, days.size());
+        assertEquals(1, days.get(0).getSaleCount());
+        assertEquals(0, new BigDecimal("30.00").compareTo(days.get(0).getPendingAmount()));
+        assertEquals(2, days.get(1).getSaleCount());
+        assertEquals(10, days.get(1).getItemUnits());
+    }
+
+    @Test
+    void execute_RetriedBatch_ReplaysCreatedSalesAndRetriesRejectedOnes() {
+        // Arrange
+        String storeId = "store-batch-retry";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "RETRY-1", 2);
+        CreateSalesBatchRequest batch = new CreateSalesBatchRequest(List.of(
+                saleRequest("RETRY-1", 2, "key-1", null),
+                saleRequest("RETRY-1", 1, "key-2", null),
+                saleRequest("RETRY-1", 1, "key-1", null)));
+        SalesBatchResponse first = createSalesBatchUseCase.execute(batch);
+        saveProduct(storeId, "RETRY-1", 5);
+
+        // Act
+        SalesBatchResponse retry = createSalesBatchUseCase.execute(batch);
+        SaleResponse single = createSaleUseCase.execute(
+                new CreateSaleRequest(null, "Cliente", batch.getSales().get(0).getItems()), "key-1");
+
+        // Assert
+        assertEquals(List.of(BatchSaleStatus.CREATED, BatchSaleStatus.REJECTED, BatchSaleStatus.REJECTED), statuses(first));
+        assertEquals("Idempotency key is repeated in the batch", first.getResults().get(2).getError());
+        assertEquals(List.of(BatchSaleStatus.REPLAYED, BatchSaleStatus.CREATED, BatchSaleStatus.REJECTED), statuses(retry));
+        String saleId = first.getResults().get(0).getSale().getId();
+        assertEquals(saleId, retry.getResults().get(0).getSale().getId());
+        assertEquals(saleId, single.getId());
+        assertEquals(4, stockOf(storeId, "RETRY-1"));
+        assertEquals(2, saleRepository.findPageByStoreId(storeId, SaleFilter.none(), null, 100).size());
+    }
+
+    private void saveProduct(String storeId, String productId, int quantity) {
+        productRepository.save(new Product(ProductId.of(productId), storeId, "Producto " + productId,
+                null, null, null, new BigDecimal("10.00"), quantity));
+    }
+
+    private int stockOf(String storeId, String productId) {
+        return productRepository.reloadAllByIdsAndStoreId(List.of(ProductId.of(productId)), storeId).get(0).getQuantity();
+    }
+
+    private BatchSaleRequest saleRequest(String productId, int quantity, String idempotencyKey, LocalDateTime date) {
+        return new BatchSaleRequest(null, "Cliente", List.of(
+                new SaleItemRequest(productId, "Producto " + productId, new BigDecimal("10.00"), quantity)),
+                idempotencyKey, date);
+    }
+
+    private List<BatchSaleStatus> statuses(SalesBatchResponse response) {
+        return response.getResults().stream()
+                .map(SalesBatchResponse.BatchSaleResult::getStatus)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.excel.service.ExcelProcessingService;
+import com.sicua.domain.sale.repository.SaleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportSalesToExcelUseCaseTest {
+
+    @Mock
+    private ExcelProcessingService excelProcessingService;
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Mock
+    private SessionService sessionService;
+
+    private ExportSalesToExcelUseCase exportSalesToExcelUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        exportSalesToExcelUseCase = new ExportSalesToExcelUseCase(excelProcessingService, saleRepository, sessionService);
+        when(sessionService.getCurrentStoreId()).thenReturn("store-1");
+    }
+
+    @Test
+    void execute_MalformedDateFilters_ThrowIllegalArgumentExceptionWithoutReadingSales() {
+        // Act
+        IllegalArgumentException badDate = assertThrows(IllegalArgumentException.class, () ->
+                exportSalesToExcelUseCase.execute("dateRange", "2024-13-01", null, null, "todas"));
+        IllegalArgumentException badMonth = assertThrows(IllegalArgumentException.class, () ->
+                exportSalesToExcelUseCase.execute("month", null, null, "2024", "todas"));
+
+        // Assert
+        assertTrue(badDate.getMessage().startsWith("Invalid date filter"));
+        assertTrue(badMonth.getMessage().startsWith("Invalid date filter"));
+        verifyNoInteractions(saleRepository, excelProcessingService);
+    }
+}
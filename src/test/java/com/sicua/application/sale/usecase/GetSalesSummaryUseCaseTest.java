@@ -0,0 +1,95 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.application.sale.dto.SalesSummaryResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class GetSalesSummaryUseCaseTest {
+
+    private static final String STORE_ID = "store-sales-summary";
+
+    @Autowired
+    private CreateSaleUseCase createSaleUseCase;
+
+    @Autowired
+    private MarkSaleAsInvoicedUseCase markSaleAsInvoicedUseCase;
+
+    @Autowired
+    private GetSalesSummaryUseCase getSalesSummaryUseCase;
+
+    @Autowired
+    private RebuildSalesRollupUseCase rebuildSalesRollupUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_AfterSalesAndInvoicing_ReturnsIncrementalTotalsMatchingRebuild() {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn(STORE_ID);
+        productRepository.save(new Product(ProductId.of("SUM-1"), STORE_ID, "Polo",
+                null, null, null, new BigDecimal("25.00"), 100));
+        SaleResponse first = createSaleUseCase.execute(saleOf(2));
+        createSaleUseCase.execute(saleOf(1));
+        createSaleUseCase.execute(saleOf(3));
+        markSaleAsInvoicedUseCase.execute(first.getId());
+        LocalDate today = LocalDate.now();
+
+        // Act
+        SalesSummaryResponse summary = getSalesSummaryUseCase.execute(today, today);
+
+        // Assert
+        assertEquals(3, summary.getSaleCount());
+        assertEquals(6, summary.getItemUnits());
+        assertEquals(0, new BigDecimal("150.00").compareTo(summary.getTotalAmount()));
+        assertEquals(0, new BigDecimal("50.00").compareTo(summary.getInvoicedAmount()));
+        assertEquals(0, new BigDecimal("100.00").compareTo(summary.getPendingAmount()));
+        assertEquals(new BigDecimal("50.00"), summary.getAverageTicket());
+        assertEquals(1, summary.getDays().size());
+        assertEquals(today, summary.getDays().get(0).getDay());
+
+        // A rebuild from the sales table gives the same totals
+        rebuildSalesRollupUseCase.execute();
+        SalesSummaryResponse rebuilt = getSalesSummaryUseCase.execute(today, today);
+        assertEquals(summary.getSaleCount(), rebuilt.getSaleCount());
+        assertEquals(summary.getItemUnits(), rebuilt.getItemUnits());
+        assertEquals(0, summary.getTotalAmount().compareTo(rebuilt.getTotalAmount()));
+        assertEquals(0, summary.getInvoicedAmount().compareTo(rebuilt.getInvoicedAmount()));
+        assertEquals(0, summary.getPendingAmount().compareTo(rebuilt.getPendingAmount()));
+    }
+
+    @Test
+    void execute_StartAfterEnd_ThrowsIllegalArgumentException() {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn(STORE_ID);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> getSalesSummaryUseCase.execute(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+
+    private CreateSaleRequest saleOf(int quantity) {
+        SaleItemRequest item = new SaleItemRequest("SUM-1", "Polo", new BigDecimal("25.00"), quantity);
+        return new CreateSaleRequest(null, "Cliente", List.of(item));
+    }
+}
@@ -0,0 +1,96 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.TopProductsResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class GetTopProductsUseCaseTest {
+
+    @Autowired
+    private CreateSaleUseCase createSaleUseCase;
+
+    @Autowired
+    private GetTopProductsUseCase getTopProductsUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_RanksByUnitsOrRevenueWithVelocity() {
+        // Arrange
+        String storeId = "store-top-products";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        saveProduct(storeId, "TOP-CHEAP", "5.00");
+        saveProduct(storeId, "TOP-PRICEY", "100.00");
+        saveProduct(storeId, "TOP-MID", "20.00");
+        createSaleUseCase.execute(sale(item("TOP-CHEAP", "5.00", 6), item("TOP-PRICEY", "100.00", 1)));
+        createSaleUseCase.execute(sale(item("TOP-CHEAP", "5.00", 4), item("TOP-MID", "20.00", 2)));
+        LocalDate today = LocalDate.now();
+
+        // Act
+        TopProductsResponse byUnits = getTopProductsUseCase.execute(today.minusDays(9), today, null, null);
+        TopProductsResponse byRevenue = getTopProductsUseCase.execute(today.minusDays(9), today, "revenue", 2);
+
+        // Assert
+        assertEquals(10, byUnits.getDays());
+        assertEquals(List.of("TOP-CHEAP", "TOP-MID", "TOP-PRICEY"), productIds(byUnits));
+        TopProductsResponse.ProductSalesResponse cheap = byUnits.getProducts().get(0);
+        assertEquals(10, cheap.getUnits());
+        assertEquals(2, cheap.getSaleCount());
+        assertEquals(0, new BigDecimal("50.00").compareTo(cheap.getRevenue()));
+        assertEquals(new BigDecimal("1.00"), cheap.getUnitsPerDay());
+
+        assertEquals("revenue", byRevenue.getRankBy());
+        assertEquals(List.of("TOP-PRICEY", "TOP-CHEAP"), productIds(byRevenue));
+    }
+
+    @Test
+    void execute_InvalidRankingOrLimit_ThrowsIllegalArgumentException() {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn("store-top-products-invalid");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> getTopProductsUseCase.execute(null, null, "margin", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> getTopProductsUseCase.execute(null, null, null, GetTopProductsUseCase.MAX_LIMIT + 1));
+    }
+
+    private void saveProduct(String storeId, String productId, String price) {
+        productRepository.save(new Product(ProductId.of(productId), storeId, "Producto " + productId,
+                null, null, null, new BigDecimal(price), 100));
+    }
+
+    private SaleItemRequest item(String productId, String price, int quantity) {
+        return new SaleItemRequest(productId, "Producto " + productId, new BigDecimal(price), quantity);
+    }
+
+    private CreateSaleRequest sale(SaleItemRequest... items) {
+        return new CreateSaleRequest(null, "Cliente", List.of(items));
+    }
+
+    private List<String> productIds(TopProductsResponse response) {
+        return response.getProducts().stream()
+                .map(TopProductsResponse.ProductSalesResponse::getProductId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,88 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.CreateSaleRequest;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.SaleResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import com.sicua.domain.sale.valueobject.DailySales;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class MarkSaleAsInvoicedUseCaseTest {
+
+    private static final String STORE_ID = "store-invoice-twice";
+
+    @Autowired
+    private MarkSaleAsInvoicedUseCase markSaleAsInvoicedUseCase;
+
+    @Autowired
+    private CreateSaleUseCase createSaleUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @MockitoSpyBean
+    private SaleRepository saleRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_SameSaleInvoicedTwiceAtOnce_MovesItsTotalToInvoicedOnce() {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn(STORE_ID);
+        productRepository.save(new Product(ProductId.of("INV-1"), STORE_ID, "Polo",
+                null, null, null, new BigDecimal("10.00"), 10));
+        SaleResponse created = createSaleUseCase.execute(new CreateSaleRequest(null, "Cliente", List.of(
+                new SaleItemRequest("INV-1", "Polo", new BigDecimal("10.00"), 3))));
+        Sale pending = saleRepository.findPageByStoreId(STORE_ID, SaleFilter.none(), null, 1).get(0);
+        // Both requests read the sale before either of them marks it
+        doAnswer(invocation -> Optional.of(copyOf(pending)))
+                .when(saleRepository).findByIdAndStoreId(any(), eq(STORE_ID));
+
+        // Act
+        SaleResponse invoiced = markSaleAsInvoicedUseCase.execute(created.getId());
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> markSaleAsInvoicedUseCase.execute(created.getId()));
+
+        // Assert
+        assertTrue(invoiced.getInvoiced());
+        assertEquals("Sale is already invoiced", exception.getMessage());
+        LocalDate day = pending.getDate().toLocalDate();
+        DailySales totals = salesRollupRepository.findByStoreIdAndDayBetween(STORE_ID, day, day).get(0);
+        assertEquals(0, new BigDecimal("30.00").compareTo(totals.getInvoicedAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(totals.getPendingAmount()));
+    }
+
+    private Sale copyOf(Sale sale) {
+        Sale copy = new Sale(sale.getId(), sale.getStoreId(), sale.getClientDni(), sale.getClientName(), sale.getItems());
+        copy.setDate(sale.getDate());
+        copy.setCreatedAt(sale.getCreatedAt());
+        return copy;
+    }
+}
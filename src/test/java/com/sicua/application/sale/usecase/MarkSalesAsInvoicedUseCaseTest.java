@@ -0,0 +1,138 @@
+package com.sicua.application.sale.usecase;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.sale.dto.BatchSaleRequest;
+import com.sicua.application.sale.dto.CreateSalesBatchRequest;
+import com.sicua.application.sale.dto.InvoiceSalesRequest;
+import com.sicua.application.sale.dto.InvoiceSalesResponse;
+import com.sicua.application.sale.dto.SaleItemRequest;
+import com.sicua.application.sale.dto.SalesBatchResponse;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.repository.SalesRollupRepository;
+import com.sicua.domain.sale.valueobject.DailySales;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class MarkSalesAsInvoicedUseCaseTest {
+
+    @Autowired
+    private MarkSalesAsInvoicedUseCase markSalesAsInvoicedUseCase;
+
+    @Autowired
+    private CreateSalesBatchUseCase createSalesBatchUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @MockitoBean
+    private SessionService sessionService;
+
+    @Test
+    void execute_ByDays_InvoicesPendingSalesOfTheRangeAndMovesRollupTotals() {
+        // Arrange
+        String storeId = "store-bulk-invoice";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        LocalDate first = LocalDate.now().minusDays(3);
+        createSales(storeId, first, first, first.plusDays(1), first.plusDays(2));
+
+        // Act
+        InvoiceSalesResponse response = markSalesAsInvoicedUseCase.execute(
+                new InvoiceSalesRequest(null, first, first.plusDays(1)));
+        InvoiceSalesResponse again = markSalesAsInvoicedUseCase.execute(
+                new InvoiceSalesRequest(null, first, first.plusDays(1)));
+
+        // Assert
+        assertEquals(3, response.getInvoiced());
+        assertEquals(2, response.getDays());
+        assertEquals(0, new BigDecimal("30.00").compareTo(response.getAmount()));
+        assertEquals(0, again.getInvoiced());
+        assertEquals(3, saleRepository.findPageByStoreId(storeId,
+                SaleFilter.forDays(first, first.plusDays(2), true), null, 100).size());
+
+        List<DailySales> days = salesRollupRepository.findByStoreIdAndDayBetween(storeId, first, first.plusDays(2));
+        assertEquals(0, new BigDecimal("20.00").compareTo(days.get(0).getInvoicedAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(days.get(0).getPendingAmount()));
+        assertEquals(0, new BigDecimal("10.00").compareTo(days.get(1).getInvoicedAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(days.get(2).getInvoicedAmount()));
+        assertEquals(0, new BigDecimal("10.00").compareTo(days.get(2).getPendingAmount()));
+    }
+
+    @Test
+    void execute_ByIds_SkipsUnknownAndAlreadyInvoicedSales() {
+        // Arrange
+        String storeId = "store-bulk-invoice-ids";
+        when(sessionService.getCurrentStoreId()).thenReturn(storeId);
+        LocalDate today = LocalDate.now();
+        List<String> saleIds = createSales(storeId, today, today, today);
+        markSalesAsInvoicedUseCase.execute(new InvoiceSalesRequest(List.of(saleIds.get(0)), null, null));
+
+        // Act
+        InvoiceSalesResponse response = markSalesAsInvoicedUseCase.execute(new InvoiceSalesRequest(
+                List.of(saleIds.get(0), saleIds.get(1), saleIds.get(1), "unknown-sale"), null, null));
+
+        // Assert
+        assertEquals(1, response.getInvoiced());
+        assertEquals(2, response.getSkipped());
+        assertEquals(List.of(saleIds.get(2)), saleRepository.findPageByStoreId(storeId,
+                SaleFilter.forDays(today, today, false), null, 100).stream()
+                .map(sale -> sale.getId().getValue())
+                .collect(Collectors.toList()));
+        DailySales day = salesRollupRepository.findByStoreIdAndDayBetween(storeId, today, today).get(0);
+        assertEquals(0, new BigDecimal("20.00").compareTo(day.getInvoicedAmount()));
+        assertEquals(0, new BigDecimal("10.00").compareTo(day.getPendingAmount()));
+    }
+
+    @Test
+    void execute_WithoutExactlyOneSelection_ThrowsIllegalArgumentException() {
+        // Arrange
+        when(sessionService.getCurrentStoreId()).thenReturn("store-bulk-invoice-invalid");
+        LocalDate today = LocalDate.now();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> markSalesAsInvoicedUseCase.execute(new InvoiceSalesRequest(null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> markSalesAsInvoicedUseCase.execute(new InvoiceSalesRequest(List.of("sale"), today, today)));
+        assertThrows(IllegalArgumentException.class,
+                () -> markSalesAsInvoicedUseCase.execute(new InvoiceSalesRequest(null, today, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> markSalesAsInvoicedUseCase.execute(new InvoiceSalesRequest(null, today, today.minusDays(1))));
+    }
+
+    private List<String> createSales(String storeId, LocalDate... days) {
+        productRepository.save(new Product(ProductId.of("INV-" + storeId), storeId, "Producto",
+                null, null, null, new BigDecimal("10.00"), 100));
+        List<BatchSaleRequest> sales = Arrays.stream(days)
+                .map(day -> new BatchSaleRequest(null, "Cliente", List.of(
+                        new SaleItemRequest("INV-" + storeId, "Producto", new BigDecimal("10.00"), 1)),
+                        null, day.atTime(12, 0)))
+                .collect(Collectors.toList());
+
+        SalesBatchResponse response = createSalesBatchUseCase.execute(new CreateSalesBatchRequest(sales));
+        return response.getResults().stream()
+                .map(result -> result.getSale().getId())
+                .collect(Collectors.toList());
+    }
+}
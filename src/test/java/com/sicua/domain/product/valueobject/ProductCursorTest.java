@@ -0,0 +1,27 @@
+package com.sicua.domain.product.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCursorTest {
+
+    @Test
+    void toToken_RoundTrip_ReturnsSameCursor() {
+        // Arrange
+        ProductCursor cursor = new ProductCursor(ProductSort.NAME, true, "Polo | rayas", "PROD|001");
+
+        // Act
+        ProductCursor decoded = ProductCursor.fromToken(cursor.toToken());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void fromToken_MalformedToken_ThrowsException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.fromToken("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.fromToken("%%%"));
+    }
+}
@@ -0,0 +1,154 @@
+package com.sicua.domain.sale.service;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.entity.SaleItem;
+import com.sicua.domain.sale.valueobject.SaleId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SaleDomainServiceTest {
+
+    private static final String STORE_ID = "store-1";
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private SessionService sessionService;
+
+    private SaleDomainService saleDomainService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        saleDomainService = new SaleDomainService(productRepository, sessionService);
+        when(sessionService.getCurrentStoreId()).thenReturn(STORE_ID);
+    }
+
+    @Test
+    void validateStockAvailability_LoadsAllProductsInOneQuery() {
+        // Arrange
+        Sale sale = saleOf(item("P001", 2), item("P002", 1), item("P001", 3));
+        when(productRepository.findAllByIdsAndStoreId(anyCollection(), eq(STORE_ID)))
+                .thenReturn(List.of(product("P001", 5), product("P002", 1)));
+
+        // Act
+        boolean available = saleDomainService.validateStockAvailability(sale);
+
+        // Assert
+        assertTrue(available);
+        verify(productRepository, times(1)).findAllByIdsAndStoreId(anyCollection(), eq(STORE_ID));
+        verify(productRepository, never()).findByIdAndStoreId(any(), any());
+    }
+
+    @Test
+    void validateStockAvailability_ConfirmsShortfallsAgainstDatabase() {
+        // Arrange
+        Sale sale = saleOf(item("P001", 2), item("P002", 3));
+        when(productRepository.findAllByIdsAndStoreId(anyCollection(), eq(STORE_ID)))
+                .thenReturn(List.of(product("P001", 5), product("P002", 1)));
+        when(productRepository.reloadAllByIdsAndStoreId(List.of(ProductId.of("P002")), STORE_ID))
+                .thenReturn(List.of(product("P002", 3)))
+                .thenReturn(List.of(product("P002", 2)));
+
+        // Act & Assert
+        assertTrue(saleDomainService.validateStockAvailability(sale));
+        assertFalse(saleDomainService.validateStockAvailability(sale));
+        verify(productRepository, times(2)).reloadAllByIdsAndStoreId(List.of(ProductId.of("P002")), STORE_ID);
+    }
+
+    @Test
+    void validateStockAvailability_MissingProduct_ThrowsException() {
+        // Arrange
+        Sale sale = saleOf(item("P001", 1));
+        when(productRepository.findAllByIdsAndStoreId(anyCollection(), eq(STORE_ID))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> saleDomainService.validateStockAvailability(sale));
+    }
+
+    @Test
+    void reduceStockForSale_AggregatesQuantitiesPerProduct() {
+        // Arrange
+        Sale sale = saleOf(item("P001", 2), item("P001", 3), item("P002", 1));
+        when(productRepository.decrementStock(anyMap(), eq(STORE_ID))).thenReturn(List.of());
+
+        // Act
+        saleDomainService.reduceStockForSale(sale);
+
+        // Assert
+        verify(productRepository).decrementStock(
+                eq(Map.of(ProductId.of("P001"), 5, ProductId.of("P002"), 1)), eq(STORE_ID));
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void reduceStockForSale_Shortfall_ThrowsException() {
+        // Arrange
+        Sale sale = saleOf(item("P001", 2), item("P002", 1));
+        when(productRepository.decrementStock(anyMap(), eq(STORE_ID))).thenReturn(List.of(ProductId.of("P002")));
+        when(productRepository.reloadAllByIdsAndStoreId(List.of(ProductId.of("P002")), STORE_ID))
+                .thenReturn(List.of(product("P002", 0)));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> saleDomainService.reduceStockForSale(sale));
+        assertTrue(exception.getMessage().contains("P002"));
+    }
+
+    @Test
+    void reduceStockForSale_ProductDeletedAfterSnapshot_ReportsProductNotFound() {
+        // Arrange
+        Sale sale = saleOf(item("P001", 2), item("P002", 1));
+        when(productRepository.decrementStock(anyMap(), eq(STORE_ID)))
+                .thenReturn(List.of(ProductId.of("P001"), ProductId.of("P002")));
+        when(productRepository.reloadAllByIdsAndStoreId(List.of(ProductId.of("P001"), ProductId.of("P002")), STORE_ID))
+                .thenReturn(List.of(product("P001", 1)));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> saleDomainService.reduceStockForSale(sale));
+        assertEquals("Product not found: P002", exception.getMessage());
+    }
+
+    @Test
+    void validateStockAvailability_ShortfallProductDeleted_ReportsProductNotFound() {
+        // Arrange
+        Sale sale = saleOf(item("P001", 3));
+        when(productRepository.findAllByIdsAndStoreId(anyCollection(), eq(STORE_ID)))
+                .thenReturn(List.of(product("P001", 1)));
+        when(productRepository.reloadAllByIdsAndStoreId(List.of(ProductId.of("P001")), STORE_ID)).thenReturn(List.of());
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> saleDomainService.validateStockAvailability(sale));
+        assertEquals("Product not found: P001", exception.getMessage());
+    }
+
+    private Sale saleOf(SaleItem... items) {
+        return new Sale(SaleId.generate(), STORE_ID, null, null, List.of(items));
+    }
+
+    private SaleItem item(String productId, int quantity) {
+        return new SaleItem(ProductId.of(productId), "Producto " + productId, new BigDecimal("10.00"), quantity);
+    }
+
+    private Product product(String productId, int quantity) {
+        return new Product(ProductId.of(productId), STORE_ID, "Producto " + productId, null, null, null,
+                new BigDecimal("10.00"), quantity);
+    }
+}
@@ -0,0 +1,29 @@
+package com.sicua.domain.sale.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaleCursorTest {
+
+    @Test
+    void toToken_RoundTrip_ReturnsSameCursor() {
+        // Arrange
+        SaleCursor cursor = SaleCursor.of(LocalDateTime.of(2025, 1, 26, 14, 30, 0, 123000000), "123e4567-e89b-12d3-a456-426614174000");
+
+        // Act
+        SaleCursor decoded = SaleCursor.fromToken(cursor.toToken());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void fromToken_MalformedToken_ThrowsException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> SaleCursor.fromToken("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> SaleCursor.fromToken("%%%"));
+    }
+}
@@ -0,0 +1,29 @@
+package com.sicua.domain.sale.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaleFilterTest {
+
+    @Test
+    void forDays_InclusiveDays_BuildsHalfOpenRange() {
+        // Act
+        SaleFilter filter = SaleFilter.forDays(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), true);
+
+        // Assert
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), filter.getFrom());
+        assertEquals(LocalDateTime.of(2024, 2, 1, 0, 0), filter.getTo());
+        assertTrue(filter.getInvoiced());
+    }
+
+    @Test
+    void forDays_EndBeforeStart_ThrowsException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                SaleFilter.forDays(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), null));
+    }
+}
@@ -0,0 +1,60 @@
+package com.sicua.domain.sale.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaleIdTest {
+
+    @Test
+    void generate_ManyIdsInARow_AreVersion7AndSortInCreationOrder() {
+        // Act
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(SaleId.generate().getValue());
+        }
+
+        // Assert - lowercase hex sorts as text the same way uuid columns compare their bytes
+        for (int i = 0; i < ids.size(); i++) {
+            UUID uuid = UUID.fromString(ids.get(i));
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            if (i > 0) {
+                assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0, "IDs out of order at " + i);
+            }
+        }
+    }
+
+    @Test
+    void timeOrderedUuid_ClockGoesBack_KeepsIncreasingFromLastMillisecond() {
+        // Arrange
+        long now = System.currentTimeMillis();
+
+        // Act
+        UUID first = SaleId.timeOrderedUuid(now);
+        UUID afterClockChange = SaleId.timeOrderedUuid(now - 1_000);
+
+        // Assert
+        long firstMillis = first.getMostSignificantBits() >>> 16;
+        assertTrue(firstMillis >= now);
+        assertEquals(firstMillis, afterClockChange.getMostSignificantBits() >>> 16);
+        assertTrue(afterClockChange.toString().compareTo(first.toString()) > 0);
+    }
+
+    @Test
+    void of_LegacyRandomUuid_IsAccepted() {
+        // Arrange
+        String legacyId = UUID.randomUUID().toString();
+
+        // Act
+        SaleId saleId = SaleId.of(legacyId);
+
+        // Assert
+        assertEquals(legacyId, saleId.getValue());
+        assertNotEquals(saleId, SaleId.generate());
+    }
+}
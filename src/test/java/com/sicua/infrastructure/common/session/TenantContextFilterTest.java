@@ -0,0 +1,51 @@
+package com.sicua.infrastructure.common.session;
+
+import com.sicua.application.auth.SessionService;
+import com.sicua.application.auth.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantContextFilterTest {
+
+    private final TenantContextFilter filter = new TenantContextFilter();
+    private final SessionService sessionService = new SessionService();
+
+    @Test
+    void doFilter_AuthenticatedSession_BindsStoreForRequest() throws Exception {
+        // Arrange
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(SessionService.SESSION_STORE_ID, "store-1");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        AtomicReference<String> storeIdInRequest = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> storeIdInRequest.set(sessionService.getCurrentStoreId()));
+
+        // Assert
+        assertEquals("store-1", storeIdInRequest.get());
+        assertNull(TenantContext.getStoreId());
+    }
+
+    @Test
+    void doFilter_NoSession_LeavesContextEmpty() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        AtomicReference<String> storeIdInRequest = new AtomicReference<>("unset");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> storeIdInRequest.set(TenantContext.getStoreId()));
+
+        // Assert
+        assertNull(storeIdInRequest.get());
+        assertNull(request.getSession(false));
+    }
+}
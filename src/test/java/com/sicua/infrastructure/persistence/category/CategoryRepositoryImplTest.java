@@ -0,0 +1,100 @@
+package com.sicua.infrastructure.persistence.category;
+
+import com.sicua.application.cache.MonitoredCache;
+import com.sicua.application.cache.TenantCacheRegistry;
+import com.sicua.domain.category.entity.Category;
+import com.sicua.domain.category.entity.CategoryId;
+import com.sicua.domain.category.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CategoryRepositoryImplTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TenantCacheRegistry tenantCacheRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void findByStoreId_ServesRepeatedReadsFromCacheAndSeesWrites() {
+        // Arrange
+        String storeId = "store-category-cache";
+        String otherStoreId = "store-category-cache-other";
+        categoryRepository.save(new Category(CategoryId.generate(), storeId, "Polos", 1));
+        categoryRepository.save(new Category(CategoryId.generate(), otherStoreId, "Jeans", 1));
+        categoryRepository.findByStoreId(otherStoreId);
+        long hits = categoriesCache().stats().hitCount();
+
+        // Act
+        categoryRepository.findByStoreId(storeId);
+        categoryRepository.findByStoreId(storeId);
+        categoryRepository.findByStoreId(otherStoreId);
+        categoryRepository.save(new Category(CategoryId.generate(), storeId, "Gorras", 2));
+
+        // Assert
+        assertEquals(hits + 2, categoriesCache().stats().hitCount());
+        assertEquals(List.of("Polos", "Gorras"), names(storeId));
+        assertEquals("Gorras", categoryRepository.findByCategoryNumberAndStoreId(2, storeId).orElseThrow().getName());
+        assertTrue(categoryRepository.findByNameAndStoreId("Jeans", storeId).isEmpty());
+        assertEquals(List.of("Jeans"), names(otherStoreId));
+    }
+
+    @Test
+    void findByIdAndStoreId_ReturnsCopiesOfCachedCategories() {
+        // Arrange
+        String storeId = "store-category-cache-copies";
+        CategoryId categoryId = CategoryId.generate();
+        categoryRepository.save(new Category(categoryId, storeId, "Polos", 1));
+
+        // Act
+        categoryRepository.findByIdAndStoreId(categoryId, storeId).orElseThrow().updateCategory("Cambiado", 9);
+
+        // Assert
+        assertEquals("Polos", categoryRepository.findByIdAndStoreId(categoryId, storeId).orElseThrow().getName());
+    }
+
+    @Test
+    void save_RolledBackWrite_IsNeverCached() {
+        // Arrange
+        String storeId = "store-category-cache-rollback";
+        categoryRepository.save(new Category(CategoryId.generate(), storeId, "Polos", 1));
+        categoryRepository.findByStoreId(storeId);
+
+        // Act
+        List<String> namesInTransaction = transactionTemplate.execute(status -> {
+            categoryRepository.save(new Category(CategoryId.generate(), storeId, "Gorras", 2));
+            List<String> names = names(storeId);
+            status.setRollbackOnly();
+            return names;
+        });
+
+        // Assert
+        assertEquals(List.of("Polos", "Gorras"), namesInTransaction);
+        assertEquals(List.of("Polos"), names(storeId));
+    }
+
+    private MonitoredCache categoriesCache() {
+        return tenantCacheRegistry.getCaches().stream()
+                .filter(cache -> cache.getName().equals("categories"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<String> names(String storeId) {
+        return categoryRepository.findByStoreId(storeId).stream()
+                .map(Category::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,155 @@
+package com.sicua.infrastructure.persistence.product;
+
+import com.sicua.application.cache.MonitoredCache;
+import com.sicua.application.cache.TenantCacheRegistry;
+import com.sicua.domain.product.entity.Product;
+import com.sicua.domain.product.repository.ProductRepository;
+import com.sicua.domain.product.valueobject.ProductId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProductRepositoryImplTest {
+
+    private static final String STORE_ID = "store-product-names";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TenantCacheRegistry tenantCacheRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void existsByNameAndStoreId_IgnoresCaseAndExcludedProduct() {
+        // Arrange
+        productRepository.save(new Product(ProductId.of("NAME-1"), STORE_ID, "Polo Básico",
+                null, null, null, new BigDecimal("10.00"), 1));
+        productRepository.save(new Product(ProductId.of("NAME-2"), "store-product-names-other", "Jean",
+                null, null, null, new BigDecimal("10.00"), 1));
+
+        // Act & Assert
+        assertTrue(productRepository.existsByNameAndStoreId("polo básico", STORE_ID, null));
+        assertTrue(productRepository.existsByNameAndStoreId("POLO BÁSICO", STORE_ID, ProductId.of("OTHER")));
+        assertFalse(productRepository.existsByNameAndStoreId("Polo Básico", STORE_ID, ProductId.of("NAME-1")));
+        assertFalse(productRepository.existsByNameAndStoreId("Polo", STORE_ID, null));
+        assertFalse(productRepository.existsByNameAndStoreId("Jean", STORE_ID, null));
+    }
+
+    @Test
+    void findByIdAndStoreId_ServesSnapshotsThatFollowCommittedWrites() {
+        // Arrange
+        ProductId productId = ProductId.of("SNAP-1");
+        productRepository.save(new Product(productId, STORE_ID, "Gorra", null, null, null, new BigDecimal("10.00"), 10));
+        productRepository.findByIdAndStoreId(productId, STORE_ID);
+        long hits = productsCache().stats().hitCount();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.decrementStock(Map.of(productId, 3), STORE_ID));
+        int afterSale = quantity(productId);
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.decrementStock(Map.of(productId, 5), STORE_ID);
+            status.setRollbackOnly();
+        });
+        int afterRollback = quantity(productId);
+        Product product = productRepository.findByIdAndStoreId(productId, STORE_ID).orElseThrow();
+        product.updateProduct("Gorra roja", null, null, null, new BigDecimal("12.00"), 20);
+        productRepository.save(product);
+
+        // Assert
+        assertEquals(7, afterSale);
+        assertEquals(7, afterRollback);
+        assertTrue(productsCache().stats().hitCount() >= hits + 3);
+        Product updated = productRepository.findByIdAndStoreId(productId, STORE_ID).orElseThrow();
+        assertEquals("Gorra roja", updated.getName());
+        assertEquals(20, updated.getQuantity());
+        assertEquals(List.of(20), productRepository.reloadAllByIdsAndStoreId(List.of(productId), STORE_ID).stream()
+                .map(Product::getQuantity)
+                .toList());
+    }
+
+    @Test
+    void findAllByIdsAndStoreId_ReadsOwnUncommittedWritesWithoutCachingThem() {
+        // Arrange
+        ProductId productId = ProductId.of("SNAP-2");
+        productRepository.save(new Product(productId, STORE_ID, "Jean", null, null, null, new BigDecimal("10.00"), 4));
+        productRepository.findByIdAndStoreId(productId, STORE_ID);
+
+        // Act
+        Integer inTransaction = transactionTemplate.execute(status -> {
+            productRepository.decrementStock(Map.of(productId, 1), STORE_ID);
+            Integer quantity = productRepository.findAllByIdsAndStoreId(List.of(productId), STORE_ID).get(0).getQuantity();
+            status.setRollbackOnly();
+            return quantity;
+        });
+
+        // Assert
+        assertEquals(3, inTransaction);
+        assertEquals(4, quantity(productId));
+    }
+
+    @Test
+    void lockAllByIdsAndStoreId_LocksRowsInTheSameOrderAsDecrementStock() {
+        // Arrange - IDs that differ in case and punctuation, which database collations may sort differently
+        List<ProductId> productIds = List.of(ProductId.of("lock-b"), ProductId.of("LOCK-A"), ProductId.of("_lock-c"));
+        productIds.forEach(productId -> productRepository.save(new Product(productId, STORE_ID, "Lock " + productId.getValue(),
+                null, null, null, new BigDecimal("10.00"), 5)));
+        Map<String, List<String>> boundIds = new HashMap<>();
+        JdbcTemplate recordingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                // The product ID is bound first by the lock and third by the stock decrement
+                int idIndex = sql.contains("quantity - ?") ? 2 : 0;
+                boundIds.put(sql, batchArgs.stream().map(args -> (String) args[idIndex]).toList());
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        ProductRepositoryImpl repository = new ProductRepositoryImpl(jpaRepository, recordingJdbcTemplate,
+                tenantCacheRegistry, 60, 100);
+
+        // Act
+        List<Product> locked = transactionTemplate.execute(status -> {
+            List<Product> products = repository.lockAllByIdsAndStoreId(
+                    List.of(productIds.get(0), productIds.get(1), productIds.get(2), ProductId.of("LOCK-MISSING")), STORE_ID);
+            repository.decrementStock(Map.of(productIds.get(0), 1, productIds.get(1), 1, productIds.get(2), 1), STORE_ID);
+            return products;
+        });
+
+        // Assert
+        assertEquals(3, locked.size());
+        assertEquals(2, boundIds.size());
+        List<String> expected = List.of("LOCK-A", "_lock-c", "lock-b");
+        boundIds.values().forEach(ids -> assertEquals(expected, ids.stream().filter(id -> !id.equals("LOCK-MISSING")).toList()));
+        assertEquals(4, quantity(productIds.get(0)));
+    }
+
+    private int quantity(ProductId productId) {
+        return productRepository.findByIdAndStoreId(productId, STORE_ID).orElseThrow().getQuantity();
+    }
+
+    private MonitoredCache productsCache() {
+        return tenantCacheRegistry.getCaches().stream()
+                .filter(cache -> cache.getName().equals("products"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,196 @@
+package com.sicua.infrastructure.persistence.sale;
+
+import com.sicua.domain.product.valueobject.ProductId;
+import com.sicua.domain.sale.entity.Sale;
+import com.sicua.domain.sale.entity.SaleItem;
+import com.sicua.domain.sale.repository.SaleRepository;
+import com.sicua.domain.sale.valueobject.DailyAmount;
+import com.sicua.domain.sale.valueobject.SaleFilter;
+import com.sicua.domain.sale.valueobject.SaleId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SaleRepositoryImplTest {
+
+    private static final String STORE_ID = "store-sale-listing";
+    private static final int SALE_COUNT = 1_000;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SaleJpaRepository jpaRepository;
+
+    @Autowired
+    private SaleItemJpaRepository itemJpaRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales WHERE store_id = ?", Integer.class, STORE_ID) == 0) {
+            insertSales();
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void findAllByStoreIdOrderByCreatedAtDesc_ThousandSales_UsesConstantNumberOfStatements() {
+        // Act
+        List<Sale> sales = saleRepository.findAllByStoreIdOrderByCreatedAtDesc(STORE_ID);
+
+        // Assert - one query for the sales and one for all of their items
+        assertEquals(SALE_COUNT, sales.size());
+        assertTrue(sales.stream().allMatch(sale -> sale.getItems().size() == 2));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void findPageByStoreId_ThousandSales_UsesConstantNumberOfStatements() {
+        // Act
+        List<Sale> sales = saleRepository.findPageByStoreId(STORE_ID, SaleFilter.none(), null, SALE_COUNT);
+
+        // Assert
+        assertEquals(SALE_COUNT, sales.size());
+        assertEquals(new BigDecimal("30.00"), sales.get(0).getTotal());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void save_SaleWithFortyItems_BatchesItemInserts() {
+        // Arrange
+        List<SaleItem> items = IntStream.range(0, 40)
+                .mapToObj(i -> new SaleItem(ProductId.of("P-" + i), "Producto " + i, new BigDecimal("10.00"), 1))
+                .collect(Collectors.toList());
+        Sale sale = new Sale(SaleId.generate(), "store-sale-batching", null, "Cliente", items);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> saleRepository.save(sale));
+
+        // Assert - two lookups, one sequence call and one statement per table instead of one INSERT and UPDATE per item
+        assertEquals(41, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 5,
+                "Expected at most 5 statements but got " + statistics.getPrepareStatementCount());
+        assertEquals(40, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sale_items WHERE sale_id = ?",
+                Integer.class, UUID.fromString(sale.getId().getValue())));
+    }
+
+    @Test
+    void findByIdAndStoreId_IdsInNativeUuidColumn_FindsSaleAndIgnoresMalformedIds() {
+        // Arrange
+        Sale first = saleRepository.findPageByStoreId(STORE_ID, SaleFilter.none(), null, 1).get(0);
+
+        // Act
+        Optional<Sale> found = transactionTemplate.execute(status ->
+                saleRepository.findByIdAndStoreId(first.getId(), STORE_ID));
+        Optional<Sale> malformed = transactionTemplate.execute(status ->
+                saleRepository.findByIdAndStoreId(SaleId.of("not-a-uuid"), STORE_ID));
+
+        // Assert
+        assertEquals(first.getId(), found.orElseThrow().getId());
+        assertEquals(2, found.get().getItems().size());
+        assertTrue(malformed.isEmpty());
+        assertEquals("uuid", jdbcTemplate.queryForObject("SELECT data_type FROM information_schema.columns " +
+                "WHERE table_name = 'sale_items' AND column_name = 'sale_id'", String.class));
+    }
+
+    @Test
+    void markAsInvoiced_RangeWithInvoicedSale_MarksAndCountsPendingSalesInOneStatement() {
+        // Arrange
+        String storeId = "store-invoice-range";
+        LocalDateTime day = LocalDateTime.of(2025, 3, 1, 10, 0);
+        Sale alreadyInvoiced = saleOn(storeId, day);
+        saleRepository.insertAll(List.of(alreadyInvoiced, saleOn(storeId, day.plusHours(1)),
+                saleOn(storeId, day.plusHours(2)), saleOn(storeId, day.plusDays(1))));
+        saleRepository.markAsInvoiced(storeId, List.of(alreadyInvoiced.getId()));
+        List<String> statements = new ArrayList<>();
+        JdbcTemplate countingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+                statements.add(sql);
+                return super.query(sql, rowMapper, args);
+            }
+        };
+        SaleRepositoryImpl invoicingRepository = new SaleRepositoryImpl(jpaRepository, itemJpaRepository, countingJdbcTemplate);
+        SaleFilter range = SaleFilter.forDays(day.toLocalDate(), day.toLocalDate().plusDays(1), false);
+
+        // Act
+        List<DailyAmount> amounts = invoicingRepository.markAsInvoiced(storeId, range);
+        List<DailyAmount> again = invoicingRepository.markAsInvoiced(storeId, range);
+
+        // Assert
+        assertEquals(2, statements.size());
+        assertEquals(2, amounts.size());
+        assertEquals(day.toLocalDate(), amounts.get(0).getDay());
+        assertEquals(2, amounts.get(0).getSaleCount());
+        assertEquals(0, new BigDecimal("60.00").compareTo(amounts.get(0).getAmount()));
+        assertEquals(1, amounts.get(1).getSaleCount());
+        assertTrue(again.isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales WHERE store_id = ? AND invoiced = false",
+                Integer.class, storeId));
+    }
+
+    private Sale saleOn(String storeId, LocalDateTime date) {
+        Sale sale = new Sale(SaleId.generate(), storeId, null, "Cliente",
+                List.of(new SaleItem(ProductId.of("P-1"), "Polo", new BigDecimal("30.00"), 1)));
+        sale.setDate(date);
+        return sale;
+    }
+
+    private void insertSales() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Object[]> sales = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 0; i < SALE_COUNT; i++) {
+            UUID saleId = UUID.randomUUID();
+            Timestamp date = Timestamp.valueOf(start.plusMinutes(i));
+            sales.add(new Object[]{saleId, STORE_ID, "Cliente " + i, date, new BigDecimal("30.00"), false, date});
+            items.add(new Object[]{saleId, "P-1", "Polo", new BigDecimal("10.00"), 1, new BigDecimal("10.00")});
+            items.add(new Object[]{saleId, "P-2", "Jean", new BigDecimal("20.00"), 1, new BigDecimal("20.00")});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO sales (id, store_id, client_name, date, total, invoiced, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", sales);
+        jdbcTemplate.batchUpdate("INSERT INTO sale_items (id, sale_id, product_id, name, price, quantity, subtotal) " +
+                "VALUES (nextval('sale_items_id_seq'), ?, ?, ?, ?, ?, ?)", items);
+    }
+}